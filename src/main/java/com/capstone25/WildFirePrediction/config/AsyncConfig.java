@@ -1,6 +1,9 @@
 package com.capstone25.WildFirePrediction.config;
 
+import com.capstone25.WildFirePrediction.ingest.PrioritizedTask;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -10,17 +13,37 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync    // 비동기 작업 활성화
 public class AsyncConfig {
 
-    // AI 예측 비동기 작업 처리기 설정
+    // AI 예측 비동기 작업 처리기 설정 (우선순위 큐: 화재 종료 > 신규 발화 > 갱신 > 대용량 갱신)
+    // PriorityBlockingQueue는 용량 제한이 없으므로 corePoolSize만큼만 스레드 사용
+    // 대기 작업 수는 AIPredictionIngestScheduler가 화재 수 기준으로 제한 (max-dispatched-fires)
     @Bean(name = "aiPredictionExecutor")
     public Executor aiPredictionExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);    // 동시에 처리하는 최소 스레드 수
-        executor.setMaxPoolSize(10);    // 동시에 처리하는 최대 스레드 수
-        executor.setQueueCapacity(50);  // 큐의 최대 용량
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+            @Override
+            protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+                return new PriorityBlockingQueue<>(queueCapacity, PrioritizedTask.ORDER);
+            }
+        };
+        executor.setCorePoolSize(5);    // 동시에 처리하는 스레드 수
+        executor.setMaxPoolSize(5);     // 무제한 큐이므로 core와 동일
+        executor.setQueueCapacity(50);  // 우선순위 큐의 초기 용량
         executor.setThreadNamePrefix("ai-prediction-async-");   // 스레드 이름 접두사
         executor.setWaitForTasksToCompleteOnShutdown(true);     // 종료 시 작업 완료 대기
         executor.setAwaitTerminationSeconds(60);    // 최대 대기 시간
         executor.initialize();
         return executor;
     }
+
+    // SSE 전송 처리기 (구독자별 전송 큐를 비우는 writer)
+    // 구독자당 동시에 하나의 작업만 등록되므로 대기 작업 수는 구독자 수 이하
+    @Bean(name = "sseWriterExecutor")
+    public Executor sseWriterExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setThreadNamePrefix("sse-writer-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);   // 종료 시 남은 전송은 버림 (클라이언트가 재연결 후 재조회)
+        executor.initialize();
+        return executor;
+    }
 }
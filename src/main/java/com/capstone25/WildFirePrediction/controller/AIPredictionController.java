@@ -2,16 +2,37 @@ package com.capstone25.WildFirePrediction.controller;
 
 import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
 import com.capstone25.WildFirePrediction.dto.response.AIPredictionResponse;
+import com.capstone25.WildFirePrediction.dto.response.IngestStatsResponse;
+import com.capstone25.WildFirePrediction.dto.response.PredictionStorageStatsResponse;
+import com.capstone25.WildFirePrediction.global.ApiResponse;
+import com.capstone25.WildFirePrediction.global.code.status.ErrorStatus;
+import com.capstone25.WildFirePrediction.global.exception.handler.ExceptionHandler;
+import com.capstone25.WildFirePrediction.ingest.AIPredictionIngestScheduler;
+import com.capstone25.WildFirePrediction.ingest.AIPredictionIngestScheduler.SubmitResult;
+import com.capstone25.WildFirePrediction.ingest.AIPredictionJournal;
 import com.capstone25.WildFirePrediction.service.AIPredictionService;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -20,12 +41,21 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AIPredictionController {
 
+    private static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final AIPredictionIngestScheduler ingestScheduler;
+    private final AIPredictionJournal journal;
+    private final Validator validator;
     private final AIPredictionService aiPredictionService;
 
+    // 관리자용 조회 엔드포인트 토큰 (비어 있으면 관리자용 엔드포인트 비활성)
+    @Value("${ai-prediction.admin-token:}")
+    private String adminToken;
+
     // AI 예측 데이터 수신 엔드포인트
     @PostMapping("")
     @Operation(summary = "AI 산불 확산 예측 데이터 수신",
-            description = "AI 서버용 엔드포인트입니다. 스웨거에서 사용 금지")
+            description = "AI 서버용 엔드포인트입니다. 스웨거에서 사용 금지 (Content-Encoding: gzip 요청 본문 지원)")
     public ResponseEntity<AIPredictionResponse> receivePrediction(
             @Valid @RequestBody FirePredictionRequestDto requestDto,
             BindingResult bindingResult) {
@@ -43,13 +73,101 @@ public class AIPredictionController {
             return ResponseEntity.ok(AIPredictionResponse.success());
         }
 
-        // 2. 비동기 처리 호출
-        aiPredictionService.processAIPrediction(requestDto);
+        // 2. 응답 전에 저널에 기록 (재시작 시 재처리)
+        Long journalSeq = journal.append(requestDto);
+
+        // 3. 화재별 처리 큐에 등록 (비동기 처리)
+        SubmitResult result = ingestScheduler.submit(requestDto, journalSeq);
+        if (result == SubmitResult.REJECTED) {
+            journal.ack(journalSeq);
+
+            // 처리 큐 포화: AI 서버가 Retry-After 이후 재전송하도록 429 반환
+            long retryAfterSeconds = ingestScheduler.getRetryAfterSeconds();
+            log.warn("AI 예측 데이터 처리 지연으로 거절 - fireId: {}, Retry-After: {}s",
+                    requestDto.getFireId(), retryAfterSeconds);
 
-        // 3. 즉시 응답 반환
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(AIPredictionResponse.error("Prediction queue is full, retry later"));
+        }
+
+        // 4. 즉시 응답 반환
         log.info("AI 예측 데이터 수신 완료 - fireId: {} (비동기 처리 시작)",
                 requestDto.getFireId());
 
         return ResponseEntity.ok(AIPredictionResponse.success());
     }
+
+    // AI 예측 데이터 일괄 수신 엔드포인트 (여러 화재, event_type 0/1 혼합 가능)
+    @PostMapping("/batch")
+    @Operation(summary = "AI 산불 확산 예측 데이터 일괄 수신",
+            description = "AI 서버용 엔드포인트입니다. FirePredictionRequestDto 배열을 한 번에 받아 "
+                    + "한 트랜잭션으로 저장하고 SSE는 fire_batch 이벤트 1건으로 발송합니다. 스웨거에서 사용 금지")
+    public ResponseEntity<AIPredictionResponse> receivePredictionBatch(
+            @RequestBody List<FirePredictionRequestDto> requestDtos) {
+
+        log.info("AI 예측 데이터 일괄 수신 - {}건", requestDtos.size());
+
+        // 1. 항목별 Validation (검증 실패 항목만 제외, 단건 수신과 동일하게 재시도 유도 안 함)
+        List<FirePredictionRequestDto> validDtos = new ArrayList<>(requestDtos.size());
+        for (FirePredictionRequestDto requestDto : requestDtos) {
+            Set<ConstraintViolation<FirePredictionRequestDto>> violations = validator.validate(requestDto);
+            if (violations.isEmpty()) {
+                validDtos.add(requestDto);
+            } else {
+                log.error("요청 데이터 검증 실패 - fireId: {}, error: {}",
+                        requestDto.getFireId(), violations.iterator().next().getMessage());
+            }
+        }
+        if (validDtos.isEmpty()) {
+            return ResponseEntity.ok(AIPredictionResponse.success());
+        }
+
+        // 2. 응답 전에 저널에 기록 (fsync 1회)
+        List<Long> journalSeqs = journal.appendAll(validDtos);
+
+        // 3. 처리 큐에 일괄 등록 (전체 수락 또는 전체 거절)
+        if (ingestScheduler.submitBatch(validDtos, journalSeqs) == SubmitResult.REJECTED) {
+            journalSeqs.forEach(journal::ack);
+
+            long retryAfterSeconds = ingestScheduler.getRetryAfterSeconds();
+            log.warn("AI 예측 데이터 일괄 수신 거절 - {}건, Retry-After: {}s", validDtos.size(), retryAfterSeconds);
+
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(AIPredictionResponse.error("Prediction queue is full, retry later"));
+        }
+
+        log.info("AI 예측 데이터 일괄 수신 완료 - {}건 (비동기 처리 시작)", validDtos.size());
+        return ResponseEntity.ok(AIPredictionResponse.success());
+    }
+
+    // AI 예측 처리 큐 현황 조회
+    @GetMapping("/stats")
+    @Operation(summary = "AI 예측 처리 큐 현황 조회",
+            description = "대기 중인 payload 수, 최신 payload로 대체되어 폐기된 수 등 모니터링용 지표를 반환합니다.")
+    public ApiResponse<IngestStatsResponse> getIngestStats() {
+        return ApiResponse.onSuccess(ingestScheduler.getStats());
+    }
+
+    // 예측 셀 저장 방식 비교 지표 조회
+    @GetMapping("/storage-stats")
+    @Operation(summary = "예측 셀 저장 방식 비교 (관리자용)",
+            description = "행 단위(ai_predicted_cell)와 압축(ai_prediction_timestep_blob) 저장의 행 수, 테이블 크기, "
+                    + "최근 진행 중 화재 sampleFires건의 조회 시간. X-Admin-Token 헤더 필요")
+    public ApiResponse<PredictionStorageStatsResponse> getStorageStats(
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String adminToken,
+            @RequestParam(defaultValue = "10") int sampleFires) {
+        checkAdminToken(adminToken);
+        return ApiResponse.onSuccess(aiPredictionService.getStorageStats(sampleFires));
+    }
+
+    // 관리자 토큰 확인 (토큰이 설정되지 않았으면 항상 거부)
+    private void checkAdminToken(String adminToken) {
+        if (this.adminToken == null || this.adminToken.isBlank() || adminToken == null
+                || !MessageDigest.isEqual(this.adminToken.getBytes(StandardCharsets.UTF_8),
+                        adminToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new ExceptionHandler(ErrorStatus._FORBIDDEN);
+        }
+    }
 }
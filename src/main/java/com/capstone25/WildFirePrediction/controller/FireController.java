@@ -1,19 +1,46 @@
 package com.capstone25.WildFirePrediction.controller;
 
+import com.capstone25.WildFirePrediction.dto.BurnArrivalRaster;
 import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.response.BurnArrivalResponse;
+import com.capstone25.WildFirePrediction.dto.response.FireFrontResponse;
+import com.capstone25.WildFirePrediction.dto.response.FireOutboxStatsResponse;
+import com.capstone25.WildFirePrediction.dto.response.SseStatsResponse;
 import com.capstone25.WildFirePrediction.global.ApiResponse;
+import com.capstone25.WildFirePrediction.global.code.status.ErrorStatus;
+import com.capstone25.WildFirePrediction.global.exception.handler.ExceptionHandler;
+import com.capstone25.WildFirePrediction.ingest.FirePredictionArchive;
 import com.capstone25.WildFirePrediction.service.AIPredictionService;
+import com.capstone25.WildFirePrediction.service.ActiveFireSnapshotService;
+import com.capstone25.WildFirePrediction.service.ActiveFireSnapshotService.ActiveFireSnapshot;
+import com.capstone25.WildFirePrediction.service.BurnArrivalRasterRegistry;
+import com.capstone25.WildFirePrediction.sse.FireEventOutboxRelay;
+import com.capstone25.WildFirePrediction.sse.FireReactiveEventStream;
 import com.capstone25.WildFirePrediction.sse.FireSseEmitterRepository;
+import com.capstone25.WildFirePrediction.sse.SseViewport;
 import io.swagger.v3.oas.annotations.Operation;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -22,41 +49,172 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class FireController {
 
     private final AIPredictionService aiPredictionService;
+    private final ActiveFireSnapshotService activeFireSnapshotService;
+    private final BurnArrivalRasterRegistry burnArrivalRasterRegistry;
     private final FireSseEmitterRepository emitterRepository;
+    private final FireReactiveEventStream reactiveEventStream;
+    private final FirePredictionArchive predictionArchive;
+    private final FireEventOutboxRelay outboxRelay;
 
     private static final long DEFAULT_TIMEOUT = 60L * 60L * 1000L; // 1시간
 
     @GetMapping("/active")
     @Operation(summary = "진행 중 화재 예측 조회",
-            description = "지도 초기 렌더링용. AI Request JSON 형식 그대로 반환")
-    public ApiResponse<List<FirePredictionRequestDto>> getActiveFires() {
+            description = "지도 초기 렌더링용. AI Request JSON 형식 그대로 반환 "
+                    + "(ApiResponse<List<FirePredictionRequestDto>>, ETag/If-None-Match 지원)")
+    public ResponseEntity<?> getActiveFires(WebRequest webRequest) {
 
-        log.info("진행 중 화재 예측 조회 요청");
+        // 메모리 스냅샷에서 응답 (DB 조회 없음)
+        ActiveFireSnapshot snapshot = activeFireSnapshotService.getSnapshot();
+        if (snapshot != null) {
+            // 클라이언트가 가진 버전과 같으면 304
+            if (webRequest.checkNotModified(snapshot.etag())) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(snapshot.body());
+        }
+
+        // 기동 직후 스냅샷 생성 전에는 DB에서 조회
+        log.info("진행 중 화재 예측 조회 요청 (스냅샷 없음, DB 조회)");
 
         List<FirePredictionRequestDto> activeFires = aiPredictionService.getActiveFirePredictionsAsRequestDto();
 
         log.info("진행 중 화재 예측 조회 완료 - 개수: {}", activeFires.size());
 
-        return ApiResponse.onSuccess(activeFires);
+        return ResponseEntity.ok(ApiResponse.onSuccess(activeFires));
+    }
+
+    @GetMapping("/active/arrival")
+    @Operation(summary = "진행 중 화재 도달 시각 래스터 조회",
+            description = "timestep 1~5를 격자 셀당 1개(가장 이른 timestep, 최대 확률)로 합친 형식")
+    public ApiResponse<List<BurnArrivalResponse>> getActiveFireArrivals() {
+
+        // 기동 직후 래스터 초기화 전에는 DB에서 조회해 생성
+        Collection<BurnArrivalRaster> rasters = burnArrivalRasterRegistry.isInitialized()
+                ? burnArrivalRasterRegistry.getAll()
+                : aiPredictionService.getActiveFirePredictionsAsRequestDto().stream()
+                        .map(BurnArrivalRaster::from)
+                        .collect(Collectors.toList());
+
+        return ApiResponse.onSuccess(rasters.stream()
+                .map(BurnArrivalResponse::from)
+                .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/active/fronts")
+    @Operation(summary = "진행 중 화재 화선 폴리곤 조회",
+            description = "timestep x 확률 구간(LOW/MEDIUM/HIGH)별로 예측 셀을 합친 GeoJSON MultiPolygon")
+    public ApiResponse<List<FireFrontResponse>> getActiveFireFronts() {
+        return ApiResponse.onSuccess(aiPredictionService.getActiveFireFronts());
+    }
+
+    @GetMapping("/fronts/contains")
+    @Operation(summary = "좌표 포함 화선 폴리곤 조회",
+            description = "해당 좌표를 포함하는 진행 중 화재의 timestep x 확률 구간 폴리곤")
+    public ApiResponse<List<FireFrontResponse>> getFireFrontsContaining(@RequestParam double lat,
+                                                                         @RequestParam double lon) {
+        return ApiResponse.onSuccess(aiPredictionService.findFireFrontsContaining(lat, lon));
+    }
+
+    @GetMapping("/{fireId}/archive")
+    @Operation(summary = "화재 예측 이력 조회",
+            description = "반영된 예측/종료 payload를 시간순 NDJSON(한 줄 = AI Request JSON)으로 스트리밍. "
+                    + "Accept-Encoding: gzip이면 압축된 그대로 전송")
+    public ResponseEntity<StreamingResponseBody> getFireArchive(
+            @PathVariable String fireId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        if (!predictionArchive.exists(fireId)) {
+            throw new ExceptionHandler(ErrorStatus.FIRE_ARCHIVE_NOT_FOUND);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // 보관 파일이 gzip이므로 지원하는 클라이언트에는 재압축 없이 그대로 전송
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(out -> predictionArchive.copyCompressed(fireId, out));
+        }
+        return response.body(out -> predictionArchive.copyDecompressed(fireId, out));
+    }
+
+    @GetMapping("/sse-stats")
+    @Operation(summary = "SSE 전송 현황 조회",
+            description = "구독자 수, 구독자 전송 큐 길이, 큐 초과로 버린 이벤트 수 등 모니터링용 지표")
+    public ApiResponse<SseStatsResponse> getSseStats() {
+        return ApiResponse.onSuccess(emitterRepository.getStats());
+    }
+
+    @GetMapping("/outbox-stats")
+    @Operation(summary = "화재 이벤트 outbox 발행 현황 조회",
+            description = "미발행 이벤트 수, relay 지연(가장 오래된 미발행 이벤트 경과 시간), 발행/실패 수 등 모니터링용 지표")
+    public ApiResponse<FireOutboxStatsResponse> getOutboxStats() {
+        return ApiResponse.onSuccess(outboxRelay.getStats());
     }
 
     @GetMapping(value = "/sse-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @Operation(summary = "산불 예측 실시간 SSE 스트림",
-            description = "AI에서 온 예측/종료 이벤트를 그대로 push")
-    public SseEmitter subscribeFires() {
+            description = "AI에서 온 예측/종료 이벤트를 그대로 push. "
+                    + "재연결 시 Last-Event-ID(헤더 또는 lastEventId 파라미터) 이후 이벤트만 재전송. "
+                    + "minLat/maxLat/minLon/maxLon 지정 시 해당 영역과 겹치는 화재만 전송. "
+                    + "delta=true면 갱신 예측을 직전 버전 대비 변경 셀(fire_delta)로 전송")
+    public SseEmitter subscribeFires(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+            @RequestParam(required = false) Double minLat,
+            @RequestParam(required = false) Double maxLat,
+            @RequestParam(required = false) Double minLon,
+            @RequestParam(required = false) Double maxLon,
+            @RequestParam(defaultValue = "false") boolean delta) {
 
+        SseViewport viewport = toViewport(minLat, maxLat, minLon, maxLon);
         String id = UUID.randomUUID().toString();
-        log.info("SSE 구독 시작 - id: {}", id);
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        log.info("SSE 구독 시작 - id: {}, lastEventId: {}, viewport: {}, delta: {}", id, lastEventId, viewport, delta);
 
-        SseEmitter emitter = emitterRepository.add(id, DEFAULT_TIMEOUT);
+        // 연결 확인 이벤트(connect), 구독 id(subscription), 놓친 이벤트는 저장소에서 큐에 등록
+        return emitterRepository.add(id, DEFAULT_TIMEOUT, lastEventId, viewport, delta);
+    }
+
+    @PutMapping("/sse-stream/{subscriptionId}/viewport")
+    @Operation(summary = "SSE 구독 영역 변경",
+            description = "지도 이동 시 호출. 영역 파라미터를 모두 생략하면 전체 화재 수신으로 변경")
+    public ApiResponse<Void> updateSseViewport(@PathVariable String subscriptionId,
+                                               @RequestParam(required = false) Double minLat,
+                                               @RequestParam(required = false) Double maxLat,
+                                               @RequestParam(required = false) Double minLon,
+                                               @RequestParam(required = false) Double maxLon) {
 
-        // 연결 확인용 더미 이벤트 전송
-        try {
-            emitter.send(SseEmitter.event().name("connect").data("SSE connected"));
-        } catch (Exception e) {
-            log.warn("SSE 연결 확인 이벤트 전송 실패 - id: {}, error: {}", id, e.getMessage());
+        SseViewport viewport = toViewport(minLat, maxLat, minLon, maxLon);
+        if (!emitterRepository.updateViewport(subscriptionId, viewport)) {
+            throw new ExceptionHandler(ErrorStatus.SSE_SUBSCRIPTION_NOT_FOUND);
         }
+        return ApiResponse.onSuccess(null);
+    }
 
-        return emitter;
+    @GetMapping(value = "/sse-reactive", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "산불 예측 실시간 SSE 스트림 (reactive)",
+            description = "/fires/sse-stream과 같은 이벤트를 공유 sink에서 push (연결당 emitter/타임아웃 없음)")
+    public Flux<ServerSentEvent<String>> subscribeFiresReactive() {
+        log.info("Reactive SSE 구독 시작");
+        return reactiveEventStream.subscribe();
+    }
+
+    // 영역 파라미터 -> 구독 영역 (모두 없으면 null = 전체 수신, 일부만 있거나 범위가 잘못되면 400)
+    private SseViewport toViewport(Double minLat, Double maxLat, Double minLon, Double maxLon) {
+        if (minLat == null && maxLat == null && minLon == null && maxLon == null) {
+            return null;
+        }
+        if (minLat == null || maxLat == null || minLon == null || maxLon == null
+                || !SseViewport.isValid(minLat, maxLat, minLon, maxLon)) {
+            throw new ExceptionHandler(ErrorStatus.SSE_VIEWPORT_INVALID);
+        }
+        return new SseViewport(minLat, maxLat, minLon, maxLon);
     }
 }
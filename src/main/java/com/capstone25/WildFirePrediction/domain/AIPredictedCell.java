@@ -1,6 +1,7 @@
 package com.capstone25.WildFirePrediction.domain;
 
 import com.capstone25.WildFirePrediction.domain.base.BaseEntity;
+import com.capstone25.WildFirePrediction.util.GridKey;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -27,7 +28,8 @@ import org.locationtech.jts.geom.Point;
 @Table(name = "ai_predicted_cell",
     indexes = {
         @Index(name = "idx_fire_id", columnList = "fire_id"),
-        @Index(name = "idx_lat_lon", columnList = "latitude, longitude")
+        @Index(name = "idx_lat_lon", columnList = "latitude, longitude"),
+        @Index(name = "idx_grid_key", columnList = "grid_key")
     })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -51,6 +53,10 @@ public class AIPredictedCell extends BaseEntity {
     @Column(columnDefinition = "geometry NOT NULL", nullable = false)
     private Point geom;  // JTS Point 타입 사용
 
+    // 격자 셀 키 (GridKey.of(lat, lon), 셀 식별/조회용)
+    @Column(name = "grid_key")
+    private Long gridKey;
+
     // 타임스텝 정보 (1~5)
     @Column(nullable = false)
     private Integer timeStep;
@@ -68,10 +74,13 @@ public class AIPredictedCell extends BaseEntity {
     @JoinColumn(name = "fire_id", nullable = false, foreignKey = @ForeignKey(name = "fk_cell_fire"))
     private AIPredictionFire fire;
 
-    // 공간 데이터 자동 생성 (PrePersist)
+    // 공간 데이터/격자 키 자동 생성 (PrePersist)
     @PrePersist
     @PreUpdate
     public void generateGeom() {
+        if (latitude != null && longitude != null && gridKey == null) {
+            this.gridKey = GridKey.of(latitude, longitude);
+        }
         if (latitude != null && longitude != null && geom == null) {
             GeometryFactory geometryFactory = new GeometryFactory();
             this.geom = geometryFactory.createPoint(new Coordinate(longitude, latitude));
@@ -16,6 +16,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -83,6 +84,16 @@ public class AIPredictionFire extends BaseEntity {
     @Builder.Default
     private List<AIPredictedCell> predictedCells = new ArrayList<>();
 
+    // timestep별 압축 예측 셀 (1:N, ai-prediction.storage.mode = BLOB)
+    @OneToMany(mappedBy = "fire", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Builder.Default
+    private List<AIPredictionTimestepBlob> timestepBlobs = new ArrayList<>();
+
+    // timestep x 확률 구간 화선 폴리곤 (1:N)
+    @OneToMany(mappedBy = "fire", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Builder.Default
+    private List<AIPredictionFireFront> fireFronts = new ArrayList<>();
+
 
     // 화재 예측 데이터 업데이트 메소드
     public void updatePredictionData(
@@ -122,4 +133,34 @@ public class AIPredictionFire extends BaseEntity {
         predictedCells.add(cell);
         cell.setFire(this);
     }
+
+    // timestep 압축 셀 추가/갱신 (같은 timestep은 기존 행 갱신, unique 제약 충돌 방지)
+    public void putTimestepBlob(Integer timeStep, String predictedTimestamp, Integer cellCount, byte[] encodedCells) {
+        for (AIPredictionTimestepBlob blob : timestepBlobs) {
+            if (blob.getTimeStep().equals(timeStep)) {
+                blob.update(predictedTimestamp, cellCount, encodedCells);
+                return;
+            }
+        }
+
+        AIPredictionTimestepBlob blob = AIPredictionTimestepBlob.builder()
+                .timeStep(timeStep)
+                .predictedTimestamp(predictedTimestamp)
+                .cellCount(cellCount)
+                .encodedCells(encodedCells)
+                .build();
+        timestepBlobs.add(blob);
+        blob.setFire(this);
+    }
+
+    // 주어진 timestep 외의 압축 셀 제거
+    public void retainTimestepBlobs(Set<Integer> timeSteps) {
+        timestepBlobs.removeIf(blob -> !timeSteps.contains(blob.getTimeStep()));
+    }
+
+    // 화선 폴리곤 추가 (FireFrontUpdater에서 바뀐 구간만 반영)
+    public void addFireFront(AIPredictionFireFront front) {
+        fireFronts.add(front);
+        front.setFire(this);
+    }
 }
@@ -0,0 +1,112 @@
+package com.capstone25.WildFirePrediction.domain;
+
+import com.capstone25.WildFirePrediction.domain.base.BaseEntity;
+import com.capstone25.WildFirePrediction.domain.enums.ProbabilityBand;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+// 화재별 timestep x 확률 구간 화선 폴리곤 (예측 셀 사각형 union + 단순화)
+// - 외접 사각형(min/max lat/lon)은 저장 시 geom에서 계산, 좌표 포함 조회의 후보 선별에 사용
+@Entity
+@Table(name = "ai_prediction_fire_front",
+    indexes = {
+        @Index(name = "idx_front_fire_id", columnList = "fire_id"),
+        @Index(name = "idx_front_bounds", columnList = "min_lat, max_lat, min_lon, max_lon")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AIPredictionFireFront extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 타임스텝 정보 (1~5)
+    @Column(nullable = false)
+    private Integer timeStep;
+
+    // 해당 타임스텝의 예상 시각
+    @Column(nullable = false)
+    private String predictedTimestamp;
+
+    // 확률 구간 (LOW, MEDIUM, HIGH)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProbabilityBand band;
+
+    // 폴리곤에 포함된 셀 개수
+    @Column(nullable = false)
+    private Integer cellCount;
+
+    // 화선 폴리곤 (Polygon 또는 MultiPolygon, SRID 4326)
+    @Column(columnDefinition = "geometry NOT NULL", nullable = false)
+    private Geometry geom;
+
+    // 폴리곤 외접 사각형
+    @Column(name = "min_lat")
+    private Double minLat;
+
+    @Column(name = "max_lat")
+    private Double maxLat;
+
+    @Column(name = "min_lon")
+    private Double minLon;
+
+    @Column(name = "max_lon")
+    private Double maxLon;
+
+    // 부모 화재 정보와의 N:1 관계
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fire_id", nullable = false, foreignKey = @ForeignKey(name = "fk_front_fire"))
+    private AIPredictionFire fire;
+
+    // 양방향 관계 설정 메서드 (AIPredictionFire 쪽에서 호출)
+    public void setFire(AIPredictionFire fire) {
+        this.fire = fire;
+    }
+
+    // 폴리곤이 바뀌었으면 갱신 후 true (같으면 UPDATE 없음)
+    public boolean updateShape(String predictedTimestamp, int cellCount, Geometry geom) {
+        if (this.cellCount == cellCount && Objects.equals(this.predictedTimestamp, predictedTimestamp)
+                && this.geom.equalsExact(geom)) {
+            return false;
+        }
+        this.predictedTimestamp = predictedTimestamp;
+        this.cellCount = cellCount;
+        this.geom = geom;
+        return true;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateBounds() {
+        Envelope envelope = geom.getEnvelopeInternal();
+        this.minLat = envelope.getMinY();
+        this.maxLat = envelope.getMaxY();
+        this.minLon = envelope.getMinX();
+        this.maxLon = envelope.getMaxX();
+    }
+}
@@ -0,0 +1,69 @@
+package com.capstone25.WildFirePrediction.domain;
+
+import com.capstone25.WildFirePrediction.domain.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// timestep 단위 예측 셀 압축 저장 (ai-prediction.storage.mode = BLOB)
+@Entity
+@Table(name = "ai_prediction_timestep_blob",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_blob_fire_timestep", columnNames = {"fire_id", "time_step"})
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AIPredictionTimestepBlob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 타임스텝 정보 (1~5)
+    @Column(nullable = false)
+    private Integer timeStep;
+
+    // 해당 타임스텝의 예상 시각
+    @Column(nullable = false)
+    private String predictedTimestamp;
+
+    // 인코딩된 셀 개수
+    @Column(nullable = false)
+    private Integer cellCount;
+
+    // PredictedCellBlobCodec으로 인코딩된 셀 (격자 인덱스 delta + 16bit 확률)
+    @Column(columnDefinition = "MEDIUMBLOB NOT NULL", nullable = false)
+    private byte[] encodedCells;
+
+    // 부모 화재 정보와의 N:1 관계
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fire_id", nullable = false, foreignKey = @ForeignKey(name = "fk_blob_fire"))
+    private AIPredictionFire fire;
+
+    // 같은 timestep의 최신 예측으로 갱신
+    public void update(String predictedTimestamp, Integer cellCount, byte[] encodedCells) {
+        this.predictedTimestamp = predictedTimestamp;
+        this.cellCount = cellCount;
+        this.encodedCells = encodedCells;
+    }
+
+    // 양방향 관계 설정 메서드 (AIPredictionFire 쪽에서 호출)
+    public void setFire(AIPredictionFire fire) {
+        this.fire = fire;
+    }
+}
@@ -0,0 +1,44 @@
+package com.capstone25.WildFirePrediction.domain;
+
+import com.capstone25.WildFirePrediction.domain.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 노드 간 SSE 브로드캐스트 이벤트 (DbFireBroadcastBus, 각 노드가 id 순서로 폴링)
+@Entity
+@Table(name = "fire_broadcast_event",
+    indexes = {
+        @Index(name = "idx_broadcast_created_at", columnList = "created_at")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FireBroadcastEvent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이벤트 id (fire_event_outbox id, 수신 노드의 중복 제거 기준)
+    @Column(nullable = false)
+    private Long eventId;
+
+    // 묶인 이벤트 수
+    @Column(nullable = false)
+    private Integer eventCount;
+
+    // FireEventResponse[] JSON
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String payload;
+}
@@ -0,0 +1,46 @@
+package com.capstone25.WildFirePrediction.domain;
+
+import com.capstone25.WildFirePrediction.domain.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 화재 이벤트 outbox (예측/종료 반영과 같은 트랜잭션에서 기록, FireEventOutboxRelay가 발행)
+// - id는 이벤트 id로 사용 (중복 발행 시 수신 측에서 걸러냄)
+@Entity
+@Table(name = "fire_event_outbox",
+    indexes = {
+        @Index(name = "idx_outbox_published_at", columnList = "published_at, id")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FireEventOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 묶인 이벤트 수
+    @Column(nullable = false)
+    private Integer eventCount;
+
+    // FireEventResponse[] JSON
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String payload;
+
+    // 발행 완료 시각 (null이면 미발행)
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
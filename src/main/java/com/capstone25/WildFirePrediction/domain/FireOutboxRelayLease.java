@@ -0,0 +1,31 @@
+package com.capstone25.WildFirePrediction.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// outbox relay lease (한 번에 한 노드의 relay만 발행하도록 보유 노드와 만료 시각 기록)
+// - 행은 FireOutboxRelayLeaseRepository.createIfAbsent로 생성 (감사 컬럼 없음)
+@Entity
+@Table(name = "fire_outbox_relay_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FireOutboxRelayLease {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 보유 중인 relay id (노드 기동 시 생성)
+    @Column(nullable = false, length = 50)
+    private String holder;
+
+    // 만료 시각 (보유 노드가 발행 주기마다 연장, 지나면 다른 노드가 가져감)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
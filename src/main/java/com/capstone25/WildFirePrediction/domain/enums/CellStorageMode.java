@@ -0,0 +1,7 @@
+package com.capstone25.WildFirePrediction.domain.enums;
+
+// 예측 셀 저장 방식 (ai-prediction.storage.mode)
+public enum CellStorageMode {
+    ROWS,   // 셀 1개 = ai_predicted_cell 1행
+    BLOB    // timestep 1개 = ai_prediction_timestep_blob 1행 (PredictedCellBlobCodec 인코딩)
+}
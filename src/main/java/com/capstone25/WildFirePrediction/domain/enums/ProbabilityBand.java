@@ -0,0 +1,26 @@
+package com.capstone25.WildFirePrediction.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 화재 확산 확률 구간 (화선 폴리곤 단위)
+@Getter
+@RequiredArgsConstructor
+public enum ProbabilityBand {
+    LOW(0.0, 0.4),      // 0.0 <= p < 0.4
+    MEDIUM(0.4, 0.7),   // 0.4 <= p < 0.7
+    HIGH(0.7, 1.0);     // 0.7 <= p <= 1.0
+
+    private final double minProbability;
+    private final double maxProbability;
+
+    public static ProbabilityBand of(double probability) {
+        if (probability >= HIGH.minProbability) {
+            return HIGH;
+        }
+        if (probability >= MEDIUM.minProbability) {
+            return MEDIUM;
+        }
+        return LOW;
+    }
+}
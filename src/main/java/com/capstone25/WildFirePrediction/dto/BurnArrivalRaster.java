@@ -0,0 +1,170 @@
+package com.capstone25.WildFirePrediction.dto;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.capstone25.WildFirePrediction.dto.request.PredictedCellColumns;
+import com.capstone25.WildFirePrediction.util.GridKey;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.Getter;
+
+// 화재 1개의 도달 시각 래스터 (timestep 1~5를 격자 셀당 1개로 합침)
+// - 격자 셀(GridKey)마다 가장 이른 예측 timestep과 최대 확률만 유지
+// - 좌표는 가장 이른 timestep에서 처음 나온 셀 좌표 사용
+// - 수신 시 1회 생성 후 변경하지 않음 (BurnArrivalRasterRegistry가 화재별 최신본 보관)
+// - 셀은 위도 오름차순으로 보관하고 셀 좌표 범위를 함께 저장 (바운딩 박스 조회 시 범위 확인 후 위도 구간만 탐색)
+@Getter
+public class BurnArrivalRaster {
+
+    private final String fireId;
+    private final double fireLatitude;
+    private final double fireLongitude;
+    private final String fireTimestamp;
+    private final String inferenceTimestamp;
+    private final String model;
+
+    // timestep -> 예상 시각 (오름차순)
+    private final Map<Integer, String> timestepTimestamps;
+
+    // 셀 컬럼 (인덱스 동일, 위도 오름차순)
+    private final long[] gridKeys;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] arrivalTimesteps;
+    private final double[] maxProbabilities;
+
+    // 셀 좌표 범위 (셀이 없으면 min > max)
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    // 원본 payload 셀 수 (timestep 중복 포함)
+    private final int sourceCellCount;
+
+    private BurnArrivalRaster(FirePredictionRequestDto requestDto, Map<Integer, String> timestepTimestamps,
+                              long[] gridKeys, double[] latitudes, double[] longitudes,
+                              int[] arrivalTimesteps, double[] maxProbabilities, int sourceCellCount) {
+        this.fireId = requestDto.getFireId();
+        this.fireLatitude = requestDto.getFireLocation().getLat();
+        this.fireLongitude = requestDto.getFireLocation().getLon();
+        this.fireTimestamp = requestDto.getFireTimestamp();
+        this.inferenceTimestamp = requestDto.getInferenceTimestamp();
+        this.model = requestDto.getModel();
+        this.timestepTimestamps = timestepTimestamps;
+        this.gridKeys = gridKeys;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.arrivalTimesteps = arrivalTimesteps;
+        this.maxProbabilities = maxProbabilities;
+        this.sourceCellCount = sourceCellCount;
+
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (double longitude : longitudes) {
+            minLon = Math.min(minLon, longitude);
+            maxLon = Math.max(maxLon, longitude);
+        }
+        this.minLatitude = latitudes.length > 0 ? latitudes[0] : Double.POSITIVE_INFINITY;
+        this.maxLatitude = latitudes.length > 0 ? latitudes[latitudes.length - 1] : Double.NEGATIVE_INFINITY;
+        this.minLongitude = minLon;
+        this.maxLongitude = maxLon;
+    }
+
+    // 예측 payload(event_type = 0)로 래스터 생성
+    public static BurnArrivalRaster from(FirePredictionRequestDto requestDto) {
+        Map<Integer, String> timestepTimestamps = new TreeMap<>();
+        int capacity = 0;
+        for (PredictionDto prediction : requestDto.getPredictions()) {
+            timestepTimestamps.putIfAbsent(prediction.getTimestep(), prediction.getTimestamp());
+            capacity += prediction.getPredictedCells().size();
+        }
+
+        long[] gridKeys = new long[capacity];
+        double[] latitudes = new double[capacity];
+        double[] longitudes = new double[capacity];
+        int[] arrivalTimesteps = new int[capacity];
+        double[] maxProbabilities = new double[capacity];
+        Map<Long, Integer> indexByGridKey = new HashMap<>(capacity * 2);
+
+        int size = 0;
+        for (PredictionDto prediction : requestDto.getPredictions()) {
+            int timestep = prediction.getTimestep();
+            PredictedCellColumns cells = PredictedCellColumns.of(prediction.getPredictedCells());
+            for (int i = 0; i < cells.size(); i++) {
+                long key = GridKey.of(cells.getLat(i), cells.getLon(i));
+                Integer index = indexByGridKey.get(key);
+                if (index == null) {
+                    gridKeys[size] = key;
+                    latitudes[size] = cells.getLat(i);
+                    longitudes[size] = cells.getLon(i);
+                    arrivalTimesteps[size] = timestep;
+                    maxProbabilities[size] = cells.getProbability(i);
+                    indexByGridKey.put(key, size++);
+                    continue;
+                }
+
+                if (timestep < arrivalTimesteps[index]) {
+                    arrivalTimesteps[index] = timestep;
+                    latitudes[index] = cells.getLat(i);
+                    longitudes[index] = cells.getLon(i);
+                }
+                maxProbabilities[index] = Math.max(maxProbabilities[index], cells.getProbability(i));
+            }
+        }
+
+        // 위도 오름차순으로 재배치
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(index -> latitudes[index]));
+
+        long[] sortedGridKeys = new long[size];
+        double[] sortedLatitudes = new double[size];
+        double[] sortedLongitudes = new double[size];
+        int[] sortedArrivalTimesteps = new int[size];
+        double[] sortedMaxProbabilities = new double[size];
+        for (int i = 0; i < size; i++) {
+            int index = order[i];
+            sortedGridKeys[i] = gridKeys[index];
+            sortedLatitudes[i] = latitudes[index];
+            sortedLongitudes[i] = longitudes[index];
+            sortedArrivalTimesteps[i] = arrivalTimesteps[index];
+            sortedMaxProbabilities[i] = maxProbabilities[index];
+        }
+
+        return new BurnArrivalRaster(requestDto, Collections.unmodifiableMap(timestepTimestamps),
+                sortedGridKeys, sortedLatitudes, sortedLongitudes, sortedArrivalTimesteps, sortedMaxProbabilities,
+                capacity);
+    }
+
+    public int size() {
+        return gridKeys.length;
+    }
+
+    // 바운딩 박스와 셀 좌표 범위가 겹치는지
+    public boolean intersects(double minLat, double maxLat, double minLon, double maxLon) {
+        return minLatitude <= maxLat && maxLatitude >= minLat
+                && minLongitude <= maxLon && maxLongitude >= minLon;
+    }
+
+    // 위도가 lat 이상인 첫 셀 인덱스 (없으면 size())
+    public int firstIndexAtOrAboveLatitude(double lat) {
+        int low = 0;
+        int high = latitudes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (latitudes[mid] < lat) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
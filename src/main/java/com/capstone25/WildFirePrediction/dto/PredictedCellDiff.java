@@ -0,0 +1,32 @@
+package com.capstone25.WildFirePrediction.dto;
+
+import com.capstone25.WildFirePrediction.domain.AIPredictedCell;
+import com.capstone25.WildFirePrediction.dto.projection.PredictedCellProjection;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+// 저장된 예측 셀과 신규 예측 셀 비교 결과 (timestep + 좌표 기준)
+@Getter
+public class PredictedCellDiff {
+
+    // 새로 추가할 셀
+    private final List<AIPredictedCell> toInsert = new ArrayList<>();
+
+    // 확률/예상 시각이 바뀐 셀 (id 포함)
+    private final List<AIPredictedCell> toUpdate = new ArrayList<>();
+
+    // 더 이상 예측되지 않는 셀
+    private final List<PredictedCellProjection> toDelete = new ArrayList<>();
+
+    // 변경 없이 유지되는 셀 개수
+    private int unchangedCount;
+
+    public void markUnchanged() {
+        unchangedCount++;
+    }
+
+    public boolean isEmpty() {
+        return toInsert.isEmpty() && toUpdate.isEmpty() && toDelete.isEmpty();
+    }
+}
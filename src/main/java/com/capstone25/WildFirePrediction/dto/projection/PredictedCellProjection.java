@@ -0,0 +1,11 @@
+package com.capstone25.WildFirePrediction.dto.projection;
+
+public interface PredictedCellProjection {
+    Long getId();
+    Integer getTimeStep();
+    Double getLatitude();
+    Double getLongitude();
+    Long getGridKey();
+    String getPredictedTimestamp();
+    Double getProbability();
+}
@@ -1,6 +1,8 @@
 package com.capstone25.WildFirePrediction.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -119,10 +121,11 @@ public class AIPredictionRequest {
         @JsonProperty("timestamp")
         private String timestamp;
 
-        // 예측된 셀 리스트
+        // 예측된 셀 리스트 (PredictedCellColumns 컬럼 버퍼로 스트리밍 파싱, 셀 단위 검증은 AIPredictionService에서 수행)
         @NotEmpty(message = "예측 셀은 최소 1개 이상이어야 합니다")
-        @Valid
         @JsonProperty("predicted_cells")
+        @JsonDeserialize(using = PredictedCellColumns.Deserializer.class)
+        @JsonSerialize(using = PredictedCellColumns.Serializer.class)
         private List<PredictedCellDto> predictedCells;
     }
 
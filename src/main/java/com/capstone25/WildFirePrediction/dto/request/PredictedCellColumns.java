@@ -0,0 +1,178 @@
+package com.capstone25.WildFirePrediction.dto.request;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+// 예측 셀 컬럼 버퍼 (timestep 하나 분량)
+// - 셀마다 PredictedCellDto(Double 3개)를 만들지 않고 위도/경도/확률을 primitive 배열로 보관
+// - 기존 코드 호환을 위해 List<PredictedCellDto> 뷰 제공 (get 호출 시에만 DTO 생성)
+// - 누락/null 값은 NaN으로 저장되며 AIPredictionService 검증 단계에서 걸러짐
+public class PredictedCellColumns extends AbstractList<PredictedCellDto> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private double[] lats;
+    private double[] lons;
+    private double[] probabilities;
+    private int size;
+
+    public PredictedCellColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PredictedCellColumns(int capacity) {
+        int initial = Math.max(1, capacity);
+        this.lats = new double[initial];
+        this.lons = new double[initial];
+        this.probabilities = new double[initial];
+    }
+
+    // List<PredictedCellDto> -> 컬럼 버퍼 (이미 컬럼 버퍼면 그대로 반환)
+    public static PredictedCellColumns of(List<PredictedCellDto> cells) {
+        if (cells instanceof PredictedCellColumns columns) {
+            return columns;
+        }
+        PredictedCellColumns columns = new PredictedCellColumns(cells.size());
+        for (PredictedCellDto cell : cells) {
+            columns.add(toPrimitive(cell.getLat()), toPrimitive(cell.getLon()), toPrimitive(cell.getProbability()));
+        }
+        return columns;
+    }
+
+    public void add(double lat, double lon, double probability) {
+        if (size == lats.length) {
+            int newCapacity = lats.length * 2;
+            lats = Arrays.copyOf(lats, newCapacity);
+            lons = Arrays.copyOf(lons, newCapacity);
+            probabilities = Arrays.copyOf(probabilities, newCapacity);
+        }
+        lats[size] = lat;
+        lons[size] = lon;
+        probabilities[size] = probability;
+        size++;
+    }
+
+    public double getLat(int index) {
+        checkIndex(index);
+        return lats[index];
+    }
+
+    public double getLon(int index) {
+        checkIndex(index);
+        return lons[index];
+    }
+
+    public double getProbability(int index) {
+        checkIndex(index);
+        return probabilities[index];
+    }
+
+    @Override
+    public PredictedCellDto get(int index) {
+        checkIndex(index);
+        return PredictedCellDto.builder()
+                .lat(lats[index])
+                .lon(lons[index])
+                .probability(probabilities[index])
+                .build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    private static double toPrimitive(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    // predicted_cells 배열을 토큰 단위로 읽어 컬럼 버퍼에 바로 적재
+    public static class Deserializer extends JsonDeserializer<List<PredictedCellDto>> {
+
+        @Override
+        public List<PredictedCellDto> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() != JsonToken.START_ARRAY) {
+                @SuppressWarnings("unchecked")  // 기본은 예외, 문제 핸들러가 복구하면 List.class로 요청한 값
+                List<PredictedCellDto> recovered = (List<PredictedCellDto>) ctxt.handleUnexpectedToken(List.class, p);
+                return recovered;
+            }
+
+            PredictedCellColumns columns = new PredictedCellColumns();
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    ctxt.reportWrongTokenException(List.class, JsonToken.START_OBJECT,
+                            "predicted_cells 요소는 객체여야 합니다");
+                }
+
+                double lat = Double.NaN;
+                double lon = Double.NaN;
+                double probability = Double.NaN;
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = p.currentName();
+                    JsonToken valueToken = p.nextToken();
+                    switch (field) {
+                        case "lat" -> lat = readDouble(p, valueToken);
+                        case "lon" -> lon = readDouble(p, valueToken);
+                        case "probability" -> probability = readDouble(p, valueToken);
+                        default -> p.skipChildren();    // 알 수 없는 필드 무시
+                    }
+                }
+                columns.add(lat, lon, probability);
+            }
+            return columns;
+        }
+
+        @Override
+        public List<PredictedCellDto> getNullValue(DeserializationContext ctxt) {
+            return null;
+        }
+
+        private double readDouble(JsonParser p, JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                return p.getDoubleValue();
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                return p.getValueAsDouble(Double.NaN);
+            }
+            p.skipChildren();
+            return Double.NaN;
+        }
+    }
+
+    // 컬럼 버퍼는 DTO를 만들지 않고 바로 JSON으로 출력
+    public static class Serializer extends JsonSerializer<List<PredictedCellDto>> {
+
+        @Override
+        public void serialize(List<PredictedCellDto> value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            PredictedCellColumns columns = of(value);
+            gen.writeStartArray(value, columns.size);
+            for (int i = 0; i < columns.size; i++) {
+                gen.writeStartObject();
+                gen.writeNumberField("lat", columns.lats[i]);
+                gen.writeNumberField("lon", columns.lons[i]);
+                gen.writeNumberField("probability", columns.probabilities[i]);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+    }
+}
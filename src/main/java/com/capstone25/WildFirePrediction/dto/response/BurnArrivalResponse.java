@@ -0,0 +1,100 @@
+package com.capstone25.WildFirePrediction.dto.response;
+
+import com.capstone25.WildFirePrediction.dto.BurnArrivalRaster;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FireLocationDto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 도달 시각 래스터 응답 (timestep별 셀 목록 대신 격자 셀당 1개)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BurnArrivalResponse {
+
+    @JsonProperty("fire_id")
+    private String fireId;
+
+    @JsonProperty("fire_location")
+    private FireLocationDto fireLocation;
+
+    @JsonProperty("fire_timestamp")
+    private String fireTimestamp;
+
+    @JsonProperty("inference_timestamp")
+    private String inferenceTimestamp;
+
+    @JsonProperty("model")
+    private String model;
+
+    // timestep별 예상 시각 (arrival_timestep 해석용)
+    @JsonProperty("timesteps")
+    private List<TimestepDto> timesteps;
+
+    @JsonProperty("cells")
+    private List<ArrivalCellDto> cells;
+
+    public static BurnArrivalResponse from(BurnArrivalRaster raster) {
+        List<TimestepDto> timesteps = new ArrayList<>(raster.getTimestepTimestamps().size());
+        for (Map.Entry<Integer, String> entry : raster.getTimestepTimestamps().entrySet()) {
+            timesteps.add(new TimestepDto(entry.getKey(), entry.getValue()));
+        }
+
+        List<ArrivalCellDto> cells = new ArrayList<>(raster.size());
+        for (int i = 0; i < raster.size(); i++) {
+            cells.add(new ArrivalCellDto(raster.getLatitudes()[i], raster.getLongitudes()[i],
+                    raster.getArrivalTimesteps()[i], raster.getMaxProbabilities()[i]));
+        }
+
+        return BurnArrivalResponse.builder()
+                .fireId(raster.getFireId())
+                .fireLocation(FireLocationDto.builder()
+                        .lat(raster.getFireLatitude())
+                        .lon(raster.getFireLongitude())
+                        .build())
+                .fireTimestamp(raster.getFireTimestamp())
+                .inferenceTimestamp(raster.getInferenceTimestamp())
+                .model(raster.getModel())
+                .timesteps(timesteps)
+                .cells(cells)
+                .build();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TimestepDto {
+
+        @JsonProperty("timestep")
+        private int timestep;
+
+        @JsonProperty("timestamp")
+        private String timestamp;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ArrivalCellDto {
+
+        @JsonProperty("lat")
+        private double lat;
+
+        @JsonProperty("lon")
+        private double lon;
+
+        // 가장 이른 예측 timestep
+        @JsonProperty("arrival_timestep")
+        private int arrivalTimestep;
+
+        // 전체 timestep 중 최대 확률
+        @JsonProperty("probability")
+        private double probability;
+    }
+}
@@ -0,0 +1,167 @@
+package com.capstone25.WildFirePrediction.dto.response;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FireLocationDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// fire_delta SSE 이벤트 (직전 버전 대비 바뀐 셀만)
+// - 클라이언트가 가진 버전이 base_version과 다르면 누락이 있는 것 (재연결로 fire_sync 수신)
+// - 셀은 (timestep, lat, lon)이 정확히 같은 셀끼리 대응 (클라이언트가 전송된 좌표로 찾으므로)
+//   같은 격자 셀 안에서 좌표만 바뀐 셀은 removed(이전 좌표) + added(새 좌표)로 전송
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FireDeltaResponse {
+
+    // 셀 변경 비율이 이보다 크면 delta 대신 전체(fire_snapshot) 전송
+    private static final double MAX_CHANGED_RATIO = 0.5;
+
+    @JsonProperty("fire_id")
+    private String fireId;
+
+    @JsonProperty("version")
+    private long version;
+
+    @JsonProperty("base_version")
+    private long baseVersion;
+
+    @JsonProperty("fire_location")
+    private FireLocationDto fireLocation;
+
+    @JsonProperty("fire_timestamp")
+    private String fireTimestamp;
+
+    @JsonProperty("inference_timestamp")
+    private String inferenceTimestamp;
+
+    @JsonProperty("model")
+    private String model;
+
+    @JsonProperty("predictions")
+    private List<TimestepDelta> predictions;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TimestepDelta {
+
+        @JsonProperty("timestep")
+        private Integer timestep;
+
+        // 해당 timestep의 예상 시각 (새 버전 기준, timestep이 사라졌으면 null)
+        @JsonProperty("timestamp")
+        private String timestamp;
+
+        @JsonProperty("added")
+        private List<CellDelta> added;
+
+        @JsonProperty("changed")
+        private List<CellDelta> changed;
+
+        // 삭제된 셀 (probability 없음)
+        @JsonProperty("removed")
+        private List<CellDelta> removed;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class CellDelta {
+
+        @JsonProperty("lat")
+        private Double lat;
+
+        @JsonProperty("lon")
+        private Double lon;
+
+        @JsonProperty("probability")
+        private Double probability;
+    }
+
+    // 직전 버전 -> 새 버전 셀 차이 (timestep + 좌표 기준), 바뀐 셀이 너무 많으면 null
+    public static FireDeltaResponse between(FirePredictionRequestDto previous, FirePredictionRequestDto current,
+                                            long baseVersion, long version) {
+        Map<CellKey, PredictedCellDto> previousCells = new HashMap<>();
+        for (PredictionDto prediction : nullSafe(previous.getPredictions())) {
+            for (PredictedCellDto cell : nullSafe(prediction.getPredictedCells())) {
+                previousCells.put(CellKey.of(prediction.getTimestep(), cell), cell);
+            }
+        }
+
+        Map<Integer, TimestepDelta> deltas = new LinkedHashMap<>();
+        int currentCellCount = 0;
+        int changedCount = 0;
+        for (PredictionDto prediction : nullSafe(current.getPredictions())) {
+            TimestepDelta delta = timestepDelta(deltas, prediction.getTimestep());
+            delta.timestamp = prediction.getTimestamp();
+
+            for (PredictedCellDto cell : nullSafe(prediction.getPredictedCells())) {
+                currentCellCount++;
+                PredictedCellDto before = previousCells.remove(CellKey.of(prediction.getTimestep(), cell));
+                if (before == null) {
+                    delta.added.add(new CellDelta(cell.getLat(), cell.getLon(), cell.getProbability()));
+                    changedCount++;
+                } else if (!Objects.equals(before.getProbability(), cell.getProbability())) {
+                    delta.changed.add(new CellDelta(cell.getLat(), cell.getLon(), cell.getProbability()));
+                    changedCount++;
+                }
+            }
+        }
+
+        // 새 버전에 없는 셀 (사라진 timestep 포함)
+        for (Map.Entry<CellKey, PredictedCellDto> entry : previousCells.entrySet()) {
+            PredictedCellDto cell = entry.getValue();
+            timestepDelta(deltas, entry.getKey().timestep())
+                    .removed.add(new CellDelta(cell.getLat(), cell.getLon(), null));
+            changedCount++;
+        }
+
+        if (changedCount > currentCellCount * MAX_CHANGED_RATIO) {
+            return null;
+        }
+
+        return FireDeltaResponse.builder()
+                .fireId(current.getFireId())
+                .version(version)
+                .baseVersion(baseVersion)
+                .fireLocation(current.getFireLocation())
+                .fireTimestamp(current.getFireTimestamp())
+                .inferenceTimestamp(current.getInferenceTimestamp())
+                .model(current.getModel())
+                .predictions(new ArrayList<>(deltas.values()))
+                .build();
+    }
+
+    private static TimestepDelta timestepDelta(Map<Integer, TimestepDelta> deltas, Integer timestep) {
+        return deltas.computeIfAbsent(timestep, ts -> new TimestepDelta(ts, null,
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+    }
+
+    private static <T> List<T> nullSafe(List<T> list) {
+        return list != null ? list : List.of();
+    }
+
+    // 셀 대응 키 (좌표는 JSON으로 전송되는 값 그대로 비교)
+    private record CellKey(Integer timestep, Double lat, Double lon) {
+
+        static CellKey of(Integer timestep, PredictedCellDto cell) {
+            return new CellKey(timestep, cell.getLat(), cell.getLon());
+        }
+    }
+}
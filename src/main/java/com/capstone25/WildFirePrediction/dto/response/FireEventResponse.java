@@ -0,0 +1,28 @@
+package com.capstone25.WildFirePrediction.dto.response;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// fire_batch SSE 이벤트의 개별 항목
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FireEventResponse {
+
+    // 개별 이벤트명 (fire_prediction / fire_end)
+    private String event;
+
+    // 이벤트 데이터 (AI Request JSON 형식)
+    private FirePredictionRequestDto data;
+
+    public static FireEventResponse of(String event, FirePredictionRequestDto data) {
+        return FireEventResponse.builder()
+                .event(event)
+                .data(data)
+                .build();
+    }
+}
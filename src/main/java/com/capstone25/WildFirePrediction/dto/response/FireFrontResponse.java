@@ -0,0 +1,80 @@
+package com.capstone25.WildFirePrediction.dto.response;
+
+import com.capstone25.WildFirePrediction.domain.AIPredictionFireFront;
+import com.capstone25.WildFirePrediction.util.FireFrontPolygonizer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 화재별 화선 폴리곤 응답 (timestep x 확률 구간)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FireFrontResponse {
+
+    @JsonProperty("fire_id")
+    private String fireId;
+
+    @JsonProperty("fronts")
+    private List<FrontDto> fronts;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FrontDto {
+
+        @JsonProperty("timestep")
+        private int timestep;
+
+        @JsonProperty("timestamp")
+        private String timestamp;
+
+        // 확률 구간 (LOW, MEDIUM, HIGH)
+        @JsonProperty("band")
+        private String band;
+
+        @JsonProperty("min_probability")
+        private double minProbability;
+
+        @JsonProperty("max_probability")
+        private double maxProbability;
+
+        @JsonProperty("cell_count")
+        private int cellCount;
+
+        // GeoJSON MultiPolygon geometry
+        @JsonProperty("geometry")
+        private GeometryDto geometry;
+
+        public static FrontDto from(AIPredictionFireFront front) {
+            return FrontDto.builder()
+                    .timestep(front.getTimeStep())
+                    .timestamp(front.getPredictedTimestamp())
+                    .band(front.getBand().name())
+                    .minProbability(front.getBand().getMinProbability())
+                    .maxProbability(front.getBand().getMaxProbability())
+                    .cellCount(front.getCellCount())
+                    .geometry(new GeometryDto("MultiPolygon",
+                            FireFrontPolygonizer.toMultiPolygonCoordinates(front.getGeom())))
+                    .build();
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GeometryDto {
+
+        @JsonProperty("type")
+        private String type;
+
+        // [polygon][ring][point] = [lon, lat]
+        @JsonProperty("coordinates")
+        private List<List<List<double[]>>> coordinates;
+    }
+}
@@ -0,0 +1,35 @@
+package com.capstone25.WildFirePrediction.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FireOutboxStatsResponse {
+
+    // 아직 발행되지 않은 outbox 이벤트 수 (전체 노드 기준)
+    private long pendingCount;
+
+    // relay 지연: 가장 오래된 미발행 이벤트가 기록된 후 경과 시간 (ms, 없으면 0)
+    private long relayLagMillis;
+
+    // 이 노드가 마지막으로 발행한 이벤트의 기록 -> 발행 소요 시간 (ms)
+    private long lastRelayLagMillis;
+
+    // 이 노드가 발행한 이벤트 수
+    private long relayedCount;
+
+    // 발행 실패 횟수 (실패한 이벤트는 다음 주기에 재발행)
+    private long relayFailureCount;
+
+    // 이 노드가 relay lease를 보유 중인지 (보유 노드만 발행)
+    private boolean leaseHolder;
+
+    // 한 번에 선점하는 이벤트 수 / 폴링 주기 (ms)
+    private int batchSize;
+    private long pollIntervalMillis;
+}
@@ -0,0 +1,88 @@
+package com.capstone25.WildFirePrediction.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestStatsResponse {
+
+    // 처리 대기 중인 payload 수
+    private int queueDepth;
+
+    // 처리 중인 작업 수
+    private int inFlight;
+
+    // 대기/처리 중인 화재 수
+    private int activeFireSlots;
+
+    // 누적 수신 payload 수
+    private long submittedCount;
+
+    // 누적 처리 완료 수
+    private long processedCount;
+
+    // 누적 처리 실패 수 (재시도 포함)
+    private long failedCount;
+
+    // 처리 실패 후 재시도로 다시 대기열에 넣은 누적 수
+    private long retriedCount;
+
+    // 재시도 한도를 넘겨 dead-letter로 옮긴 누적 수
+    private long deadLetteredCount;
+
+    // 최신 payload로 대체되어 폐기된 수
+    private long coalescedDropCount;
+
+    // 누적 수락 payload 수 (병합 포함)
+    private long acceptedCount;
+
+    // 누적 거절 payload 수 (429 응답)
+    private long rejectedCount;
+
+    // 누적 일괄(한 트랜잭션) 처리 횟수
+    private long batchCount;
+
+    // 동시에 대기/처리할 수 있는 최대 화재 수
+    private int maxDispatchedFires;
+
+    // 초당 처리 완료 수 (EWMA)
+    private double drainRatePerSecond;
+
+    // 저널에 기록되었으나 아직 처리 완료되지 않은 payload 수
+    private long journalOutstandingCount;
+
+    // 압축(gzip) 요청 수
+    private long compressedRequestCount;
+
+    // 압축 요청의 수신 바이트 합계
+    private long compressedBytes;
+
+    // 압축 요청의 해제 후 바이트 합계
+    private long decompressedBytes;
+
+    // 마지막 반영 payload와 동일하여 건너뛴 수 (AI 서버 재전송)
+    private long skippedDuplicateCount;
+
+    // 마지막 반영 payload보다 과거 추론 결과라 건너뛴 수
+    private long skippedStaleCount;
+
+    // 대용량 갱신 기준 셀 수
+    private int heavyCellThreshold;
+
+    // 대용량 갱신 동시 처리 한도
+    private int maxHeavyWriters;
+
+    // 처리 중인 대용량 갱신 수
+    private int activeHeavyWriters;
+
+    // 한도 초과로 대기 중인 대용량 갱신 작업 수
+    private int deferredHeavyTasks;
+
+    // 한도 초과로 대기열에 들어간 누적 횟수
+    private long heavyDeferredCount;
+}
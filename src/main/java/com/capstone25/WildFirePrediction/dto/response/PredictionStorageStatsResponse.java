@@ -0,0 +1,49 @@
+package com.capstone25.WildFirePrediction.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionStorageStatsResponse {
+
+    // 현재 저장 방식 (ROWS, BLOB)
+    private String storageMode;
+
+    // 조회 시간 비교에 사용한 진행 중 화재 수 (최근 등록 순 표본)
+    private int sampledFireCount;
+
+    // ai_predicted_cell 행 수 (셀당 1행)
+    private long cellRowCount;
+
+    // ai_predicted_cell 테이블 크기 (data + index 바이트)
+    private long cellTableBytes;
+
+    // 행 단위 저장에서 읽은 표본 화재 셀 수
+    private long activeCellsFromRows;
+
+    // 행 단위 저장에서 표본 화재 예측 조회/변환 시간 (μs)
+    private long rowsReadMicros;
+
+    // ai_prediction_timestep_blob 행 수 (timestep당 1행)
+    private long blobRowCount;
+
+    // 압축 저장된 셀 수
+    private long blobCellCount;
+
+    // 압축 셀 바이트 합계
+    private long blobEncodedBytes;
+
+    // ai_prediction_timestep_blob 테이블 크기 (data + index 바이트)
+    private long blobTableBytes;
+
+    // 압축 저장에서 읽은 표본 화재 셀 수 (압축분이 없는 화재는 행 단위 셀로 대체)
+    private long activeCellsFromBlobs;
+
+    // 압축 저장에서 표본 화재 예측 조회/디코딩 시간 (μs)
+    private long blobReadMicros;
+}
@@ -0,0 +1,100 @@
+package com.capstone25.WildFirePrediction.dto.response;
+
+import com.capstone25.WildFirePrediction.sse.SseOverflowPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SseStatsResponse {
+
+    // 현재 구독자 수 (/fires/sse-stream)
+    private int subscriberCount;
+
+    // 노드당 최대 연결 수 (초과 시 503)
+    private int maxConnections;
+
+    // 구독 영역(viewport)을 지정한 구독자 수
+    private int viewportSubscriberCount;
+
+    // delta 모드 구독자 수
+    private int deltaSubscriberCount;
+
+    // 현재 reactive 구독자 수 (/fires/sse-reactive)
+    private int reactiveSubscriberCount;
+
+    // 구독자당 전송 큐 용량
+    private int queueCapacity;
+
+    // 큐 초과 시 처리 방식
+    private SseOverflowPolicy overflowPolicy;
+
+    // 전체 구독자 큐에 쌓인 이벤트 수
+    private long totalQueueDepth;
+
+    // 가장 많이 밀린 구독자의 큐 길이
+    private int maxQueueDepth;
+
+    // 누적 브로드캐스트 수
+    private long broadcastCount;
+
+    // 누적 전송 이벤트 수 (구독자 단위)
+    private long sentFrameCount;
+
+    // 큐 초과로 버린 이벤트 수 (구독자 단위)
+    private long droppedFrameCount;
+
+    // COALESCE 정책으로 resync 이벤트로 대체된 횟수
+    private long resyncCount;
+
+    // reactive 구독자 버퍼 초과로 버린 이벤트 수
+    private long reactiveDroppedEventCount;
+
+    // 전송 실패로 끊은 구독자 수
+    private long writeFailureCount;
+
+    // 유휴 시간 초과로 서버가 끊은 구독자 수
+    private long reapedCount;
+
+    // 최대 연결 수 초과로 거부한 연결 수
+    private long rejectedConnectionCount;
+
+    // 누적 heartbeat 전송 수 (구독자 단위)
+    private long heartbeatCount;
+
+    // 마지막으로 발급한 이벤트 id
+    private long lastEventId;
+
+    // 재전송용으로 보관 중인 이벤트 수 / 바이트
+    private int replayBufferEvents;
+    private long replayBufferBytes;
+
+    // Last-Event-ID 재연결로 재전송한 이벤트 수
+    private long replayedFrameCount;
+
+    // 보관 범위 밖이라 resync로 응답한 재연결 수
+    private long replayMissCount;
+
+    // 구독 영역과 겹치지 않아 보내지 않은 이벤트 수 (구독자 단위)
+    private long filteredOutCount;
+
+    // 같은 outbox 이벤트가 다시 발행되어 무시한 수
+    private long duplicateEventCount;
+
+    // 화재별 마지막 전달 이벤트보다 과거 이벤트라 무시한 수 (노드 간 순서 역전, 재기동 후 재발행)
+    private long staleEventCount;
+
+    // delta 계산용으로 상태를 보관 중인 진행 중 화재 수
+    private int trackedFireCount;
+
+    // fire_delta를 포함한 브로드캐스트 수
+    private long deltaEventCount;
+
+    // 화재 이벤트 프레임 크기 합 (기본 형식 / delta 형식, 절감률 확인용)
+    private long fullFrameBytes;
+    private long deltaFrameBytes;
+}
@@ -59,6 +59,15 @@ public enum ErrorStatus implements BaseErrorCode {
     EARTHQUAKE_API_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "EARTHQUAKE408", "지진 API 호출이 타임아웃 되었습니다."),
     EARTHQUAKE_DATA_LOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "EARTHQUAKE501", "지진 데이터 로드에 실패했습니다."),
 
+    // AI 산불 예측 관련 에러
+    FIRE_ARCHIVE_NOT_FOUND(HttpStatus.NOT_FOUND, "FIRE404", "보관된 화재 예측 이력이 없습니다."),
+    AI_PREDICTION_PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "FIRE413", "압축 해제한 요청 본문이 최대 크기를 넘었습니다."),
+
+    // SSE 구독 관련 에러
+    SSE_VIEWPORT_INVALID(HttpStatus.BAD_REQUEST, "SSE400", "구독 영역은 minLat, maxLat, minLon, maxLon을 모두 올바르게 지정해야 합니다."),
+    SSE_SUBSCRIPTION_NOT_FOUND(HttpStatus.NOT_FOUND, "SSE404", "SSE 구독을 찾을 수 없습니다."),
+    SSE_CONNECTION_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "SSE503", "SSE 연결 수가 최대치에 도달했습니다. 잠시 후 다시 시도해주세요."),
+
     // 유저 선호지역 관련 에러
     PREFERENCE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "PREFERENCE400", "선호지역은 최대 3개까지 설정할 수 있습니다.");
 
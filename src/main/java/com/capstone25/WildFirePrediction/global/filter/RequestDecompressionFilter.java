@@ -0,0 +1,216 @@
+package com.capstone25.WildFirePrediction.global.filter;
+
+import com.capstone25.WildFirePrediction.ingest.AIPredictionIngestMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// AI 예측 수신 경로의 압축 요청 본문 해제 (Content-Encoding: gzip)
+// - 본문 전체를 버퍼링하지 않고 GZIPInputStream으로 감싸 JSON 파서가 바로 읽도록 함
+// - 지원하지 않는 인코딩(zstd 등)은 415 반환
+// - 해제 후 크기가 max-decompressed-bytes를 넘으면 읽기 중단 (압축 폭탄 방지, ExceptionAdvice에서 413 응답)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestDecompressionFilter extends OncePerRequestFilter {
+
+    private static final String TARGET_PATH_PREFIX = "/ai-predictions";
+    private static final int GZIP_BUFFER_SIZE = 16 * 1024;
+
+    private final AIPredictionIngestMetrics ingestMetrics;
+
+    @Value("${ai-prediction.max-decompressed-bytes:67108864}")
+    private long maxDecompressedBytes;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + TARGET_PATH_PREFIX)
+                || request.getHeader(HttpHeaders.CONTENT_ENCODING) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING).trim().toLowerCase();
+        switch (encoding) {
+            case "identity" -> filterChain.doFilter(request, response);
+            case "gzip", "x-gzip" -> {
+                ingestMetrics.recordCompressedRequest();
+                filterChain.doFilter(new DecompressedRequest(request), response);
+            }
+            default -> {
+                log.warn("지원하지 않는 요청 Content-Encoding - {}, uri: {}", encoding, request.getRequestURI());
+                response.sendError(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE,
+                        "Unsupported Content-Encoding: " + encoding);
+            }
+        }
+    }
+
+    // 압축 해제된 본문을 제공하는 요청 래퍼 (Content-Encoding/Content-Length 헤더 제거)
+    private class DecompressedRequest extends HttpServletRequestWrapper {
+
+        private ServletInputStream inputStream;
+
+        private DecompressedRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                CountingInputStream compressed = new CountingInputStream(super.getInputStream(), true, Long.MAX_VALUE);
+                CountingInputStream decompressed = new CountingInputStream(
+                        new GZIPInputStream(compressed, GZIP_BUFFER_SIZE), false, maxDecompressedBytes);
+                inputStream = new DecompressedServletInputStream(decompressed);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isRemovedHeader(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isRemovedHeader(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isRemovedHeader(name))
+                    .toList());
+        }
+
+        private boolean isRemovedHeader(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+                    || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    // 읽은 바이트 수를 지표에 누적하는 스트림 (limit을 넘으면 DecompressedSizeExceededException)
+    private class CountingInputStream extends FilterInputStream {
+
+        private final boolean compressedSide;
+        private final long limit;
+        private long total;
+
+        private CountingInputStream(InputStream in, boolean compressedSide, long limit) {
+            super(in);
+            this.compressedSide = compressedSide;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(long bytes) throws DecompressedSizeExceededException {
+            total += bytes;
+            if (total > limit) {
+                log.warn("압축 해제 크기 한도 초과 - 한도: {} bytes", limit);
+                throw new DecompressedSizeExceededException(limit);
+            }
+            if (compressedSide) {
+                ingestMetrics.addCompressedBytes(bytes);
+            } else {
+                ingestMetrics.addDecompressedBytes(bytes);
+            }
+        }
+    }
+
+    // 압축 해제 크기 한도 초과 (IOException이라 JSON 파서가 감싸지 않고 그대로 전달)
+    public static class DecompressedSizeExceededException extends IOException {
+
+        public DecompressedSizeExceededException(long limit) {
+            super("압축 해제 크기가 한도(" + limit + " bytes)를 넘었습니다");
+        }
+    }
+
+    // 블로킹 읽기 전용 ServletInputStream
+    private static class DecompressedServletInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+        private boolean finished;
+
+        private DecompressedServletInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            finished = b < 0;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            finished = n < 0;
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("압축 해제 요청은 비동기 읽기를 지원하지 않습니다");
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
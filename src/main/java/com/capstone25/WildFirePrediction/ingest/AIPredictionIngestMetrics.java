@@ -0,0 +1,58 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+// AI 예측 수신 경로 공용 지표 (스케줄러 외부에서 집계되는 값)
+@Component
+public class AIPredictionIngestMetrics {
+
+    // 압축 요청 본문 (수신 바이트 / 해제 후 바이트)
+    private final AtomicLong compressedRequestCount = new AtomicLong();
+    private final AtomicLong compressedBytes = new AtomicLong();
+    private final AtomicLong decompressedBytes = new AtomicLong();
+
+    // 멱등성 검사로 건너뛴 payload (동일 재전송 / 과거 추론 결과)
+    private final AtomicLong skippedDuplicateCount = new AtomicLong();
+    private final AtomicLong skippedStaleCount = new AtomicLong();
+
+    public void recordCompressedRequest() {
+        compressedRequestCount.incrementAndGet();
+    }
+
+    public void addCompressedBytes(long bytes) {
+        compressedBytes.addAndGet(bytes);
+    }
+
+    public void addDecompressedBytes(long bytes) {
+        decompressedBytes.addAndGet(bytes);
+    }
+
+    public void recordSkippedDuplicate() {
+        skippedDuplicateCount.incrementAndGet();
+    }
+
+    public void recordSkippedStale() {
+        skippedStaleCount.incrementAndGet();
+    }
+
+    public long getCompressedRequestCount() {
+        return compressedRequestCount.get();
+    }
+
+    public long getCompressedBytes() {
+        return compressedBytes.get();
+    }
+
+    public long getDecompressedBytes() {
+        return decompressedBytes.get();
+    }
+
+    public long getSkippedDuplicateCount() {
+        return skippedDuplicateCount.get();
+    }
+
+    public long getSkippedStaleCount() {
+        return skippedStaleCount.get();
+    }
+}
@@ -0,0 +1,622 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.response.IngestStatsResponse;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.capstone25.WildFirePrediction.service.AIPredictionService;
+import com.capstone25.WildFirePrediction.service.BurnArrivalRasterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// fireId별 AI 예측 처리 스케줄러
+// - 화재당 동시에 하나의 작업만 처리 (같은 화재 업데이트 간 경합 방지)
+// - 대기 중인 payload는 최신 것 하나만 유지 (예측/종료 구분 없이 FireEventOrdering 이벤트 시각 기준 latest-wins)
+// - 한 화재를 처리한 뒤 남은 작업은 실행기 큐 맨 뒤로 재등록 (화재 간 공평 처리)
+// - 대기 화재 수가 한도를 넘으면 신규 화재 payload는 거절 (AI 서버에 429 + Retry-After로 재시도 요청)
+// - 배치로 들어온 화재들은 하나의 작업(한 트랜잭션)으로 묶어서 처리
+// - 실행기 큐는 우선순위 순 (화재 종료 > 신규 발화 > 갱신 > 대용량 갱신)
+// - 대용량 갱신은 동시 실행 수를 제한, 한도 초과 시 스레드를 점유하지 않고 대기열로 양보
+// - 저널 ack는 처리에 성공한 payload만, 실패한 payload는 지수 backoff 후 재등록
+//   첫 실패부터 retry-budget-ms 안에 다시 시도할 수 없으면 dead-letter (DB 장애 중 즉시 재시도로 시도 횟수를 소진하지 않도록)
+@Slf4j
+@Component
+public class AIPredictionIngestScheduler {
+
+    private static final long MIN_RETRY_AFTER_SECONDS = 1;
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+    private static final double DRAIN_RATE_SMOOTHING = 0.3;     // 처리율 EWMA 가중치
+    private static final long DRAIN_RATE_SAMPLE_MILLIS = 5000;  // 처리율 측정 주기
+
+    private final AIPredictionService aiPredictionService;
+    private final AIPredictionJournal journal;
+    private final AIPredictionIngestMetrics ingestMetrics;
+    private final BurnArrivalRasterRegistry burnArrivalRasterRegistry;
+    private final Executor executor;
+    private final int maxDispatchedFires;   // 동시에 대기/처리할 수 있는 최대 화재 수
+    private final int heavyCellThreshold;   // 대용량 갱신 기준 셀 수
+    private final int maxHeavyWriters;      // 대용량 갱신 동시 처리 한도
+    private final long retryInitialDelayMillis;     // 첫 재시도 대기 시간 (이후 2배씩 증가)
+    private final long retryMaxDelayMillis;         // 재시도 대기 시간 상한
+    private final long retryBudgetMillis;           // 첫 실패 후 재시도를 허용하는 시간
+
+    private final Semaphore heavyWriters;
+    private final Queue<IngestTask> deferredHeavyTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong taskSequence = new AtomicLong();
+
+    private final Map<String, FireSlot> slots = new ConcurrentHashMap<>();
+
+    // 신규 화재 슬롯 등록 직렬화 (배치의 한도 확인과 등록이 다른 submit과 섞이지 않도록)
+    // 락 안에서는 슬롯 정리(retire)로만 화재 수가 줄어들므로 확인한 한도를 넘지 않음
+    private final Object admissionLock = new Object();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();   // 대기 중인 payload 수
+    private final AtomicInteger inFlight = new AtomicInteger();     // 처리 중인 payload 수
+    private final AtomicInteger dispatchedFires = new AtomicInteger();  // 실행기에 등록된 화재 슬롯 수
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong deadLetteredCount = new AtomicLong();
+    private final AtomicLong coalescedDropCount = new AtomicLong();
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong heavyDeferredCount = new AtomicLong();
+
+    // 재시도 대기 전용 스레드 (대기 중에는 실행기 스레드를 점유하지 않음)
+    // 종료 시 대기 중인 재시도는 버려지지만 저널에 ack되지 않은 채 남아 재기동 시 복구됨
+    private final ScheduledExecutorService retryExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ai-prediction-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 초당 처리 완료 수 (EWMA)
+    private volatile double drainRatePerSecond;
+    private long lastSampledProcessed;
+
+    public AIPredictionIngestScheduler(AIPredictionService aiPredictionService,
+                                       AIPredictionJournal journal,
+                                       AIPredictionIngestMetrics ingestMetrics,
+                                       BurnArrivalRasterRegistry burnArrivalRasterRegistry,
+                                       @Qualifier("aiPredictionExecutor") Executor executor,
+                                       @Value("${ai-prediction.ingest.max-dispatched-fires:50}") int maxDispatchedFires,
+                                       @Value("${ai-prediction.ingest.heavy-cell-threshold:20000}") int heavyCellThreshold,
+                                       @Value("${ai-prediction.ingest.max-heavy-writers:2}") int maxHeavyWriters,
+                                       @Value("${ai-prediction.ingest.retry-initial-delay-ms:1000}") long retryInitialDelayMillis,
+                                       @Value("${ai-prediction.ingest.retry-max-delay-ms:60000}") long retryMaxDelayMillis,
+                                       @Value("${ai-prediction.ingest.retry-budget-ms:300000}") long retryBudgetMillis) {
+        this.aiPredictionService = aiPredictionService;
+        this.journal = journal;
+        this.ingestMetrics = ingestMetrics;
+        this.burnArrivalRasterRegistry = burnArrivalRasterRegistry;
+        this.executor = executor;
+        this.maxDispatchedFires = maxDispatchedFires;
+        this.heavyCellThreshold = heavyCellThreshold;
+        this.maxHeavyWriters = maxHeavyWriters;
+        this.heavyWriters = new Semaphore(maxHeavyWriters);
+        this.retryInitialDelayMillis = Math.max(1, retryInitialDelayMillis);
+        this.retryMaxDelayMillis = Math.max(this.retryInitialDelayMillis, retryMaxDelayMillis);
+        this.retryBudgetMillis = retryBudgetMillis;
+    }
+
+    @PreDestroy
+    public void stop() {
+        retryExecutor.shutdownNow();
+    }
+
+    // 예측 payload 등록 (거절 시 REJECTED 반환, 거절된 payload의 저널 ack는 호출자 책임)
+    public SubmitResult submit(FirePredictionRequestDto requestDto, Long journalSeq) {
+        submittedCount.incrementAndGet();
+
+        Enqueued enqueued;
+        synchronized (admissionLock) {
+            enqueued = enqueue(new IngestJob(requestDto, journalSeq), true);
+        }
+        if (enqueued.result == SubmitResult.REJECTED) {
+            rejectedCount.incrementAndGet();
+            log.warn("AI 예측 처리 큐 포화로 거절 - fireId: {}, 대기 화재 수: {}",
+                    requestDto.getFireId(), dispatchedFires.get());
+            return SubmitResult.REJECTED;
+        }
+
+        acceptedCount.incrementAndGet();
+        if (enqueued.slotToDispatch != null) {
+            dispatch(List.of(enqueued.slotToDispatch));
+        }
+        return enqueued.result;
+    }
+
+    // 여러 화재 payload 일괄 등록 (전체 수락 또는 전체 거절)
+    // 새로 등록되는 화재들은 하나의 작업으로 묶여 한 트랜잭션에서 처리됨
+    public SubmitResult submitBatch(List<FirePredictionRequestDto> requestDtos, List<Long> journalSeqs) {
+        submittedCount.addAndGet(requestDtos.size());
+
+        List<FireSlot> group = new ArrayList<>();
+        synchronized (admissionLock) {
+            // 확인 이후 정리된 슬롯이 신규로 다시 등록되어도 그만큼 화재 수가 줄었으므로 한도 유지
+            long newFires = requestDtos.stream()
+                    .map(FirePredictionRequestDto::getFireId)
+                    .distinct()
+                    .filter(fireId -> !slots.containsKey(fireId))
+                    .count();
+            if (dispatchedFires.get() + newFires > maxDispatchedFires) {
+                rejectedCount.addAndGet(requestDtos.size());
+                log.warn("AI 예측 처리 큐 포화로 배치 거절 - {}건, 신규 화재: {}, 대기 화재 수: {}",
+                        requestDtos.size(), newFires, dispatchedFires.get());
+                return SubmitResult.REJECTED;
+            }
+
+            for (int i = 0; i < requestDtos.size(); i++) {
+                Enqueued enqueued = enqueue(new IngestJob(requestDtos.get(i), journalSeqs.get(i)), false);
+                if (enqueued.slotToDispatch != null) {
+                    group.add(enqueued.slotToDispatch);
+                }
+            }
+        }
+        acceptedCount.addAndGet(requestDtos.size());
+
+        if (!group.isEmpty()) {
+            dispatch(group);
+        }
+        return SubmitResult.ACCEPTED;
+    }
+
+    // 화재 슬롯에 payload 등록 (실행기에 새로 등록해야 하는 슬롯이면 함께 반환, admissionLock 안에서 호출)
+    private Enqueued enqueue(IngestJob job, boolean enforceLimit) {
+        FirePredictionRequestDto requestDto = job.requestDto;
+        while (true) {
+            FireSlot slot = slots.computeIfAbsent(requestDto.getFireId(), FireSlot::new);
+
+            synchronized (slot) {
+                if (slot.retired) {
+                    continue;   // 방금 정리된 슬롯이면 새 슬롯으로 재시도
+                }
+
+                if (slot.pending != null) {
+                    // 이미 대기 중인 payload가 있으면 최신 것 하나만 남김
+                    coalescedDropCount.incrementAndGet();
+                    if (!replacesPending(requestDto, slot.pending.requestDto)) {
+                        log.info("대기 중인 payload보다 오래된 payload 폐기 - fireId: {}, type: {}, 시각: {}",
+                                requestDto.getFireId(), requestDto.getEventType(),
+                                FireEventOrdering.eventTimestamp(requestDto));
+                        journal.ack(job.journalSeq);
+                    } else {
+                        log.info("대기 중인 payload를 최신 payload로 교체 - fireId: {}, type: {}, 시각: {}",
+                                requestDto.getFireId(), requestDto.getEventType(),
+                                FireEventOrdering.eventTimestamp(requestDto));
+                        journal.ack(slot.pending.journalSeq);
+                        slot.pending = job;
+                    }
+                    return new Enqueued(SubmitResult.COALESCED, null);
+                }
+
+                if (slot.dispatched) {
+                    // 처리 중인 작업이 끝나면 이어서 처리
+                    slot.pending = job;
+                    queueDepth.incrementAndGet();
+                    return new Enqueued(SubmitResult.ACCEPTED, null);
+                }
+
+                // 신규 화재 슬롯은 한도 내에서만 등록 (배치는 같은 admissionLock 안에서 등록 전에 한도를 확인)
+                if (dispatchedFires.incrementAndGet() > maxDispatchedFires && enforceLimit) {
+                    dispatchedFires.decrementAndGet();
+                    retire(slot);
+                    return new Enqueued(SubmitResult.REJECTED, null);
+                }
+                slot.dispatched = true;
+                slot.pending = job;
+                queueDepth.incrementAndGet();
+                return new Enqueued(SubmitResult.ACCEPTED, slot);
+            }
+        }
+    }
+
+    // 화재 슬롯 묶음을 하나의 작업으로 실행기에 등록 (우선순위는 대기 payload 기준)
+    private void dispatch(List<FireSlot> group) {
+        IngestPriority priority = IngestPriority.HEAVY_UPDATE;
+        boolean heavy = false;
+        for (FireSlot slot : group) {
+            synchronized (slot) {
+                if (slot.pending == null) {
+                    continue;
+                }
+                IngestPriority jobPriority = classify(slot.pending.requestDto);
+                if (jobPriority.ordinal() < priority.ordinal()) {
+                    priority = jobPriority;
+                }
+                heavy |= jobPriority == IngestPriority.HEAVY_UPDATE;
+            }
+        }
+        execute(new IngestTask(group, priority, heavy, taskSequence.incrementAndGet()));
+    }
+
+    // 실행기 큐가 가득 차면(종료 중) 호출 스레드에서 처리
+    private void execute(IngestTask task) {
+        try {
+            executor.execute(task);
+        } catch (TaskRejectedException e) {
+            log.warn("실행기 큐 포화로 호출 스레드에서 처리 - 화재 수: {}", task.group.size());
+            task.run();
+        }
+    }
+
+    // payload 우선순위 분류
+    private IngestPriority classify(FirePredictionRequestDto requestDto) {
+        if (FireEventOrdering.END.equals(requestDto.getEventType())) {
+            return IngestPriority.FIRE_END;
+        }
+        if (countCells(requestDto) >= heavyCellThreshold) {
+            return IngestPriority.HEAVY_UPDATE;
+        }
+        // 진행 중 화재 목록에 없으면 신규 발화 (종료 후 재발화 포함)
+        if (!burnArrivalRasterRegistry.contains(requestDto.getFireId())) {
+            return IngestPriority.NEW_IGNITION;
+        }
+        return IngestPriority.UPDATE;
+    }
+
+    private boolean containsHeavyPayload(List<FireSlot> group) {
+        for (FireSlot slot : group) {
+            synchronized (slot) {
+                if (slot.pending != null && classify(slot.pending.requestDto) == IngestPriority.HEAVY_UPDATE) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int countCells(FirePredictionRequestDto requestDto) {
+        if (requestDto.getPredictions() == null) {
+            return 0;
+        }
+        int count = 0;
+        for (PredictionDto prediction : requestDto.getPredictions()) {
+            if (prediction.getPredictedCells() != null) {
+                count += prediction.getPredictedCells().size();
+            }
+        }
+        return count;
+    }
+
+    // 대용량 갱신 실행 (한도 초과 시 대기열에 넣고 스레드 반환, 처리 중인 작업이 끝나면 재등록)
+    private void runHeavy(IngestTask task) {
+        if (!heavyWriters.tryAcquire()) {
+            deferredHeavyTasks.add(task);
+            heavyDeferredCount.incrementAndGet();
+            log.info("대용량 갱신 처리 한도 도달, 대기 - 화재 수: {}, 대기 작업: {}",
+                    task.group.size(), deferredHeavyTasks.size());
+
+            // 대기열에 넣는 사이 허가가 반납되었으면 직접 꺼내서 처리 (재등록 누락 방지)
+            if (!heavyWriters.tryAcquire()) {
+                return;
+            }
+            task = deferredHeavyTasks.poll();
+            if (task == null) {
+                heavyWriters.release();
+                return;
+            }
+        }
+
+        try {
+            drain(task.group);
+        } finally {
+            heavyWriters.release();
+            IngestTask next = deferredHeavyTasks.poll();
+            if (next != null) {
+                execute(next);
+            }
+        }
+    }
+
+    // 슬롯들의 대기 payload를 꺼내 처리
+    private void drain(List<FireSlot> group) {
+        List<IngestJob> jobs = new ArrayList<>(group.size());
+        for (FireSlot slot : group) {
+            synchronized (slot) {
+                if (slot.pending != null) {
+                    jobs.add(slot.pending);
+                    slot.pending = null;
+                    queueDepth.decrementAndGet();
+                }
+            }
+        }
+
+        Map<String, IngestJob> failed = runJobs(jobs);
+
+        // 다음 payload가 들어온 화재는 개별 작업으로 큐 맨 뒤에 재등록 (다른 화재가 먼저 처리되도록)
+        // 재시도할 화재는 backoff 후 재등록 (대기 중에도 슬롯은 유지, 그 사이 들어온 최신 payload는 병합)
+        List<FireSlot> continuing = new ArrayList<>();
+        Map<FireSlot, Long> delayed = new HashMap<>();
+        for (FireSlot slot : group) {
+            synchronized (slot) {
+                IngestJob failedJob = failed.get(slot.fireId);
+                long retryDelay = failedJob != null ? requeueOrDeadLetter(slot, failedJob) : 0;
+                if (retryDelay > 0) {
+                    delayed.put(slot, retryDelay);
+                } else if (slot.pending == null) {
+                    retire(slot);
+                } else {
+                    continuing.add(slot);
+                }
+            }
+        }
+        for (FireSlot slot : continuing) {
+            dispatch(List.of(slot));
+        }
+        delayed.forEach((slot, retryDelay) -> scheduleRetry(() -> dispatch(List.of(slot)), retryDelay));
+    }
+
+    // 재시도 작업을 delayMillis 뒤에 실행기에 등록
+    void scheduleRetry(Runnable retry, long delayMillis) {
+        retryExecutor.schedule(retry, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 재시도 시간 한도 계산용 현재 시각
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    // payload 처리 (2건 이상이면 한 트랜잭션으로 일괄 처리, 실패 시 개별 처리로 재시도)
+    // 성공한 payload만 저널 ack, 실패한 작업은 fireId별로 반환
+    private Map<String, IngestJob> runJobs(List<IngestJob> jobs) {
+        Map<String, IngestJob> failed = new HashMap<>();
+        if (jobs.isEmpty()) {
+            return failed;
+        }
+
+        inFlight.addAndGet(jobs.size());
+        try {
+            if (jobs.size() > 1) {
+                try {
+                    aiPredictionService.processAIPredictionBatch(jobs.stream().map(job -> job.requestDto).toList());
+                    processedCount.addAndGet(jobs.size());
+                    batchCount.incrementAndGet();
+                    jobs.forEach(job -> journal.ack(job.journalSeq));
+                    return failed;
+                } catch (Exception e) {
+                    log.warn("AI 예측 배치 처리 실패, 개별 처리로 재시도 - {}건, error: {}", jobs.size(), e.getMessage());
+                }
+            }
+
+            for (IngestJob job : jobs) {
+                if (runSingle(job)) {
+                    journal.ack(job.journalSeq);
+                } else {
+                    failed.put(job.requestDto.getFireId(), job);
+                }
+            }
+            return failed;
+        } finally {
+            inFlight.addAndGet(-jobs.size());
+        }
+    }
+
+    private boolean runSingle(IngestJob job) {
+        job.attempts++;
+        try {
+            aiPredictionService.processAIPrediction(job.requestDto);
+            processedCount.incrementAndGet();
+            return true;
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.error("AI 예측 처리 작업 실패 - fireId: {}, 시도: {}, error: {}",
+                    job.requestDto.getFireId(), job.attempts, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    // 실패한 payload 재시도 등록 (slot 락을 잡은 상태에서 호출), 재시도 대기 시간(ms) 반환 (재시도하지 않으면 0)
+    // 그 사이 더 최신 payload가 들어왔으면 실패한 payload는 대체된 것으로 보고 ack
+    private long requeueOrDeadLetter(FireSlot slot, IngestJob failedJob) {
+        if (slot.pending != null && replacesPending(slot.pending.requestDto, failedJob.requestDto)) {
+            coalescedDropCount.incrementAndGet();
+            journal.ack(failedJob.journalSeq);
+            return 0;
+        }
+
+        long now = currentTimeMillis();
+        if (failedJob.firstFailedAt < 0) {
+            failedJob.firstFailedAt = now;
+        }
+        long retryDelay = retryDelayMillis(failedJob.attempts);
+        if (now + retryDelay - failedJob.firstFailedAt > retryBudgetMillis) {
+            deadLetteredCount.incrementAndGet();
+            log.warn("AI 예측 재시도 시간 초과로 dead-letter - fireId: {}, 시도: {}, 첫 실패 후 {}ms",
+                    failedJob.requestDto.getFireId(), failedJob.attempts, now - failedJob.firstFailedAt);
+            journal.deadLetter(failedJob.journalSeq, failedJob.requestDto);
+            return 0;
+        }
+
+        retriedCount.incrementAndGet();
+        if (slot.pending != null) {
+            // 대기 중인 payload가 실패한 payload보다 과거이면 실패한 payload를 다시 처리
+            coalescedDropCount.incrementAndGet();
+            journal.ack(slot.pending.journalSeq);
+        } else {
+            queueDepth.incrementAndGet();
+        }
+        slot.pending = failedJob;
+        log.info("AI 예측 재시도 예약 - fireId: {}, 시도: {}, {}ms 후", slot.fireId, failedJob.attempts, retryDelay);
+        return retryDelay;
+    }
+
+    // 지수 backoff (initial, 2 x initial, 4 x initial, ... 상한 retry-max-delay-ms)
+    private long retryDelayMillis(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        long delay = retryInitialDelayMillis << shift;
+        return delay <= 0 ? retryMaxDelayMillis : Math.min(delay, retryMaxDelayMillis);
+    }
+
+    // 슬롯 정리 (slot 락을 잡은 상태에서 호출)
+    private void retire(FireSlot slot) {
+        if (slot.dispatched) {
+            slot.dispatched = false;
+            dispatchedFires.decrementAndGet();
+        }
+        slot.retired = true;
+        slots.remove(slot.fireId, slot);
+    }
+
+    // 새 payload가 대기 중인 payload를 대체하는지 (예측/종료 구분 없이 이벤트 시각 비교)
+    // 대기 중인 종료는 종료 시각보다 뒤에 추론된 예측만 대체, 시각을 모르는 예측으로는 대체하지 않음
+    static boolean replacesPending(FirePredictionRequestDto incoming, FirePredictionRequestDto pending) {
+        if (FireEventOrdering.isOlder(incoming, pending)) {
+            return false;
+        }
+        if (FireEventOrdering.END.equals(pending.getEventType())
+                && !FireEventOrdering.END.equals(incoming.getEventType())) {
+            return FireEventOrdering.eventTimestamp(incoming) != null
+                    && FireEventOrdering.eventTimestamp(pending) != null;
+        }
+        return true;
+    }
+
+    // 처리율 샘플링 (Retry-After 계산용)
+    @Scheduled(fixedRate = DRAIN_RATE_SAMPLE_MILLIS)
+    public synchronized void sampleDrainRate() {
+        long processed = processedCount.get() + failedCount.get();
+        double currentRate = (processed - lastSampledProcessed) * 1000.0 / DRAIN_RATE_SAMPLE_MILLIS;
+        lastSampledProcessed = processed;
+        drainRatePerSecond = DRAIN_RATE_SMOOTHING * currentRate + (1 - DRAIN_RATE_SMOOTHING) * drainRatePerSecond;
+    }
+
+    // 현재 대기량과 처리율로 재시도 대기 시간(초) 계산
+    public long getRetryAfterSeconds() {
+        double rate = drainRatePerSecond;
+        if (rate <= 0) {
+            return MAX_RETRY_AFTER_SECONDS;
+        }
+        long seconds = (long) Math.ceil(queueDepth.get() / rate);
+        return Math.max(MIN_RETRY_AFTER_SECONDS, Math.min(MAX_RETRY_AFTER_SECONDS, seconds));
+    }
+
+    // 처리 현황 조회
+    public IngestStatsResponse getStats() {
+        return IngestStatsResponse.builder()
+                .queueDepth(queueDepth.get())
+                .inFlight(inFlight.get())
+                .activeFireSlots(slots.size())
+                .submittedCount(submittedCount.get())
+                .processedCount(processedCount.get())
+                .failedCount(failedCount.get())
+                .retriedCount(retriedCount.get())
+                .deadLetteredCount(deadLetteredCount.get())
+                .coalescedDropCount(coalescedDropCount.get())
+                .acceptedCount(acceptedCount.get())
+                .rejectedCount(rejectedCount.get())
+                .batchCount(batchCount.get())
+                .maxDispatchedFires(maxDispatchedFires)
+                .drainRatePerSecond(drainRatePerSecond)
+                .journalOutstandingCount(journal.getOutstandingCount())
+                .compressedRequestCount(ingestMetrics.getCompressedRequestCount())
+                .compressedBytes(ingestMetrics.getCompressedBytes())
+                .decompressedBytes(ingestMetrics.getDecompressedBytes())
+                .skippedDuplicateCount(ingestMetrics.getSkippedDuplicateCount())
+                .skippedStaleCount(ingestMetrics.getSkippedStaleCount())
+                .heavyCellThreshold(heavyCellThreshold)
+                .maxHeavyWriters(maxHeavyWriters)
+                .activeHeavyWriters(maxHeavyWriters - heavyWriters.availablePermits())
+                .deferredHeavyTasks(deferredHeavyTasks.size())
+                .heavyDeferredCount(heavyDeferredCount.get())
+                .build();
+    }
+
+    public enum SubmitResult {
+        ACCEPTED,   // 처리 큐에 등록
+        COALESCED,  // 대기 중인 같은 화재 payload와 병합
+        REJECTED    // 처리 큐 포화로 거절
+    }
+
+    // 실행기 큐 우선순위 (선언 순서가 처리 순서)
+    public enum IngestPriority {
+        FIRE_END,       // 화재 종료 (사용자에게 바로 보여야 하는 상태 변경)
+        NEW_IGNITION,   // 신규 발화 / 재발화
+        UPDATE,         // 진행 중 화재 갱신
+        HEAVY_UPDATE    // 대용량 갱신 (heavy-cell-threshold 이상)
+    }
+
+    // 슬롯 등록 결과
+    private record Enqueued(SubmitResult result, FireSlot slotToDispatch) {
+    }
+
+    // 실행기에 등록되는 작업 (화재 슬롯 묶음 1개)
+    private final class IngestTask implements PrioritizedTask {
+        private final List<FireSlot> group;
+        private final IngestPriority priority;
+        private final boolean heavy;
+        private final long sequence;
+
+        private IngestTask(List<FireSlot> group, IngestPriority priority, boolean heavy, long sequence) {
+            this.group = group;
+            this.priority = priority;
+            this.heavy = heavy;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            // 대기 중 최신 payload로 교체되어 더 이상 대용량이 아니면 한도 없이 처리
+            if (heavy && containsHeavyPayload(group)) {
+                runHeavy(this);
+            } else {
+                drain(group);
+            }
+        }
+
+        @Override
+        public int getPriority() {
+            return priority.ordinal();
+        }
+
+        @Override
+        public long getSequence() {
+            return sequence;
+        }
+    }
+
+    // 처리 대기 payload (저널 시퀀스 포함)
+    private static class IngestJob {
+        private final FirePredictionRequestDto requestDto;
+        private final Long journalSeq;
+        private int attempts;   // 처리 시도 횟수 (실행 스레드에서만 변경)
+        private long firstFailedAt = -1;    // 첫 실패 시각 (재시도 시간 한도 기준)
+
+        private IngestJob(FirePredictionRequestDto requestDto, Long journalSeq) {
+            this.requestDto = requestDto;
+            this.journalSeq = journalSeq;
+        }
+    }
+
+    // 화재별 처리 상태
+    private static class FireSlot {
+        private final String fireId;
+        private IngestJob pending;                  // 다음에 처리할 payload (최신 1개)
+        private boolean dispatched;                 // 실행기에 등록되었거나 처리 중
+        private boolean retired;                    // 맵에서 제거됨
+
+        private FireSlot(String fireId) {
+            this.fireId = fireId;
+        }
+    }
+}
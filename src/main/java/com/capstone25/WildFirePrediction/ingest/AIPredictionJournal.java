@@ -0,0 +1,405 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// AI 예측 payload 선기록(write-ahead) 저널
+// - 응답 전에 payload를 로컬 세그먼트 파일에 append
+// - 처리(커밋)가 끝난 payload는 ack, ack되지 않은 레코드가 없는 세그먼트는 삭제
+// - ack 체크포인트(이 시퀀스 이하는 모두 ack됨)를 checkpoint 파일에 기록, 재시작 시 그 이후 레코드만 재처리
+// - 재시도 한도를 넘겨 실패한 payload는 dead-letter 디렉터리에 JSON으로 남긴 뒤 ack
+// - 재시작 시 남아있는 레코드를 재처리 (AIPredictionJournalReplayer)
+// 레코드 형식: [int 길이][long 시퀀스][JSON payload][int CRC32]
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AIPredictionJournal {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final int RECORD_TRAILER_BYTES = Integer.BYTES;
+    private static final String DEAD_LETTER_DIR = "dead-letter";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String CHECKPOINT_TEMP_FILE = "checkpoint.tmp";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai-prediction.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai-prediction.journal.dir:./data/ai-prediction-journal}")
+    private String journalDir;
+
+    @Value("${ai-prediction.journal.segment-max-bytes:67108864}")
+    private long segmentMaxBytes;   // 기본 64MB
+
+    @Value("${ai-prediction.journal.fsync-policy:ALWAYS}")
+    private FsyncPolicy fsyncPolicy;
+
+    // ack 대기 중인 시퀀스
+    private final ConcurrentSkipListSet<Long> outstanding = new ConcurrentSkipListSet<>();
+
+    // 더 이상 쓰지 않는 세그먼트 (오래된 순)
+    private final Deque<Segment> closedSegments = new ArrayDeque<>();
+
+    // 기동 시 재처리할 레코드
+    private final List<JournalRecord> recoveredRecords = new ArrayList<>();
+
+    private Path directory;
+    private Segment activeSegment;
+    private FileChannel activeChannel;
+    private long nextSeq = 1;
+    private long checkpointSeq;     // 이 시퀀스 이하 레코드는 모두 ack됨 (checkpoint 파일에 기록된 값)
+    private boolean dirty;  // INTERVAL 정책에서 fsync 필요 여부
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            log.info("AI 예측 저널 비활성화");
+            return;
+        }
+
+        directory = Paths.get(journalDir);
+        Files.createDirectories(directory);
+        checkpointSeq = readCheckpoint();
+        nextSeq = checkpointSeq + 1;
+
+        // 기존 세그먼트 복구
+        List<Path> segmentFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            segmentFiles = files
+                    .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : segmentFiles) {
+            Segment segment = recoverSegment(file);
+            if (segment.lastSeq >= segment.firstSeq) {
+                closedSegments.addLast(segment);
+                nextSeq = Math.max(nextSeq, segment.lastSeq + 1);
+            } else {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        rollSegment();
+        truncate();     // 체크포인트 이하 레코드만 남은 세그먼트 정리
+        log.info("AI 예측 저널 open - dir: {}, fsync: {}, 체크포인트: {}, 복구 레코드: {}건",
+                directory.toAbsolutePath(), fsyncPolicy, checkpointSeq, recoveredRecords.size());
+    }
+
+    // payload 기록 후 시퀀스 반환 (비활성화 시 null)
+    public synchronized Long append(FirePredictionRequestDto requestDto) {
+        if (!enabled) {
+            return null;
+        }
+
+        try {
+            long seq = writeRecord(requestDto);
+            syncAfterAppend();
+            return seq;
+        } catch (IOException e) {
+            throw new UncheckedIOException("AI 예측 저널 기록 실패 - fireId: " + requestDto.getFireId(), e);
+        }
+    }
+
+    // 여러 payload 기록 (fsync는 마지막에 1회), 비활성화 시 null 시퀀스 목록 반환
+    public synchronized List<Long> appendAll(List<FirePredictionRequestDto> requestDtos) {
+        List<Long> seqs = new ArrayList<>(requestDtos.size());
+        if (!enabled) {
+            requestDtos.forEach(requestDto -> seqs.add(null));
+            return seqs;
+        }
+
+        try {
+            for (FirePredictionRequestDto requestDto : requestDtos) {
+                seqs.add(writeRecord(requestDto));
+            }
+            syncAfterAppend();
+            return seqs;
+        } catch (IOException e) {
+            throw new UncheckedIOException("AI 예측 저널 배치 기록 실패 - " + requestDtos.size() + "건", e);
+        }
+    }
+
+    // 처리 완료 ack (커밋 완료, 병합으로 폐기, dead-letter 기록 완료)
+    public void ack(Long seq) {
+        if (seq == null) {
+            return;
+        }
+        outstanding.remove(seq);
+        advanceCheckpoint();
+        truncate();
+    }
+
+    // 재시도 한도를 넘긴 payload를 dead-letter 파일로 옮기고 ack
+    // 파일 기록에 실패하면 ack하지 않음 (재기동 시 재처리되도록 저널에 남김)
+    public void deadLetter(Long seq, FirePredictionRequestDto requestDto) {
+        if (seq == null) {
+            return;
+        }
+
+        Path file = directory.resolve(DEAD_LETTER_DIR)
+                .resolve(String.format("%020d-%s.json", seq, requestDto.getFireId()));
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, objectMapper.writeValueAsBytes(requestDto));
+        } catch (IOException e) {
+            log.error("AI 예측 dead-letter 기록 실패 - seq: {}, fireId: {}, error: {}",
+                    seq, requestDto.getFireId(), e.getMessage());
+            return;
+        }
+        log.warn("AI 예측 payload dead-letter 이동 - seq: {}, fireId: {}, file: {}",
+                seq, requestDto.getFireId(), file.getFileName());
+        ack(seq);
+    }
+
+    // 기동 시 복구된 레코드 (한 번만 반환)
+    public synchronized List<JournalRecord> drainRecoveredRecords() {
+        List<JournalRecord> records = new ArrayList<>(recoveredRecords);
+        recoveredRecords.clear();
+        return records;
+    }
+
+    // INTERVAL 정책: 주기적으로 fsync
+    @Scheduled(fixedDelayString = "${ai-prediction.journal.fsync-interval-ms:1000}")
+    public synchronized void flushPeriodically() {
+        if (!enabled || fsyncPolicy != FsyncPolicy.INTERVAL || !dirty) {
+            return;
+        }
+        try {
+            activeChannel.force(false);
+            dirty = false;
+        } catch (IOException e) {
+            log.error("AI 예측 저널 fsync 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (activeChannel == null) {
+            return;
+        }
+        try {
+            if (fsyncPolicy != FsyncPolicy.NONE) {
+                activeChannel.force(false);
+            }
+            activeChannel.close();
+        } catch (IOException e) {
+            log.warn("AI 예측 저널 close 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    public long getOutstandingCount() {
+        return outstanding.size();
+    }
+
+    // 연속으로 ack된 마지막 시퀀스까지 체크포인트 이동
+    // 앞선 레코드가 처리 중이면 그 뒤에 ack된 레코드는 체크포인트에 반영되지 않음 (재시작 시 재처리)
+    private synchronized void advanceCheckpoint() {
+        long lowWater = outstanding.isEmpty() ? nextSeq - 1 : outstanding.first() - 1;
+        if (lowWater <= checkpointSeq) {
+            return;
+        }
+        try {
+            writeCheckpoint(lowWater);
+            checkpointSeq = lowWater;
+        } catch (IOException e) {
+            // 다음 ack에서 다시 시도 (그 사이 재시작하면 이전 체크포인트 이후부터 재처리)
+            log.warn("AI 예측 저널 체크포인트 기록 실패 - seq: {}, error: {}", lowWater, e.getMessage());
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 교체 (기록 도중 죽어도 이전 체크포인트 유지)
+    private void writeCheckpoint(long seq) throws IOException {
+        Path temp = directory.resolve(CHECKPOINT_TEMP_FILE);
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(seq).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsyncPolicy != FsyncPolicy.NONE) {
+                channel.force(false);
+            }
+        }
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        if (bytes.length != Long.BYTES) {
+            log.warn("AI 예측 저널 체크포인트 손상 - 전체 레코드 재처리");
+            return 0;
+        }
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+
+    // ack 대기 레코드가 없는 오래된 세그먼트 삭제
+    private synchronized void truncate() {
+        Long lowest = outstanding.isEmpty() ? null : outstanding.first();
+        while (!closedSegments.isEmpty()) {
+            Segment oldest = closedSegments.peekFirst();
+            if (lowest != null && lowest <= oldest.lastSeq) {
+                return;
+            }
+            closedSegments.pollFirst();
+            try {
+                Files.deleteIfExists(oldest.path);
+                log.info("AI 예측 저널 세그먼트 삭제 - {}", oldest.path.getFileName());
+            } catch (IOException e) {
+                log.warn("AI 예측 저널 세그먼트 삭제 실패 - {}, error: {}", oldest.path, e.getMessage());
+            }
+        }
+    }
+
+    // 레코드 1건 기록
+    private long writeRecord(FirePredictionRequestDto requestDto) throws IOException {
+        byte[] payload = objectMapper.writeValueAsBytes(requestDto);
+        long seq = nextSeq++;
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length + RECORD_TRAILER_BYTES);
+        buffer.putInt(payload.length).putLong(seq).put(payload).putInt((int) crc.getValue());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            activeChannel.write(buffer);
+        }
+
+        outstanding.add(seq);
+        activeSegment.lastSeq = seq;
+        dirty = true;
+        return seq;
+    }
+
+    // fsync 정책 적용 후 필요 시 세그먼트 전환
+    private void syncAfterAppend() throws IOException {
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            activeChannel.force(false);
+            dirty = false;
+        }
+        if (activeChannel.size() >= segmentMaxBytes) {
+            rollSegment();
+        }
+    }
+
+    // 새 세그먼트로 전환
+    private void rollSegment() throws IOException {
+        if (activeChannel != null) {
+            if (fsyncPolicy != FsyncPolicy.NONE) {
+                activeChannel.force(false);
+            }
+            activeChannel.close();
+            if (activeSegment.lastSeq >= activeSegment.firstSeq) {
+                closedSegments.addLast(activeSegment);
+            } else {
+                Files.deleteIfExists(activeSegment.path);
+            }
+        }
+
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSeq, SEGMENT_SUFFIX));
+        activeSegment = new Segment(path, nextSeq);
+        activeChannel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        dirty = false;
+    }
+
+    // 세그먼트 파일을 읽어 레코드 복구 (손상된 꼬리 레코드는 무시)
+    private Segment recoverSegment(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        Segment segment = new Segment(file, Long.MAX_VALUE);
+        segment.lastSeq = Long.MIN_VALUE;
+
+        while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+            int length = buffer.getInt();
+            long seq = buffer.getLong();
+            if (length < 0 || buffer.remaining() < length + RECORD_TRAILER_BYTES) {
+                log.warn("AI 예측 저널 꼬리 레코드 불완전 - {}, seq: {}", file.getFileName(), seq);
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            int storedCrc = buffer.getInt();
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != storedCrc) {
+                log.warn("AI 예측 저널 CRC 불일치 - {}, seq: {}", file.getFileName(), seq);
+                break;
+            }
+
+            // 체크포인트 이하 레코드는 재시작 전에 이미 처리됨
+            if (seq > checkpointSeq) {
+                try {
+                    FirePredictionRequestDto requestDto = objectMapper.readValue(payload, FirePredictionRequestDto.class);
+                    recoveredRecords.add(new JournalRecord(seq, requestDto));
+                    outstanding.add(seq);
+                } catch (IOException e) {
+                    log.error("AI 예측 저널 레코드 역직렬화 실패 - seq: {}, error: {}", seq, e.getMessage());
+                }
+            }
+            segment.firstSeq = Math.min(segment.firstSeq, seq);
+            segment.lastSeq = Math.max(segment.lastSeq, seq);
+        }
+        return segment;
+    }
+
+    public enum FsyncPolicy {
+        ALWAYS,     // 레코드마다 fsync (응답 전 디스크 반영 보장)
+        INTERVAL,   // fsync-interval-ms 주기로 fsync
+        NONE        // OS에 위임
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class JournalRecord {
+        private final long seq;
+        private final FirePredictionRequestDto requestDto;
+    }
+
+    private static class Segment {
+        private final Path path;
+        private long firstSeq;
+        private long lastSeq;
+
+        private Segment(Path path, long firstSeq) {
+            this.path = path;
+            this.firstSeq = firstSeq;
+            this.lastSeq = firstSeq - 1;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import com.capstone25.WildFirePrediction.ingest.AIPredictionIngestScheduler.SubmitResult;
+import com.capstone25.WildFirePrediction.ingest.AIPredictionJournal.JournalRecord;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 기동 시 저널에 남아있는 (ack되지 않은) AI 예측 payload 재처리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AIPredictionJournalReplayer {
+
+    private static final long REPLAY_BACKOFF_MILLIS = 500;  // 처리 큐 포화 시 재시도 간격
+
+    private final AIPredictionJournal journal;
+    private final AIPredictionIngestScheduler ingestScheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replay() {
+        List<JournalRecord> records = journal.drainRecoveredRecords();
+        if (records.isEmpty()) {
+            return;
+        }
+
+        // 재처리는 별도 스레드에서 진행 (기동 지연 방지)
+        Thread replayThread = new Thread(() -> replayRecords(records), "ai-prediction-journal-replay");
+        replayThread.setDaemon(true);
+        replayThread.start();
+    }
+
+    private void replayRecords(List<JournalRecord> records) {
+        log.info("AI 예측 저널 재처리 시작 - {}건", records.size());
+
+        for (JournalRecord record : records) {
+            // 처리 큐가 가득 차 있으면 여유가 생길 때까지 대기 (복구 데이터는 버리지 않음)
+            while (ingestScheduler.submit(record.getRequestDto(), record.getSeq()) == SubmitResult.REJECTED) {
+                try {
+                    Thread.sleep(REPLAY_BACKOFF_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("AI 예측 저널 재처리 중단 - seq: {}", record.getSeq());
+                    return;
+                }
+            }
+        }
+
+        log.info("AI 예측 저널 재처리 등록 완료 - {}건", records.size());
+    }
+}
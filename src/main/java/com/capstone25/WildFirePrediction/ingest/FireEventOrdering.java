@@ -0,0 +1,60 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+
+// 같은 화재의 예측/종료 payload 선후 판단 (재전송, 순서가 뒤바뀐 수신 대비)
+// - 이벤트 시각: 예측(0)은 inference_timestamp, 종료(1)는 ended_timestamp (없으면 completion_timestamp -> inference_timestamp)
+// - 시각은 ISO-8601 문자열 비교, 한쪽이라도 모르면 과거로 판단하지 않음
+public final class FireEventOrdering {
+
+    public static final String PREDICTION = "0";
+    public static final String END = "1";
+
+    private FireEventOrdering() {
+    }
+
+    public static String eventTimestamp(FirePredictionRequestDto requestDto) {
+        return eventTimestamp(requestDto.getEventType(), requestDto.getInferenceTimestamp(),
+                requestDto.getEndedTimestamp(), requestDto.getCompletionTimestamp());
+    }
+
+    public static String eventTimestamp(String eventType, String inferenceTimestamp,
+                                        String endedTimestamp, String completionTimestamp) {
+        if (END.equals(eventType)) {
+            if (endedTimestamp != null) {
+                return endedTimestamp;
+            }
+            return completionTimestamp != null ? completionTimestamp : inferenceTimestamp;
+        }
+        return inferenceTimestamp;
+    }
+
+    // incoming이 latest보다 과거 이벤트이면 true
+    // 종료 후 도착한 예측은 종료 시각보다 뒤에 추론된 경우만 재발화로 인정 (같은 시각이면 종료 전 추론으로 봄)
+    public static boolean isOlder(String incomingType, String incomingTimestamp,
+                                  String latestType, String latestTimestamp) {
+        if (incomingTimestamp == null || latestTimestamp == null) {
+            return false;
+        }
+        int compared = incomingTimestamp.compareTo(latestTimestamp);
+        if (PREDICTION.equals(incomingType) && END.equals(latestType)) {
+            return compared <= 0;
+        }
+        return compared < 0;
+    }
+
+    public static boolean isOlder(FirePredictionRequestDto incoming, FirePredictionRequestDto latest) {
+        return isOlder(incoming.getEventType(), eventTimestamp(incoming), latest.getEventType(), eventTimestamp(latest));
+    }
+
+    // 두 시각 중 나중 시각 (null은 무시)
+    public static String later(String a, String b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
@@ -0,0 +1,345 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 화재별 예측 이력 압축 보관 (로컬 디스크)
+// - 반영된 예측/종료 payload를 화재별 파일에 gzip 멤버로 append (NDJSON, 한 줄 = payload 1개)
+//   gzip 멤버를 이어 붙인 파일은 그 자체로 하나의 gzip 스트림으로 읽힘
+// - 트랜잭션 커밋 직전에 수신 반영 스레드에서 기록하고 fsync (저널 ack 전에 디스크에 남음)
+//   기록 실패 시 트랜잭션이 롤백되어 재시도, 커밋이 실패하면 같은 payload가 두 번 남을 수 있음 (at-least-once)
+//   파일마다 잠금을 두고 멤버 1개를 메모리에서 완성한 뒤 한 번에 append, 완성된 길이를 기록
+// - 조회는 마지막으로 완성된 멤버 끝까지만 읽음 (쓰는 중인 멤버가 잘린 채 전송되지 않음)
+//   기동 후 처음 접근하는 파일은 멤버를 끝까지 검사해 완성 길이를 구하고, 비정상 종료로 잘린 꼬리는 잘라냄
+// - 종료된 화재는 ai_predicted_cell에서 삭제되고 이력은 보관 파일에만 남음
+// - 마지막 기록 후 retention-days가 지난 파일은 삭제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FirePredictionArchive {
+
+    private static final String FILE_PREFIX = "fire-";
+    private static final String FILE_SUFFIX = ".ndjson.gz";
+    private static final int GZIP_HEADER_LENGTH = 10;   // GZIPOutputStream 기본 헤더 (FLG = 0)
+    private static final int GZIP_TRAILER_LENGTH = 8;   // CRC32 + ISIZE
+    private static final int SCAN_BUFFER_SIZE = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai-prediction.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai-prediction.archive.dir:./data/ai-prediction-archive}")
+    private String archiveDir;
+
+    @Value("${ai-prediction.archive.retention-days:365}")
+    private long retentionDays;
+
+    private Path directory;
+
+    // 파일별 잠금 + 마지막으로 완성된 gzip 멤버 끝 위치
+    private final Map<Path, ArchiveFileState> fileStates = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            log.info("AI 예측 이력 보관 비활성화");
+            return;
+        }
+        directory = Paths.get(archiveDir);
+        Files.createDirectories(directory);
+        log.info("AI 예측 이력 보관 open - dir: {}, 보관 기간: {}일", directory.toAbsolutePath(), retentionDays);
+    }
+
+    // payload 보관 (디스크에 fsync한 뒤 반환), 기록 실패 시 UncheckedIOException
+    public void append(List<FirePredictionRequestDto> requestDtos) {
+        if (!enabled) {
+            return;
+        }
+        requestDtos.forEach(this::appendMember);
+    }
+
+    public boolean exists(String fireId) {
+        if (!enabled) {
+            return false;
+        }
+        Path file = archiveFile(fireId);
+        if (!Files.exists(file)) {
+            return false;   // 없는 화재 조회로 파일별 상태가 쌓이지 않도록 먼저 확인
+        }
+        try {
+            return completedLength(file) > 0;
+        } catch (IOException e) {
+            log.warn("AI 예측 이력 확인 실패 - fireId: {}, error: {}", fireId, e.getMessage());
+            return false;
+        }
+    }
+
+    // 보관 파일을 그대로 전송 (gzip, 클라이언트가 압축 해제)
+    public void copyCompressed(String fireId, OutputStream out) throws IOException {
+        try (InputStream in = openCompleted(archiveFile(fireId))) {
+            in.transferTo(out);
+        }
+    }
+
+    // 보관 파일을 압축 해제해서 전송 (NDJSON)
+    public void copyDecompressed(String fireId, OutputStream out) throws IOException {
+        try (InputStream in = new GZIPInputStream(openCompleted(archiveFile(fireId)), 16 * 1024)) {
+            in.transferTo(out);
+        }
+    }
+
+    // 보관 기간이 지난 파일 삭제 (매일 04시)
+    @Scheduled(cron = "0 0 4 * * *")
+    public void deleteExpired() {
+        if (!enabled) {
+            return;
+        }
+        Instant threshold = Instant.now().minus(Duration.ofDays(retentionDays));
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().startsWith(FILE_PREFIX))
+                    .filter(file -> isModifiedBefore(file, threshold))
+                    .forEach(this::delete);
+        } catch (IOException e) {
+            log.error("AI 예측 이력 보관 기간 정리 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean isModifiedBefore(Path file, Instant threshold) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(threshold);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void delete(Path file) {
+        ArchiveFileState state = fileState(file);
+        synchronized (state) {
+            try {
+                Files.deleteIfExists(file);
+                state.completedLength = 0;
+                log.info("AI 예측 이력 보관 기간 만료 삭제 - {}", file.getFileName());
+            } catch (IOException e) {
+                log.warn("AI 예측 이력 삭제 실패 - {}, error: {}", file.getFileName(), e.getMessage());
+            }
+        }
+    }
+
+    // payload 1개를 gzip 멤버로 완성한 뒤 파일 잠금 안에서 한 번에 append 후 fsync
+    private void appendMember(FirePredictionRequestDto requestDto) {
+        Path file = archiveFile(requestDto.getFireId());
+        try {
+            ByteArrayOutputStream member = new ByteArrayOutputStream();
+            try (OutputStream gzip = new GZIPOutputStream(member)) {
+                gzip.write(objectMapper.writeValueAsBytes(requestDto));
+                gzip.write('\n');
+            }
+
+            ArchiveFileState state = fileState(file);
+            synchronized (state) {
+                long completed = completedLength(file);
+                try (FileChannel channel = FileChannel.open(file,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                    // 이전 쓰기가 실패해 남은 꼬리가 있으면 완성된 멤버 끝부터 덮어씀
+                    channel.truncate(completed);
+                    channel.position(completed);
+                    ByteBuffer buffer = ByteBuffer.wrap(member.toByteArray());
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                }
+                state.completedLength = completed + member.size();
+            }
+        } catch (IOException e) {
+            log.error("AI 예측 이력 보관 실패 - fireId: {}, error: {}", requestDto.getFireId(), e.getMessage(), e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 완성된 멤버 끝까지만 읽는 스트림 (이후 append되는 멤버는 포함하지 않음)
+    private InputStream openCompleted(Path file) throws IOException {
+        long completed = completedLength(file);
+        return new LimitedInputStream(Files.newInputStream(file), completed);
+    }
+
+    // 마지막으로 완성된 멤버 끝 위치 (처음 접근 시 파일을 검사하고, 잘린 꼬리가 있으면 잘라냄)
+    private long completedLength(Path file) throws IOException {
+        ArchiveFileState state = fileState(file);
+        synchronized (state) {
+            if (state.completedLength >= 0) {
+                return state.completedLength;
+            }
+            if (!Files.exists(file)) {
+                state.completedLength = 0;
+                return 0;
+            }
+
+            long size = Files.size(file);
+            long completed = scanCompletedMembers(file);
+            if (completed < size) {
+                log.warn("AI 예측 이력 파일 끝의 미완성 gzip 멤버 제거 - {}, {} -> {} bytes",
+                        file.getFileName(), size, completed);
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(completed);
+                }
+            }
+            state.completedLength = completed;
+            return completed;
+        }
+    }
+
+    private ArchiveFileState fileState(Path file) {
+        return fileStates.computeIfAbsent(file, key -> new ArchiveFileState());
+    }
+
+    // 앞에서부터 gzip 멤버를 검사해 CRC까지 맞는 마지막 멤버의 끝 위치 반환
+    static long scanCompletedMembers(Path file) throws IOException {
+        Inflater inflater = new Inflater(true);
+        try (PushbackInputStream in = new PushbackInputStream(Files.newInputStream(file), SCAN_BUFFER_SIZE)) {
+            long completed = 0;
+            long memberLength;
+            while ((memberLength = scanMember(in, inflater)) > 0) {
+                completed += memberLength;
+            }
+            return completed;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // 멤버 1개 검사, 완성된 멤버면 길이 반환 (파일 끝/잘림/손상이면 0)
+    private static long scanMember(PushbackInputStream in, Inflater inflater) throws IOException {
+        byte[] header = in.readNBytes(GZIP_HEADER_LENGTH);
+        if (header.length < GZIP_HEADER_LENGTH || (header[0] & 0xFF) != 0x1f || (header[1] & 0xFF) != 0x8b
+                || header[2] != Deflater.DEFLATED || header[3] != 0) {
+            return 0;
+        }
+
+        byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+        byte[] inflated = new byte[SCAN_BUFFER_SIZE];
+        CRC32 crc = new CRC32();
+        int read = 0;
+        inflater.reset();
+        try {
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    read = in.read(buffer);
+                    if (read < 0) {
+                        return 0;
+                    }
+                    inflater.setInput(buffer, 0, read);
+                }
+                int length = inflater.inflate(inflated);
+                crc.update(inflated, 0, length);
+            }
+        } catch (DataFormatException e) {
+            return 0;
+        }
+
+        // 멤버 다음 바이트(마지막으로 읽은 buffer 끝부분)는 다음 읽기로 되돌림
+        int remaining = inflater.getRemaining();
+        if (remaining > 0) {
+            in.unread(buffer, read - remaining, remaining);
+        }
+
+        byte[] trailer = in.readNBytes(GZIP_TRAILER_LENGTH);
+        if (trailer.length < GZIP_TRAILER_LENGTH
+                || ByteBuffer.wrap(trailer).order(ByteOrder.LITTLE_ENDIAN).getInt() != (int) crc.getValue()) {
+            return 0;
+        }
+        return GZIP_HEADER_LENGTH + inflater.getBytesRead() + GZIP_TRAILER_LENGTH;
+    }
+
+    // 지정한 길이까지만 읽는 스트림
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int value = super.read();
+            if (value >= 0) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+
+    // 파일별 잠금 대상 (completedLength < 0이면 아직 검사 전)
+    private static class ArchiveFileState {
+        private long completedLength = -1;
+    }
+
+    // fireId는 파일명으로 안전하도록 URL 인코딩
+    private Path archiveFile(String fireId) {
+        return directory.resolve(FILE_PREFIX + URLEncoder.encode(fireId, StandardCharsets.UTF_8) + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,142 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.capstone25.WildFirePrediction.dto.request.PredictedCellColumns;
+import com.capstone25.WildFirePrediction.util.GridKey;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 화재별 마지막 반영 버전 캐시 (중복/과거 payload를 DB 쓰기 전에 걸러냄)
+// - 버전 = (event_type, 이벤트 시각, payload 내용 해시), 이벤트 시각은 FireEventOrdering 기준
+// - 예측/종료가 바뀌어도 이벤트 시각을 비교 (종료 후 도착한 과거 예측으로 재발화되지 않음)
+// - 커밋이 끝난 payload만 기록 (AIPredictionService에서 afterCommit 시 record 호출)
+// - 종료 후 오래 지난 화재는 제거 (이후 판단은 AIPredictionService의 DB 비교가 담당)
+@Slf4j
+@Component
+public class PredictionVersionCache {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Map<String, FireVersion> versions = new ConcurrentHashMap<>();
+
+    // 종료된 화재 항목 보관 시간
+    @Value("${ai-prediction.version-cache.ended-retention-hours:24}")
+    private long endedRetentionHours;
+
+    // 반영 여부 판단
+    public Decision check(FirePredictionRequestDto requestDto, long contentHash) {
+        FireVersion latest = versions.get(requestDto.getFireId());
+        if (latest == null) {
+            return Decision.APPLY;
+        }
+
+        if (latest.contentHash == contentHash) {
+            return Decision.DUPLICATE;
+        }
+        if (FireEventOrdering.isOlder(requestDto.getEventType(), FireEventOrdering.eventTimestamp(requestDto),
+                latest.eventType, latest.eventTimestamp)) {
+            return Decision.STALE;
+        }
+        return Decision.APPLY;
+    }
+
+    // 커밋 완료된 payload 버전 기록 (이벤트 시각은 지금까지 반영된 것 중 가장 나중 시각 유지)
+    public void record(FirePredictionRequestDto requestDto, long contentHash) {
+        String eventTimestamp = FireEventOrdering.eventTimestamp(requestDto);
+        versions.compute(requestDto.getFireId(), (fireId, previous) -> new FireVersion(
+                requestDto.getEventType(),
+                previous != null ? FireEventOrdering.later(previous.eventTimestamp, eventTimestamp) : eventTimestamp,
+                contentHash,
+                System.currentTimeMillis()));
+    }
+
+    // 종료 후 보관 시간이 지난 화재 제거
+    @Scheduled(cron = "0 15 * * * *")
+    public void evictEndedFires() {
+        long expireBefore = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(endedRetentionHours);
+        int before = versions.size();
+        versions.values().removeIf(version ->
+                FireEventOrdering.END.equals(version.eventType) && version.recordedAt < expireBefore);
+        int evicted = before - versions.size();
+        if (evicted > 0) {
+            log.info("종료된 화재 버전 캐시 정리 - {}건", evicted);
+        }
+    }
+
+    public int size() {
+        return versions.size();
+    }
+
+    // payload 내용 해시 (64bit FNV-1a, 셀은 격자 셀 키 + 확률로 계산)
+    public static long computeContentHash(FirePredictionRequestDto requestDto) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, requestDto.getEventType());
+        hash = mix(hash, requestDto.getFireTimestamp());
+        hash = mix(hash, requestDto.getInferenceTimestamp());
+        hash = mix(hash, requestDto.getModel());
+        hash = mix(hash, requestDto.getEndedTimestamp());
+        hash = mix(hash, requestDto.getCompletionTimestamp());
+        hash = mix(hash, requestDto.getEndReason());
+        hash = mix(hash, requestDto.getLastStatus());
+        hash = mix(hash, requestDto.getLastStatusCode());
+        if (requestDto.getFireLocation() != null) {
+            hash = mix(hash, bits(requestDto.getFireLocation().getLat()));
+            hash = mix(hash, bits(requestDto.getFireLocation().getLon()));
+        }
+
+        if (requestDto.getPredictions() != null) {
+            for (PredictionDto prediction : requestDto.getPredictions()) {
+                hash = mix(hash, prediction.getTimestep() != null ? prediction.getTimestep() : -1);
+                hash = mix(hash, prediction.getTimestamp());
+                if (prediction.getPredictedCells() == null) {
+                    continue;
+                }
+                PredictedCellColumns cells = PredictedCellColumns.of(prediction.getPredictedCells());
+                for (int i = 0; i < cells.size(); i++) {
+                    hash = mix(hash, GridKey.of(cells.getLat(i), cells.getLon(i)));
+                    hash = mix(hash, Double.doubleToLongBits(cells.getProbability(i)));
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static long bits(Double value) {
+        return value != null ? Double.doubleToLongBits(value) : Long.MIN_VALUE;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, 0L);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash, value.length());
+    }
+
+    public enum Decision {
+        APPLY,      // 반영
+        DUPLICATE,  // 마지막 반영 payload와 동일 (재전송)
+        STALE       // 마지막 반영 payload보다 과거 추론 결과
+    }
+
+    private record FireVersion(String eventType, String eventTimestamp, long contentHash, long recordedAt) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import java.util.Comparator;
+
+// 우선순위 실행기(aiPredictionExecutor) 큐 정렬 기준
+// - priority가 작을수록 먼저, 같으면 먼저 등록된 작업부터 (FIFO)
+// - 우선순위가 없는 작업(일반 Runnable, @Async 등)은 가장 뒤
+public interface PrioritizedTask extends Runnable {
+
+    Comparator<Runnable> ORDER = Comparator
+            .comparingInt((Runnable task) -> task instanceof PrioritizedTask prioritized
+                    ? prioritized.getPriority() : Integer.MAX_VALUE)
+            .thenComparingLong(task -> task instanceof PrioritizedTask prioritized
+                    ? prioritized.getSequence() : Long.MAX_VALUE);
+
+    int getPriority();
+
+    long getSequence();
+}
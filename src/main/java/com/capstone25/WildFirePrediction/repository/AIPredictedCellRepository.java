@@ -1,6 +1,7 @@
 package com.capstone25.WildFirePrediction.repository;
 
 import com.capstone25.WildFirePrediction.domain.AIPredictedCell;
+import com.capstone25.WildFirePrediction.dto.projection.PredictedCellProjection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,12 +10,20 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AIPredictedCellRepository extends JpaRepository<AIPredictedCell, Long> {
+public interface AIPredictedCellRepository extends JpaRepository<AIPredictedCell, Long>,
+        AIPredictedCellRepositoryCustom {
 
     // 특정 화재의 모든 예측 셀 조회
     @Query("SELECT c FROM AIPredictedCell c WHERE c.fire.id = :fireId")
     List<AIPredictedCell> findByFireId(@Param("fireId") Long fireId);
 
+    // 특정 화재의 예측 셀 diff 비교용 경량 조회 (geom 제외)
+    @Query("SELECT c.id AS id, c.timeStep AS timeStep, c.latitude AS latitude, c.longitude AS longitude, "
+            + "c.gridKey AS gridKey, "
+            + "c.predictedTimestamp AS predictedTimestamp, c.probability AS probability "
+            + "FROM AIPredictedCell c WHERE c.fire.id = :fireId")
+    List<PredictedCellProjection> findCellStatesByFireId(@Param("fireId") Long fireId);
+
     // 특정 화재의 모든 예측 셀 삭제
     @Modifying
     @Query("DELETE FROM AIPredictedCell c WHERE c.fire.id = :fireId")
@@ -0,0 +1,19 @@
+package com.capstone25.WildFirePrediction.repository;
+
+import com.capstone25.WildFirePrediction.domain.AIPredictedCell;
+import java.util.List;
+
+public interface AIPredictedCellRepositoryCustom {
+
+    // 예측 셀 벌크 INSERT (IDENTITY 전략으로 JPA 배치가 불가하여 JDBC 직접 사용)
+    int bulkInsertCells(Long fireId, List<AIPredictedCell> cells);
+
+    // 예측 셀 확률/예상 시각 벌크 UPDATE (id 기준)
+    int bulkUpdateCells(List<AIPredictedCell> cells);
+
+    // 예측 셀 벌크 DELETE (id 기준)
+    int bulkDeleteCells(List<Long> cellIds);
+
+    // 테이블 크기 조회 (data + index 바이트, 저장 방식 비교용)
+    long findTableSizeBytes(String tableName);
+}
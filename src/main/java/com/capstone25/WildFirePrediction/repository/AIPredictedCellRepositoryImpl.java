@@ -0,0 +1,132 @@
+package com.capstone25.WildFirePrediction.repository;
+
+import com.capstone25.WildFirePrediction.domain.AIPredictedCell;
+import com.capstone25.WildFirePrediction.util.GridKey;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+@RequiredArgsConstructor
+public class AIPredictedCellRepositoryImpl implements AIPredictedCellRepositoryCustom {
+
+    private static final int CHUNK_SIZE = 1000;  // 한 번의 SQL(또는 배치)에 담을 최대 row 수
+    private static final int PARAMS_PER_ROW = 9;        // ROW_PLACEHOLDER의 ? 개수
+
+    private static final String INSERT_PREFIX = "INSERT INTO ai_predicted_cell "
+            + "(latitude, longitude, geom, grid_key, time_step, predicted_timestamp, probability, fire_id, created_at, updated_at) "
+            + "VALUES ";
+
+    // geom은 SQL에서 생성 (x = 경도, y = 위도, SRID 4326 - 엔티티의 generateGeom과 동일)
+    private static final String ROW_PLACEHOLDER =
+            "(?, ?, ST_SRID(POINT(?, ?), 4326), ?, ?, ?, ?, ?, NOW(6), NOW(6))";
+
+    private static final String UPDATE_SQL = "UPDATE ai_predicted_cell "
+            + "SET probability = ?, predicted_timestamp = ?, updated_at = NOW(6) WHERE id = ?";
+
+    private static final String TABLE_SIZE_SQL = "SELECT COALESCE(SUM(data_length + index_length), 0) "
+            + "FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int bulkInsertCells(Long fireId, List<AIPredictedCell> cells) {
+        if (cells == null || cells.isEmpty()) {
+            return 0;
+        }
+
+        long startNanos = System.nanoTime();
+        int inserted = 0;
+
+        // 멀티 row INSERT를 청크 단위로 실행 (드라이버 rewriteBatchedStatements 설정과 무관)
+        for (int from = 0; from < cells.size(); from += CHUNK_SIZE) {
+            List<AIPredictedCell> chunk = cells.subList(from, Math.min(from + CHUNK_SIZE, cells.size()));
+            inserted += jdbcTemplate.update(buildInsertSql(chunk.size()), buildInsertArgs(fireId, chunk));
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("예측 셀 벌크 INSERT 완료 - fire.id: {}, row 수: {}, 소요: {}ms, 처리량: {} rows/sec",
+                fireId, inserted, elapsedMillis, inserted * 1000L / elapsedMillis);
+
+        return inserted;
+    }
+
+    @Override
+    public int bulkUpdateCells(List<AIPredictedCell> cells) {
+        if (cells == null || cells.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(UPDATE_SQL, cells, CHUNK_SIZE, (ps, cell) -> {
+            ps.setDouble(1, cell.getProbability());
+            ps.setString(2, cell.getPredictedTimestamp());
+            ps.setLong(3, cell.getId());
+        });
+        return sumAffectedRows(results);
+    }
+
+    @Override
+    public int bulkDeleteCells(List<Long> cellIds) {
+        if (cellIds == null || cellIds.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = 0;
+        for (int from = 0; from < cellIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = cellIds.subList(from, Math.min(from + CHUNK_SIZE, cellIds.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            deleted += jdbcTemplate.update(
+                    "DELETE FROM ai_predicted_cell WHERE id IN (" + placeholders + ")", chunk.toArray());
+        }
+        return deleted;
+    }
+
+    @Override
+    public long findTableSizeBytes(String tableName) {
+        Long size = jdbcTemplate.queryForObject(TABLE_SIZE_SQL, Long.class, tableName);
+        return size != null ? size : 0L;
+    }
+
+    // 배치 결과 합산 (드라이버가 SUCCESS_NO_INFO(-2)를 주면 1건으로 간주)
+    private int sumAffectedRows(int[][] results) {
+        int total = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                total += count >= 0 ? count : 1;
+            }
+        }
+        return total;
+    }
+
+    private String buildInsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rowCount * (ROW_PLACEHOLDER.length() + 1));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+
+    private Object[] buildInsertArgs(Long fireId, List<AIPredictedCell> chunk) {
+        Object[] args = new Object[chunk.size() * PARAMS_PER_ROW];
+        int i = 0;
+        for (AIPredictedCell cell : chunk) {
+            args[i++] = cell.getLatitude();
+            args[i++] = cell.getLongitude();
+            args[i++] = cell.getLongitude();   // POINT(x, y)
+            args[i++] = cell.getLatitude();
+            args[i++] = cell.getGridKey() != null
+                    ? cell.getGridKey() : GridKey.of(cell.getLatitude(), cell.getLongitude());
+            args[i++] = cell.getTimeStep();
+            args[i++] = cell.getPredictedTimestamp();
+            args[i++] = cell.getProbability();
+            args[i++] = fireId;
+        }
+        return args;
+    }
+}
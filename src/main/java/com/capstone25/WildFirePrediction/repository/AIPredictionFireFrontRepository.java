@@ -0,0 +1,28 @@
+package com.capstone25.WildFirePrediction.repository;
+
+import com.capstone25.WildFirePrediction.domain.AIPredictionFireFront;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AIPredictionFireFrontRepository extends JpaRepository<AIPredictionFireFront, Long> {
+
+    // 진행중인 모든 화재의 화선 폴리곤 조회
+    @Query("SELECT ff FROM AIPredictionFireFront ff "
+            + "JOIN FETCH ff.fire f "
+            + "WHERE f.status = 'PROGRESS' "
+            + "ORDER BY f.id, ff.timeStep")
+    List<AIPredictionFireFront> findAllProgressFireFronts();
+
+    // 외접 사각형이 좌표를 포함하는 진행 중 화재 화선 폴리곤 (정확한 포함 여부는 호출 측에서 확인)
+    @Query("SELECT ff FROM AIPredictionFireFront ff "
+            + "JOIN FETCH ff.fire f "
+            + "WHERE f.status = 'PROGRESS' "
+            + "AND ff.minLat <= :lat AND ff.maxLat >= :lat "
+            + "AND ff.minLon <= :lon AND ff.maxLon >= :lon")
+    List<AIPredictionFireFront> findProgressFireFrontsWithBoundsContaining(@Param("lat") double lat,
+                                                                           @Param("lon") double lon);
+}
@@ -4,8 +4,10 @@ import com.capstone25.WildFirePrediction.domain.AIPredictionFire;
 import com.capstone25.WildFirePrediction.domain.enums.FireStatus;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -26,6 +28,28 @@ public interface AIPredictionFireRepository extends JpaRepository<AIPredictionFi
             + " WHERE f.status = 'PROGRESS'")
     List<AIPredictionFire> findAllProgressFiresWithCells();
 
+    // 진행중인 모든 화재 조회 (압축 예측 셀 포함)
+    @Query("SELECT DISTINCT f FROM AIPredictionFire f"
+            + " LEFT JOIN FETCH f.timestepBlobs"
+            + " WHERE f.status = 'PROGRESS'")
+    List<AIPredictionFire> findAllProgressFiresWithTimestepBlobs();
+
+    // 진행중인 화재 PK 조회 (최근 등록 순, 저장 방식 비교용 표본 선택)
+    @Query("SELECT f.id FROM AIPredictionFire f WHERE f.status = 'PROGRESS' ORDER BY f.id DESC")
+    List<Long> findProgressFireIds(Pageable pageable);
+
+    // 지정한 화재 조회 (예측셀 포함)
+    @Query("SELECT DISTINCT f FROM AIPredictionFire f"
+            + " LEFT JOIN FETCH f.predictedCells"
+            + " WHERE f.id IN :ids")
+    List<AIPredictionFire> findAllByIdInWithCells(@Param("ids") List<Long> ids);
+
+    // 지정한 화재 조회 (압축 예측 셀 포함)
+    @Query("SELECT DISTINCT f FROM AIPredictionFire f"
+            + " LEFT JOIN FETCH f.timestepBlobs"
+            + " WHERE f.id IN :ids")
+    List<AIPredictionFire> findAllByIdInWithTimestepBlobs(@Param("ids") List<Long> ids);
+
     // 특정 화재 ID와 상태로 조회
     Optional<AIPredictionFire> findByFireIdAndStatus(String fireId, FireStatus status);
 
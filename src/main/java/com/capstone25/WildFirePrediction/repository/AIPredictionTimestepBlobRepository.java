@@ -0,0 +1,19 @@
+package com.capstone25.WildFirePrediction.repository;
+
+import com.capstone25.WildFirePrediction.domain.AIPredictionTimestepBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AIPredictionTimestepBlobRepository extends JpaRepository<AIPredictionTimestepBlob, Long> {
+
+    // 압축 저장된 전체 셀 개수
+    @Query("SELECT COALESCE(SUM(b.cellCount), 0) FROM AIPredictionTimestepBlob b")
+    long sumCellCount();
+
+    // 압축 셀 바이트 합계
+    @Query(value = "SELECT COALESCE(SUM(OCTET_LENGTH(encoded_cells)), 0) FROM ai_prediction_timestep_blob",
+            nativeQuery = true)
+    long sumEncodedBytes();
+}
@@ -0,0 +1,27 @@
+package com.capstone25.WildFirePrediction.repository;
+
+import com.capstone25.WildFirePrediction.domain.FireBroadcastEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FireBroadcastEventRepository extends JpaRepository<FireBroadcastEvent, Long> {
+
+    // 마지막으로 전달한 id 이후 이벤트 (id 오름차순)
+    List<FireBroadcastEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 현재 마지막 id (기동 시 폴링 시작 위치)
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM FireBroadcastEvent e")
+    Long findMaxId();
+
+    // 보관 기간이 지난 이벤트 삭제
+    @Modifying
+    @Query("DELETE FROM FireBroadcastEvent e WHERE e.createdAt < :before")
+    int deleteAllCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,35 @@
+package com.capstone25.WildFirePrediction.repository;
+
+import com.capstone25.WildFirePrediction.domain.FireEventOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FireEventOutboxRepository extends JpaRepository<FireEventOutbox, Long> {
+
+    // 미발행 이벤트 id 순 조회 (relay lease를 보유한 노드만 호출하므로 행 잠금 없음)
+    @Query("SELECT o FROM FireEventOutbox o WHERE o.publishedAt IS NULL ORDER BY o.id")
+    List<FireEventOutbox> findUnpublishedForRelay(Pageable pageable);
+
+    // 미발행 이벤트 수
+    long countByPublishedAtIsNull();
+
+    // 가장 오래된 미발행 이벤트 기록 시각 (없으면 null)
+    @Query("SELECT MIN(o.createdAt) FROM FireEventOutbox o WHERE o.publishedAt IS NULL")
+    LocalDateTime findOldestUnpublishedCreatedAt();
+
+    @Modifying
+    @Query("UPDATE FireEventOutbox o SET o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    // 보관 기간이 지난 발행 완료 이벤트 삭제
+    @Modifying
+    @Query("DELETE FROM FireEventOutbox o WHERE o.publishedAt < :before")
+    int deleteAllPublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,27 @@
+package com.capstone25.WildFirePrediction.repository;
+
+import com.capstone25.WildFirePrediction.domain.FireOutboxRelayLease;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FireOutboxRelayLeaseRepository extends JpaRepository<FireOutboxRelayLease, String> {
+
+    // lease 행이 없으면 만료된 상태로 생성
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO fire_outbox_relay_lease (name, holder, expires_at) VALUES (:name, '', :expiresAt)",
+            nativeQuery = true)
+    int createIfAbsent(@Param("name") String name, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 보유 중이거나 만료된 lease 획득/연장
+    // 갱신한 행 잠금은 트랜잭션 끝까지 유지되므로 같은 트랜잭션의 relay 배치는 노드 간에 겹치지 않음
+    @Modifying
+    @Query("UPDATE FireOutboxRelayLease l SET l.holder = :holder, l.expiresAt = :expiresAt "
+            + "WHERE l.name = :name AND (l.holder = :holder OR l.expiresAt < :now)")
+    int acquire(@Param("name") String name, @Param("holder") String holder,
+                @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+}
@@ -2,21 +2,53 @@ package com.capstone25.WildFirePrediction.service;
 
 import com.capstone25.WildFirePrediction.domain.AIPredictedCell;
 import com.capstone25.WildFirePrediction.domain.AIPredictionFire;
+import com.capstone25.WildFirePrediction.domain.AIPredictionFireFront;
+import com.capstone25.WildFirePrediction.domain.AIPredictionTimestepBlob;
+import com.capstone25.WildFirePrediction.domain.enums.CellStorageMode;
 import com.capstone25.WildFirePrediction.domain.enums.FireStatus;
+import com.capstone25.WildFirePrediction.dto.BurnArrivalRaster;
+import com.capstone25.WildFirePrediction.dto.PredictedCellDiff;
+import com.capstone25.WildFirePrediction.dto.projection.PredictedCellProjection;
 import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FireLocationDto;
 import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
-import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
 import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.capstone25.WildFirePrediction.dto.request.PredictedCellColumns;
+import com.capstone25.WildFirePrediction.dto.response.FireEventResponse;
+import com.capstone25.WildFirePrediction.dto.response.FireFrontResponse;
+import com.capstone25.WildFirePrediction.dto.response.FireFrontResponse.FrontDto;
+import com.capstone25.WildFirePrediction.dto.response.PredictionStorageStatsResponse;
+import com.capstone25.WildFirePrediction.ingest.AIPredictionIngestMetrics;
+import com.capstone25.WildFirePrediction.ingest.FireEventOrdering;
+import com.capstone25.WildFirePrediction.ingest.FirePredictionArchive;
+import com.capstone25.WildFirePrediction.ingest.PredictionVersionCache;
+import com.capstone25.WildFirePrediction.ingest.PredictionVersionCache.Decision;
 import com.capstone25.WildFirePrediction.repository.AIPredictedCellRepository;
+import com.capstone25.WildFirePrediction.repository.AIPredictionFireFrontRepository;
 import com.capstone25.WildFirePrediction.repository.AIPredictionFireRepository;
-import com.capstone25.WildFirePrediction.sse.FireSseEmitterRepository;
+import com.capstone25.WildFirePrediction.repository.AIPredictionTimestepBlobRepository;
+import com.capstone25.WildFirePrediction.service.ActiveFireSnapshotService.ActiveFiresChangedEvent;
+import com.capstone25.WildFirePrediction.service.BurnArrivalRasterRegistry.FireRasterChangedEvent;
+import com.capstone25.WildFirePrediction.service.FireFrontUpdater.FireFrontsChangedEvent;
+import com.capstone25.WildFirePrediction.sse.FireEventOutboxRelay;
+import com.capstone25.WildFirePrediction.util.FireFrontPolygonizer;
+import com.capstone25.WildFirePrediction.util.GridKey;
+import com.capstone25.WildFirePrediction.util.PredictedCellBlobCodec;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -30,41 +62,134 @@ public class AIPredictionService {
 
     private final AIPredictionFireRepository fireRepository;
     private final AIPredictedCellRepository cellRepository;
-    private final FireSseEmitterRepository fireSseEmitterRepository;
-
-    // AI 수신 데이터 비동기 처리
-    @Async("aiPredictionExecutor")
+    private final AIPredictionTimestepBlobRepository timestepBlobRepository;
+    private final AIPredictionFireFrontRepository fireFrontRepository;
+    private final FireEventOutboxRelay fireEventOutboxRelay;
+    private final FirePredictionArchive predictionArchive;
+    private final PredictionVersionCache versionCache;
+    private final AIPredictionIngestMetrics ingestMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 예측 셀 저장 방식 (ROWS: 셀당 1행, BLOB: timestep당 압축 1행)
+    @Value("${ai-prediction.storage.mode:ROWS}")
+    private CellStorageMode storageMode;
+
+    // 저장 방식 비교 통계에서 두 방식으로 읽어 볼 최대 화재 수
+    @Value("${ai-prediction.storage-stats.max-sample-fires:20}")
+    private int storageStatsMaxSampleFires;
+
+    // AI 수신 데이터 처리 (AIPredictionIngestScheduler가 aiPredictionExecutor 스레드에서 호출)
     @Transactional
     public void processAIPrediction(FirePredictionRequestDto requestDto) {
+        FireEventResponse event = applyAIPrediction(requestDto);
+
+        // 스냅샷 재생성, SSE 이벤트는 같은 트랜잭션에서 outbox에 기록 (커밋 후 relay가 발행)
+        if (event != null) {
+            eventPublisher.publishEvent(new ActiveFiresChangedEvent());
+            fireEventOutboxRelay.append(List.of(event));
+            registerBeforeCommitArchive(List.of(requestDto));
+        }
+    }
+
+    // 여러 화재 AI 수신 데이터 일괄 처리 (한 트랜잭션, SSE는 배치당 1회)
+    @Transactional
+    public void processAIPredictionBatch(List<FirePredictionRequestDto> requestDtos) {
+        log.info("AI 예측 데이터 배치 처리 시작 - {}건", requestDtos.size());
+
+        List<FireEventResponse> events = new ArrayList<>();
+        for (FirePredictionRequestDto requestDto : requestDtos) {
+            FireEventResponse event = applyAIPrediction(requestDto);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        // 스냅샷 재생성, SSE 이벤트는 outbox 1행으로 기록 (발행 시 1건이면 개별 이벤트, 여러 건이면 fire_batch)
+        if (!events.isEmpty()) {
+            eventPublisher.publishEvent(new ActiveFiresChangedEvent());
+            fireEventOutboxRelay.append(events);
+            registerBeforeCommitArchive(events.stream().map(FireEventResponse::getData).toList());
+        }
+        log.info("AI 예측 데이터 배치 처리 완료 - 요청: {}건, 반영: {}건", requestDtos.size(), events.size());
+    }
+
+    // event_type별 처리 후 발송할 SSE 이벤트 반환 (검증 실패/중복/과거 payload면 null, 처리 중 오류는 예외)
+    private FireEventResponse applyAIPrediction(FirePredictionRequestDto requestDto) {
         log.info("AI 예측 데이터 처리 시작 - fireId: {}, eventType: {}",
                 requestDto.getFireId(), requestDto.getEventType());
 
         try {
-            // event_type으로 분리
+            // 0. 멱등성 검사 (DB 쓰기 전, 마지막 반영 버전과 비교)
+            long contentHash = PredictionVersionCache.computeContentHash(requestDto);
+            if (isAlreadyApplied(requestDto, contentHash)) {
+                return null;
+            }
+
+            // event_type으로 분리 (반영되면 도달 시각 래스터도 커밋 후 교체)
+            String eventName = null;
             if ("0".equals(requestDto.getEventType())) {
-                processFirePrediction(requestDto);
+                if (processFirePrediction(requestDto)) {
+                    eventName = "fire_prediction";
+                    eventPublisher.publishEvent(
+                            new FireRasterChangedEvent(requestDto.getFireId(), BurnArrivalRaster.from(requestDto)));
+                }
             } else if ("1".equals(requestDto.getEventType())) {
-                processFireEnd(requestDto);
+                if (processFireEnd(requestDto)) {
+                    eventName = "fire_end";
+                    eventPublisher.publishEvent(new FireRasterChangedEvent(requestDto.getFireId(), null));
+                }
             } else {
                 log.error("알 수 없는 이벤트 타입: {}", requestDto.getEventType());
             }
 
             log.info("AI 예측 데이터 처리 완료 - fireId: {}", requestDto.getFireId());
-        } catch (Exception e) {
+            if (eventName == null) {
+                return null;
+            }
+
+            // 반영 버전 기록 (트랜잭션 커밋 후, 롤백된 payload는 기록하지 않음)
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versionCache.record(requestDto, contentHash);
+                }
+            });
+            return FireEventResponse.of(eventName, requestDto);
+        } catch (RuntimeException e) {
+            // 트랜잭션 전체 롤백 (JDBC 벌크 쓰기가 일부만 반영된 채 커밋되거나 버전 캐시/outbox가 앞서가지 않도록)
+            // 배치는 AIPredictionIngestScheduler가 화재별 개별 처리로 재시도
             log.error("AI 예측 데이터 처리 실패 - fireId: {}, error: {}",
                     requestDto.getFireId(), e.getMessage(), e);
+            throw e;
         }
     }
 
-    // 화재 예측 데이터 저장 (event_type = 0)
-    @Transactional
-    public void processFirePrediction(FirePredictionRequestDto requestDto) {
+    // 마지막 반영 버전과 동일(재전송)하거나 과거 추론 결과이면 true
+    private boolean isAlreadyApplied(FirePredictionRequestDto requestDto, long contentHash) {
+        Decision decision = versionCache.check(requestDto, contentHash);
+        if (decision == Decision.DUPLICATE) {
+            ingestMetrics.recordSkippedDuplicate();
+            log.info("이미 반영된 payload 재전송, 건너뜀 - fireId: {}, inferenceTimestamp: {}",
+                    requestDto.getFireId(), requestDto.getInferenceTimestamp());
+            return true;
+        }
+        if (decision == Decision.STALE) {
+            ingestMetrics.recordSkippedStale();
+            log.info("과거 추론 결과, 건너뜀 - fireId: {}, inferenceTimestamp: {}",
+                    requestDto.getFireId(), requestDto.getInferenceTimestamp());
+            return true;
+        }
+        return false;
+    }
+
+    // 화재 예측 데이터 저장 (event_type = 0), 반영 여부 반환
+    private boolean processFirePrediction(FirePredictionRequestDto requestDto) {
         String fireId = requestDto.getFireId();
 
         // 1. 데이터 검증
         if (!validatePredictionData(requestDto)) {
             log.error("데이터 검증 실패 - fireId: {}, 처리 중단", fireId);
-            return;
+            return false;
         }
 
         // 2. 기존 데이터 조회
@@ -74,6 +199,12 @@ public class AIPredictionService {
             // 기존 데이터가 있으면 업데이트
             fire = existingFireOpt.get();
 
+            // 캐시에 없는 화재(서버 재시작 직후, 캐시 정리 후 등)는 저장된 화재와 비교해 과거 payload 판별
+            // 종료된 화재는 종료 시각보다 뒤에 추론된 예측만 재발화로 반영
+            if (isOlderThanStored(requestDto, fire)) {
+                return false;
+            }
+
             if (fire.getStatus() == FireStatus.END) {
                 // 재발화
                 log.info("종료된 화재 재발화 - fireId: {}, 상태 PROGRESS로 변경", fireId);
@@ -82,12 +213,6 @@ public class AIPredictionService {
                 log.info("진행중인 화재 최신 데이터로 업데이트 - fireId: {}", fireId);
             }
 
-            // 기존 셀 데이터 초기화 (DB도 삭제)
-            int deletedCount = cellRepository.deleteAllByFireId(fire.getId());
-            fire.getPredictedCells().clear();
-            log.info("기존 예측 셀 벌크 삭제 완료 - fireId: {}, 삭제된 셀 개수: {}",
-                    fireId, deletedCount);
-
             // 화재 정보 업데이트
             fire.updatePredictionData(
                     requestDto.getEventType(),
@@ -103,38 +228,148 @@ public class AIPredictionService {
             fire = convertToFireEntity(requestDto);
         }
 
-        // 3. 예측 셀 추가
-        if (requestDto.getPredictions() != null) {
-            for (PredictionDto prediction : requestDto.getPredictions()) {
-                for (PredictedCellDto cellDto : prediction.getPredictedCells()) {
-                    AIPredictedCell cell = convertToCellEntity(cellDto, prediction);
-                    fire.addPredictedCell(cell);
+        // 3. 화재 정보 저장 (신규 화재는 여기서 PK 확정), 화선 폴리곤은 커밋 후 FireFrontUpdater가 갱신
+        AIPredictionFire savedFire = fireRepository.save(fire);
+        eventPublisher.publishEvent(new FireFrontsChangedEvent(requestDto));
+
+        // 4-1. 압축 저장 방식이면 timestep별 blob으로 교체
+        if (storageMode == CellStorageMode.BLOB) {
+            if (existingFireOpt.isPresent()) {
+                // 저장 방식 전환 전 행 단위로 저장된 셀 정리
+                cellRepository.deleteAllByFireId(savedFire.getId());
+            }
+            int cellCount = applyTimestepBlobs(savedFire, requestDto);
+            log.info("화재 예측 데이터 저장 완료 (압축) - fireId: {}, timestep: {}개, 셀: {}개",
+                    fireId, savedFire.getTimestepBlobs().size(), cellCount);
+            return true;
+        }
+        if (existingFireOpt.isPresent()) {
+            // 저장 방식 전환 전 압축 저장된 셀 정리
+            savedFire.getTimestepBlobs().clear();
+        }
+
+        // 4-2. 저장된 셀과 비교해 변경분만 반영 (전체 삭제 후 재삽입 대신)
+        List<PredictedCellProjection> storedCells = existingFireOpt.isPresent()
+                ? cellRepository.findCellStatesByFireId(savedFire.getId())
+                : List.of();
+        PredictedCellDiff diff = computeCellDiff(requestDto, storedCells);
+        applyCellDiff(savedFire.getId(), diff);
+
+        log.info("화재 예측 데이터 저장 완료 - fireId: {}, 추가: {}, 변경: {}, 삭제: {}, 유지: {}",
+                fireId, diff.getToInsert().size(), diff.getToUpdate().size(),
+                diff.getToDelete().size(), diff.getUnchangedCount());
+        return true;
+    }
+
+    // timestep별 셀을 압축해 화재에 저장, 저장한 셀 개수 반환
+    private int applyTimestepBlobs(AIPredictionFire fire, FirePredictionRequestDto requestDto) {
+        Set<Integer> timeSteps = new HashSet<>();
+        int cellCount = 0;
+        for (PredictionDto prediction : requestDto.getPredictions()) {
+            if (!timeSteps.add(prediction.getTimestep())) {
+                continue;   // 같은 payload 내 중복 timestep은 첫 번째만 사용
+            }
+
+            PredictedCellColumns cells = PredictedCellColumns.of(prediction.getPredictedCells());
+            byte[] encoded = PredictedCellBlobCodec.encode(cells);
+            int encodedCount = PredictedCellBlobCodec.count(encoded);   // 같은 격자 셀 중복 제거 후 셀 수
+            fire.putTimestepBlob(prediction.getTimestep(), prediction.getTimestamp(), encodedCount, encoded);
+            cellCount += encodedCount;
+        }
+        fire.retainTimestepBlobs(timeSteps);
+        return cellCount;
+    }
+
+    // 저장된 화재의 마지막 이벤트(진행 중이면 마지막 예측, 종료면 종료)보다 과거 payload이면 true
+    private boolean isOlderThanStored(FirePredictionRequestDto requestDto, AIPredictionFire fire) {
+        boolean ended = fire.getStatus() == FireStatus.END;
+        String storedTimestamp = ended
+                ? FireEventOrdering.later(fire.getInferenceTimestamp(), FireEventOrdering.eventTimestamp(
+                        FireEventOrdering.END, null, fire.getEndedTimestamp(), fire.getCompletionTimestamp()))
+                : fire.getInferenceTimestamp();
+        String storedType = ended ? FireEventOrdering.END : FireEventOrdering.PREDICTION;
+
+        String incomingTimestamp = FireEventOrdering.eventTimestamp(requestDto);
+        if (!FireEventOrdering.isOlder(requestDto.getEventType(), incomingTimestamp, storedType, storedTimestamp)) {
+            return false;
+        }
+        ingestMetrics.recordSkippedStale();
+        log.info("저장된 화재보다 과거 payload, 건너뜀 - fireId: {}, eventType: {}, 수신: {}, 저장: {} ({})",
+                requestDto.getFireId(), requestDto.getEventType(), incomingTimestamp, storedTimestamp, fire.getStatus());
+        return true;
+    }
+
+    // 저장된 셀과 신규 예측 셀 비교 (timestep + 격자 셀 키)
+    static PredictedCellDiff computeCellDiff(FirePredictionRequestDto requestDto,
+                                             List<PredictedCellProjection> storedCells) {
+        Map<Long, PredictedCellProjection> storedByKey = new HashMap<>(storedCells.size() * 2);
+        for (PredictedCellProjection stored : storedCells) {
+            // grid_key 컬럼 추가 전 저장된 셀은 좌표로 계산
+            long spatialKey = stored.getGridKey() != null
+                    ? stored.getGridKey() : GridKey.of(stored.getLatitude(), stored.getLongitude());
+            storedByKey.put(GridKey.withTimeStep(stored.getTimeStep(), spatialKey), stored);
+        }
+
+        PredictedCellDiff diff = new PredictedCellDiff();
+        Set<Long> seenKeys = new HashSet<>();
+        for (PredictionDto prediction : requestDto.getPredictions()) {
+            PredictedCellColumns cells = PredictedCellColumns.of(prediction.getPredictedCells());
+            for (int i = 0; i < cells.size(); i++) {
+                long key = GridKey.of(prediction.getTimestep(), cells.getLat(i), cells.getLon(i));
+                if (!seenKeys.add(key)) {
+                    continue;   // 같은 payload 내 중복 셀은 첫 번째만 사용
+                }
+
+                double probability = cells.getProbability(i);
+                PredictedCellProjection stored = storedByKey.remove(key);
+                if (stored == null) {
+                    diff.getToInsert().add(convertToCellEntity(cells, i, prediction));
+                } else if (Double.compare(stored.getProbability(), probability) != 0
+                        || !Objects.equals(stored.getPredictedTimestamp(), prediction.getTimestamp())) {
+                    diff.getToUpdate().add(AIPredictedCell.builder()
+                            .id(stored.getId())
+                            .probability(probability)
+                            .predictedTimestamp(prediction.getTimestamp())
+                            .build());
+                } else {
+                    diff.markUnchanged();
                 }
             }
         }
 
-        // 4. DB 저장
-        AIPredictionFire savedFire = fireRepository.save(fire);
+        // 매칭되지 않고 남은 저장 셀은 삭제 대상
+        diff.getToDelete().addAll(storedByKey.values());
+        return diff;
+    }
 
-        log.info("화재 예측 데이터 저장 완료 - fireId: {}, 예측 셀 개수: {}",
-                fireId, savedFire.getPredictedCells().size());
+    // diff 반영: 삭제 -> 변경 -> 추가 순
+    private void applyCellDiff(Long firePk, PredictedCellDiff diff) {
+        if (diff.isEmpty()) {
+            return;
+        }
 
-        // 5. SSE 발송 (트랜잭션 커밋 후)
-        registerAfterCommitSse(requestDto, "fire_prediction");
+        List<Long> deleteIds = diff.getToDelete().stream()
+                .map(PredictedCellProjection::getId)
+                .collect(Collectors.toList());
+        cellRepository.bulkDeleteCells(deleteIds);
+        cellRepository.bulkUpdateCells(diff.getToUpdate());
+        cellRepository.bulkInsertCells(firePk, diff.getToInsert());
     }
 
-    // 화재 종료 처리 (event_type = 1)
-    @Transactional
-    public void processFireEnd(FirePredictionRequestDto requestDto) {
+    // 화재 종료 처리 (event_type = 1), 반영 여부 반환
+    private boolean processFireEnd(FirePredictionRequestDto requestDto) {
         String fireId = requestDto.getFireId();
 
         // 1. 기존 화재 조회
         Optional<AIPredictionFire> fireOptional = fireRepository.findByFireId(fireId);
         if (fireOptional.isEmpty()) {
             log.warn("종료 처리할 화재를 찾을 수 없습니다 - fireId: {}", fireId);
-            return;
+            return false;
         }
         AIPredictionFire fire = fireOptional.get();
+        if (isOlderThanStored(requestDto, fire)) {
+            return false;   // 종료 이후 재발화한 화재에 늦게 도착한 종료
+        }
 
         // 2. 이미 종료된 화재인지 확인
         if (fire.getStatus() == FireStatus.END) {
@@ -143,9 +378,11 @@ public class AIPredictionService {
             log.info("화재 종료 처리 시작 - fireId: {}", fireId);
         }
 
-        // 3. 예측 셀 전체 삭제 (DB 용량 절약)
+        // 3. 예측 셀 전체 삭제 (DB 용량 절약, 이력은 FirePredictionArchive에 보관)
         int deletedCount = cellRepository.deleteAllByFireId(fire.getId());
         fire.getPredictedCells().clear();
+        fire.getTimestepBlobs().clear();
+        fire.getFireFronts().clear();
         log.info("화재 종료: 예측 셀 삭제 완료 - fireId: {}, 삭제된 셀 개수: {}",
                 fireId, deletedCount);
 
@@ -160,9 +397,7 @@ public class AIPredictionService {
         fireRepository.save(fire);
         log.info("화재 종료 처리 완료 - fireId: {}, endReason: {}",
                 fireId, requestDto.getEndReason());
-
-        // 6. SSE 발송 (트랜잭션 커밋 후)
-        registerAfterCommitSse(requestDto, "fire_end");
+        return true;
     }
 
     // 예측 데이터 검증
@@ -182,13 +417,27 @@ public class AIPredictionService {
             return false;
         }
 
-        // 각 prediction의 predicted_cells 검증
+        // 각 prediction의 predicted_cells 검증 (컬럼 버퍼를 primitive 값으로 순회)
         for (PredictionDto prediction : requestDto.getPredictions()) {
             if (prediction.getPredictedCells() == null || prediction.getPredictedCells().isEmpty()) {
                 log.error("timestep {}의 예측 셀이 비어있음 - fireId: {}",
                         prediction.getTimestep(), requestDto.getFireId());
                 return false;
             }
+
+            PredictedCellColumns cells = PredictedCellColumns.of(prediction.getPredictedCells());
+            for (int i = 0; i < cells.size(); i++) {
+                double cellLat = cells.getLat(i);
+                double cellLon = cells.getLon(i);
+                double probability = cells.getProbability(i);
+                // NaN(누락/null 값)은 모든 비교가 false이므로 부정 조건으로 검사
+                if (!(cellLat >= 33 && cellLat <= 39 && cellLon >= 124 && cellLon <= 132)
+                        || !(probability >= 0 && probability <= 1)) {
+                    log.error("잘못된 예측 셀 - fireId: {}, timestep: {}, lat: {}, lon: {}, probability: {}",
+                            requestDto.getFireId(), prediction.getTimestep(), cellLat, cellLon, probability);
+                    return false;
+                }
+            }
         }
 
         return true;
@@ -197,17 +446,134 @@ public class AIPredictionService {
     // 진행 중 화재 예측을 FirePredictionRequestDto 리스트로 반환
     @Transactional(readOnly = true)
     public List<FirePredictionRequestDto> getActiveFirePredictionsAsRequestDto() {
+        return loadActiveFirePredictions(storageMode);
+    }
+
+    // 진행 중 화재 예측을 지정한 저장 방식으로 읽어 변환
+    private List<FirePredictionRequestDto> loadActiveFirePredictions(CellStorageMode mode) {
         // 1. 진행 중 화재 조회
-        List<AIPredictionFire> fires = fireRepository.findAllProgressFiresWithCells();
+        List<AIPredictionFire> fires = mode == CellStorageMode.BLOB
+                ? fireRepository.findAllProgressFiresWithTimestepBlobs()
+                : fireRepository.findAllProgressFiresWithCells();
 
         // 2. 엔티티 -> FirePredictionRequestDto 변환
         return fires.stream()
-                .map(this::toFirePredictionRequestDto)
+                .map(fire -> toFirePredictionRequestDto(fire, mode))
+                .collect(Collectors.toList());
+    }
+
+    // 진행 중 화재 화선 폴리곤 조회
+    @Transactional(readOnly = true)
+    public List<FireFrontResponse> getActiveFireFronts() {
+        return toFireFrontResponses(fireFrontRepository.findAllProgressFireFronts());
+    }
+
+    // 좌표를 포함하는 진행 중 화재 화선 폴리곤 조회 (외접 사각형으로 후보를 고른 뒤 폴리곤 포함 여부 확인)
+    @Transactional(readOnly = true)
+    public List<FireFrontResponse> findFireFrontsContaining(double lat, double lon) {
+        List<AIPredictionFireFront> fronts = fireFrontRepository.findProgressFireFrontsWithBoundsContaining(lat, lon)
+                .stream()
+                .filter(front -> FireFrontPolygonizer.covers(front.getGeom(), lat, lon))
                 .collect(Collectors.toList());
+        return toFireFrontResponses(fronts);
+    }
+
+    // 화재별로 묶어 변환 (timestep, 확률 구간 순)
+    private List<FireFrontResponse> toFireFrontResponses(List<AIPredictionFireFront> fronts) {
+        Map<String, List<FrontDto>> byFireId = fronts.stream()
+                .sorted(Comparator.comparing((AIPredictionFireFront front) -> front.getFire().getId())
+                        .thenComparing(AIPredictionFireFront::getTimeStep)
+                        .thenComparing(AIPredictionFireFront::getBand))
+                .collect(Collectors.groupingBy(front -> front.getFire().getFireId(), LinkedHashMap::new,
+                        Collectors.mapping(FrontDto::from, Collectors.toList())));
+
+        return byFireId.entrySet().stream()
+                .map(entry -> FireFrontResponse.builder()
+                        .fireId(entry.getKey())
+                        .fronts(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 경로 탐색용 진행 중 화재 예측 셀 조회 (바운딩 박스)
+    @Transactional(readOnly = true)
+    public List<AIPredictedCell> findActiveCellsInBoundingBox(double minLat, double maxLat,
+                                                              double minLon, double maxLon) {
+        List<AIPredictedCell> cells = cellRepository.findCellsInBoundingBox(minLat, maxLat, minLon, maxLon);
+        if (storageMode != CellStorageMode.BLOB) {
+            return cells;
+        }
+
+        // 압축 저장분 디코딩 후 범위 필터 (행 단위로 남아있는 셀은 저장 방식 전환 전 데이터)
+        List<AIPredictedCell> result = new ArrayList<>(cells);
+        for (AIPredictionFire fire : fireRepository.findAllProgressFiresWithTimestepBlobs()) {
+            for (AIPredictionTimestepBlob blob : fire.getTimestepBlobs()) {
+                PredictedCellColumns decoded = PredictedCellBlobCodec.decode(blob.getEncodedCells());
+                for (int i = 0; i < decoded.size(); i++) {
+                    double lat = decoded.getLat(i);
+                    double lon = decoded.getLon(i);
+                    if (lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon) {
+                        result.add(AIPredictedCell.builder()
+                                .latitude(lat)
+                                .longitude(lon)
+                                .timeStep(blob.getTimeStep())
+                                .predictedTimestamp(blob.getPredictedTimestamp())
+                                .probability(decoded.getProbability(i))
+                                .fire(fire)
+                                .build());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // 저장 방식별 행 수/테이블 크기/조회 시간 비교
+    // 조회 시간은 최근 진행 중 화재 sampleFires건만 두 방식으로 읽어 비교 (전체 화재를 두 번 적재하지 않음)
+    @Transactional(readOnly = true)
+    public PredictionStorageStatsResponse getStorageStats(int sampleFires) {
+        int sampleSize = Math.max(1, Math.min(sampleFires, storageStatsMaxSampleFires));
+        List<Long> sampleIds = fireRepository.findProgressFireIds(PageRequest.of(0, sampleSize));
+
+        long rowsStart = System.nanoTime();
+        List<FirePredictionRequestDto> fromRows = sampleIds.isEmpty() ? List.of()
+                : fireRepository.findAllByIdInWithCells(sampleIds).stream()
+                        .map(fire -> toFirePredictionRequestDto(fire, CellStorageMode.ROWS))
+                        .toList();
+        long rowsReadMicros = (System.nanoTime() - rowsStart) / 1_000;
+
+        long blobStart = System.nanoTime();
+        List<FirePredictionRequestDto> fromBlobs = sampleIds.isEmpty() ? List.of()
+                : fireRepository.findAllByIdInWithTimestepBlobs(sampleIds).stream()
+                        .map(fire -> toFirePredictionRequestDto(fire, CellStorageMode.BLOB))
+                        .toList();
+        long blobReadMicros = (System.nanoTime() - blobStart) / 1_000;
+
+        return PredictionStorageStatsResponse.builder()
+                .storageMode(storageMode.name())
+                .sampledFireCount(sampleIds.size())
+                .cellRowCount(cellRepository.count())
+                .cellTableBytes(cellRepository.findTableSizeBytes("ai_predicted_cell"))
+                .activeCellsFromRows(countCells(fromRows))
+                .rowsReadMicros(rowsReadMicros)
+                .blobRowCount(timestepBlobRepository.count())
+                .blobCellCount(timestepBlobRepository.sumCellCount())
+                .blobEncodedBytes(timestepBlobRepository.sumEncodedBytes())
+                .blobTableBytes(cellRepository.findTableSizeBytes("ai_prediction_timestep_blob"))
+                .activeCellsFromBlobs(countCells(fromBlobs))
+                .blobReadMicros(blobReadMicros)
+                .build();
+    }
+
+    private long countCells(List<FirePredictionRequestDto> fires) {
+        return fires.stream()
+                .flatMap(fire -> fire.getPredictions().stream())
+                .mapToLong(prediction -> prediction.getPredictedCells().size())
+                .sum();
     }
 
     // Fire 엔티티 -> FirePredictionRequestDto 변환
-    private FirePredictionRequestDto toFirePredictionRequestDto(AIPredictionFire fire) {
+    private FirePredictionRequestDto toFirePredictionRequestDto(AIPredictionFire fire, CellStorageMode mode) {
 
         // fire_location
         FireLocationDto locationDto = FireLocationDto.builder()
@@ -215,11 +581,47 @@ public class AIPredictionService {
                 .lon(fire.getFireLongitude())
                 .build();
 
-        // AIPredictedCell -> PredictionDto (timestep별 그룹핑)
+        // 압축 저장분이 있으면 디코딩, 없으면 행 단위 셀 사용 (저장 방식 전환 전 데이터)
+        List<PredictionDto> predictionDtos = mode == CellStorageMode.BLOB && !fire.getTimestepBlobs().isEmpty()
+                ? toPredictionDtosFromBlobs(fire)
+                : toPredictionDtosFromCells(fire);
+
+        // FirePredictionRequestDto 생성 (event_type = "0" 고정)
+        return FirePredictionRequestDto.builder()
+                .eventType("0")
+                .fireId(fire.getFireId())
+                .fireLocation(locationDto)
+                .fireTimestamp(fire.getFireTimestamp())
+                .inferenceTimestamp(fire.getInferenceTimestamp())
+                .model(fire.getModel())
+                .predictions(predictionDtos)
+                // 종료 관련 필드는 진행 중이므로 null
+                .endedTimestamp(null)
+                .completionTimestamp(null)
+                .endReason(null)
+                .lastStatus(null)
+                .lastStatusCode(null)
+                .build();
+    }
+
+    // 압축 셀 -> PredictionDto (timestep 오름차순)
+    private List<PredictionDto> toPredictionDtosFromBlobs(AIPredictionFire fire) {
+        return fire.getTimestepBlobs().stream()
+                .sorted(Comparator.comparing(AIPredictionTimestepBlob::getTimeStep))
+                .map(blob -> PredictionDto.builder()
+                        .timestep(blob.getTimeStep())
+                        .timestamp(blob.getPredictedTimestamp())
+                        .predictedCells(PredictedCellBlobCodec.decode(blob.getEncodedCells()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // AIPredictedCell -> PredictionDto (timestep별 그룹핑)
+    private List<PredictionDto> toPredictionDtosFromCells(AIPredictionFire fire) {
         Map<Integer, List<AIPredictedCell>> byTimeStep = fire.getPredictedCells().stream()
                 .collect(Collectors.groupingBy(AIPredictedCell::getTimeStep));
 
-        List<PredictionDto> predictionDtos = byTimeStep.entrySet().stream()
+        return byTimeStep.entrySet().stream()
                 .sorted(Map.Entry.comparingByKey()) // timestep 오름차순
                 .map(entry -> {
                     Integer timestep = entry.getKey();
@@ -227,13 +629,10 @@ public class AIPredictionService {
 
                     String timestamp = cells.get(0).getPredictedTimestamp();
 
-                    List<PredictedCellDto> cellDtos = cells.stream()
-                            .map(cell -> PredictedCellDto.builder()
-                                    .lat(cell.getLatitude())
-                                    .lon(cell.getLongitude())
-                                    .probability(cell.getProbability())
-                                    .build())
-                            .collect(Collectors.toList());
+                    PredictedCellColumns cellDtos = new PredictedCellColumns(cells.size());
+                    for (AIPredictedCell cell : cells) {
+                        cellDtos.add(cell.getLatitude(), cell.getLongitude(), cell.getProbability());
+                    }
 
                     return PredictionDto.builder()
                             .timestep(timestep)
@@ -242,38 +641,20 @@ public class AIPredictionService {
                             .build();
                 })
                 .collect(Collectors.toList());
-
-        // FirePredictionRequestDto 생성 (event_type = "0" 고정)
-        return FirePredictionRequestDto.builder()
-                .eventType("0")
-                .fireId(fire.getFireId())
-                .fireLocation(locationDto)
-                .fireTimestamp(fire.getFireTimestamp())
-                .inferenceTimestamp(fire.getInferenceTimestamp())
-                .model(fire.getModel())
-                .predictions(predictionDtos)
-                // 종료 관련 필드는 진행 중이므로 null
-                .endedTimestamp(null)
-                .completionTimestamp(null)
-                .endReason(null)
-                .lastStatus(null)
-                .lastStatusCode(null)
-                .build();
     }
 
-    // SSE 발송용 유틸 메서드
-    private void registerAfterCommitSse(FirePredictionRequestDto requestDto, String eventName) {
+    // 이력 보관 (트랜잭션 커밋 직전 실행, 처리 스레드가 반환해 저널이 ack되기 전에 fsync까지 끝남)
+    // 보관 실패 시 트랜잭션 롤백 -> 스케줄러가 ack하지 않고 재시도
+    private void registerBeforeCommitArchive(List<FirePredictionRequestDto> requestDtos) {
         if (TransactionSynchronizationManager.isSynchronizationActive()) {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
-                public void afterCommit() {
-                    log.info("트랜잭션 커밋 후 SSE 발행 - fireId: {}, event: {}", requestDto.getFireId(), eventName);
-                    fireSseEmitterRepository.sendToAll(requestDto, eventName);
+                public void beforeCommit(boolean readOnly) {
+                    predictionArchive.append(requestDtos);
                 }
             });
         } else {
-            // 트랜잭션이 없으면 바로 발행
-            fireSseEmitterRepository.sendToAll(requestDto, eventName);
+            predictionArchive.append(requestDtos);
         }
     }
 
@@ -291,14 +672,16 @@ public class AIPredictionService {
                 .build();
     }
 
-    // DTO -> PredictedCell 엔티티 변환
-    private AIPredictedCell convertToCellEntity(PredictedCellDto cellDto, PredictionDto predictionDto) {
+    // 컬럼 버퍼의 셀 -> PredictedCell 엔티티 변환
+    private static AIPredictedCell convertToCellEntity(PredictedCellColumns cells, int index,
+                                                       PredictionDto predictionDto) {
         return AIPredictedCell.builder()
-                .latitude(cellDto.getLat())
-                .longitude(cellDto.getLon())
+                .latitude(cells.getLat(index))
+                .longitude(cells.getLon(index))
+                .gridKey(GridKey.of(cells.getLat(index), cells.getLon(index)))
                 .timeStep(predictionDto.getTimestep())
                 .predictedTimestamp(predictionDto.getTimestamp())
-                .probability(cellDto.getProbability())
+                .probability(cells.getProbability(index))
                 .build();
     }
 
@@ -0,0 +1,121 @@
+package com.capstone25.WildFirePrediction.service;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.global.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+// 진행 중 화재 예측 스냅샷 (GET /fires/active를 DB 조회 없이 메모리에서 응답)
+// - 예측 반영 트랜잭션 커밋 후에만 재생성, 조회 시에는 직렬화된 JSON 바이트를 그대로 반환
+// - 재생성은 전용 스레드에서 debounce-ms 뒤에 실행 (수신 스레드는 예약만 하고 반환)
+//   예약 후 실행 전까지 들어온 커밋은 한 번의 재생성으로 합침, 재생성 중 들어온 커밋은 다음 예약으로
+// - 스냅샷은 불변 객체로 교체 (copy-on-write), 조회 스레드는 락 없이 volatile 참조만 읽음
+@Slf4j
+@Service
+public class ActiveFireSnapshotService {
+
+    private final AIPredictionService aiPredictionService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyNewTransaction;
+    private final long debounceMillis;
+
+    private volatile ActiveFireSnapshot snapshot;
+
+    // 재생성 전용 스레드 (한 번에 하나만 재생성)
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "active-fire-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    public ActiveFireSnapshotService(AIPredictionService aiPredictionService,
+                                     ObjectMapper objectMapper,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${active-fire-snapshot.debounce-ms:200}") long debounceMillis) {
+        this.aiPredictionService = aiPredictionService;
+        this.objectMapper = objectMapper;
+        this.debounceMillis = debounceMillis;
+
+        // afterCommit 시점에는 기존 트랜잭션 자원(영속성 컨텍스트)이 남아있으므로 새 트랜잭션에서 조회
+        this.readOnlyNewTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyNewTransaction.setReadOnly(true);
+    }
+
+    // 현재 스냅샷 (기동 직후 생성 전이면 null)
+    public ActiveFireSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        scheduleRefresh(0);
+    }
+
+    // 예측/종료 반영 트랜잭션 커밋 후 재생성 예약
+    @TransactionalEventListener
+    public void onActiveFiresChanged(ActiveFiresChangedEvent event) {
+        scheduleRefresh(debounceMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // 이미 예약된 재생성이 있으면 그 재생성이 이 요청까지 반영
+    private void scheduleRefresh(long delayMillis) {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.schedule(this::refresh, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 재생성 시작 전에 예약 표시를 해제 (조회 이후 커밋된 변경은 다음 예약으로 반영)
+    private void refresh() {
+        rebuildScheduled.set(false);
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("진행 중 화재 스냅샷 생성 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void rebuild() throws Exception {
+        long startTime = System.currentTimeMillis();
+
+        List<FirePredictionRequestDto> activeFires =
+                readOnlyNewTransaction.execute(status -> aiPredictionService.getActiveFirePredictionsAsRequestDto());
+        byte[] body = objectMapper.writeValueAsBytes(ApiResponse.onSuccess(activeFires));
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+
+        long version = snapshot != null ? snapshot.version() + 1 : 1;
+        snapshot = new ActiveFireSnapshot(version, body, etag, activeFires.size());
+
+        log.info("진행 중 화재 스냅샷 생성 - version: {}, 화재: {}개, {} bytes, {}ms",
+                version, activeFires.size(), body.length, System.currentTimeMillis() - startTime);
+    }
+
+    // 직렬화된 GET /fires/active 응답 본문과 ETag
+    public record ActiveFireSnapshot(long version, byte[] body, String etag, int fireCount) {
+    }
+
+    // 진행 중 화재 목록이 변경되었음을 알리는 이벤트 (AIPredictionService에서 발행)
+    public record ActiveFiresChangedEvent() {
+    }
+}
@@ -0,0 +1,140 @@
+package com.capstone25.WildFirePrediction.service;
+
+import com.capstone25.WildFirePrediction.domain.AIPredictedCell;
+import com.capstone25.WildFirePrediction.dto.BurnArrivalRaster;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 진행 중 화재별 도달 시각 래스터 보관 (경로 탐색 위험 셀 조회, /fires/active/arrival 응답)
+// - 래스터는 수신 시 AIPredictionService에서 생성, 트랜잭션 커밋 후 교체
+// - 기동 시 DB의 진행 중 화재로 1회 생성
+//   로딩 중 수신 반영된 화재(갱신/종료 모두)는 기록해 두고 로딩 결과로 덮어쓰지 않음 (종료된 화재 재등록 방지)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BurnArrivalRasterRegistry {
+
+    private final AIPredictionService aiPredictionService;
+
+    private final Map<String, BurnArrivalRaster> rasters = new ConcurrentHashMap<>();
+    private volatile boolean initialized;
+
+    // 초기 로딩과 수신 반영 사이 순서 보장용 (loadLock 안에서만 접근)
+    private final Object loadLock = new Object();
+    private Set<String> changedDuringLoad;    // 로딩 중 수신 반영된 화재 ID (로딩 중이 아니면 null)
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        // DB 조회 전에 기록을 시작해야 조회 이후 커밋된 변경을 놓치지 않음
+        synchronized (loadLock) {
+            changedDuringLoad = new HashSet<>();
+        }
+        try {
+            List<FirePredictionRequestDto> activeFires = aiPredictionService.getActiveFirePredictionsAsRequestDto();
+            List<BurnArrivalRaster> loaded = new ArrayList<>(activeFires.size());
+            for (FirePredictionRequestDto activeFire : activeFires) {
+                loaded.add(BurnArrivalRaster.from(activeFire));
+            }
+
+            int skipped = 0;
+            synchronized (loadLock) {
+                for (BurnArrivalRaster raster : loaded) {
+                    // 로딩 중 수신 반영된 화재는 그 결과(최신본 또는 종료로 제거)를 유지
+                    if (changedDuringLoad.contains(raster.getFireId())) {
+                        skipped++;
+                        continue;
+                    }
+                    rasters.put(raster.getFireId(), raster);
+                }
+                initialized = true;
+            }
+            log.info("도달 시각 래스터 초기화 완료 - 화재: {}개 (로딩 중 변경되어 건너뜀 {}개)", rasters.size(), skipped);
+        } catch (Exception e) {
+            log.error("도달 시각 래스터 초기화 실패 - error: {}", e.getMessage(), e);
+        } finally {
+            synchronized (loadLock) {
+                changedDuringLoad = null;
+            }
+        }
+    }
+
+    // 예측/종료 반영 트랜잭션 커밋 후 교체
+    @TransactionalEventListener
+    public void onFireRasterChanged(FireRasterChangedEvent event) {
+        synchronized (loadLock) {
+            if (changedDuringLoad != null) {
+                changedDuringLoad.add(event.fireId());
+            }
+            if (event.raster() == null) {
+                rasters.remove(event.fireId());
+            } else {
+                rasters.put(event.fireId(), event.raster());
+            }
+        }
+
+        if (event.raster() == null) {
+            log.info("도달 시각 래스터 제거 - fireId: {}", event.fireId());
+            return;
+        }
+        log.info("도달 시각 래스터 갱신 - fireId: {}, 셀: {}개 (원본 {}개)",
+                event.fireId(), event.raster().size(), event.raster().getSourceCellCount());
+    }
+
+    // 기동 시 초기 로딩 완료 여부 (완료 전에는 DB 조회로 대체)
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    // 진행 중 화재 여부
+    public boolean contains(String fireId) {
+        return rasters.containsKey(fireId);
+    }
+
+    public Collection<BurnArrivalRaster> getAll() {
+        return rasters.values();
+    }
+
+    // 경로 탐색용 위험 셀 조회 (바운딩 박스, 격자 셀당 1개)
+    // 범위가 겹치지 않는 화재는 건너뛰고, 겹치면 위도 구간만 탐색 (래스터 셀은 위도 오름차순)
+    public List<AIPredictedCell> findCellsInBoundingBox(double minLat, double maxLat, double minLon, double maxLon) {
+        List<AIPredictedCell> cells = new ArrayList<>();
+        for (BurnArrivalRaster raster : rasters.values()) {
+            if (!raster.intersects(minLat, maxLat, minLon, maxLon)) {
+                continue;
+            }
+            double[] latitudes = raster.getLatitudes();
+            double[] longitudes = raster.getLongitudes();
+            for (int i = raster.firstIndexAtOrAboveLatitude(minLat); i < raster.size() && latitudes[i] <= maxLat; i++) {
+                if (longitudes[i] < minLon || longitudes[i] > maxLon) {
+                    continue;
+                }
+                int arrivalTimestep = raster.getArrivalTimesteps()[i];
+                cells.add(AIPredictedCell.builder()
+                        .latitude(latitudes[i])
+                        .longitude(longitudes[i])
+                        .gridKey(raster.getGridKeys()[i])
+                        .timeStep(arrivalTimestep)
+                        .predictedTimestamp(raster.getTimestepTimestamps().get(arrivalTimestep))
+                        .probability(raster.getMaxProbabilities()[i])
+                        .build());
+            }
+        }
+        return cells;
+    }
+
+    // 화재 래스터 변경 이벤트 (raster = null이면 종료로 제거, AIPredictionService에서 발행)
+    public record FireRasterChangedEvent(String fireId, BurnArrivalRaster raster) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.capstone25.WildFirePrediction.service;
+
+import com.capstone25.WildFirePrediction.domain.AIPredictionFire;
+import com.capstone25.WildFirePrediction.domain.AIPredictionFireFront;
+import com.capstone25.WildFirePrediction.domain.enums.FireStatus;
+import com.capstone25.WildFirePrediction.domain.enums.ProbabilityBand;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.repository.AIPredictionFireRepository;
+import com.capstone25.WildFirePrediction.util.FireFrontPolygonizer;
+import com.capstone25.WildFirePrediction.util.FireFrontPolygonizer.FireFrontPolygon;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 화선 폴리곤 비동기 갱신
+// - 예측 반영 트랜잭션 커밋 후 전용 스레드에서 폴리곤 생성 (셀 union/단순화로 수신 트랜잭션이 길어지지 않도록)
+// - 화재별로 최신 payload 하나만 대기 (처리 전에 새 payload가 오면 교체)
+// - 저장 시점에 화재의 추론 시각이 payload와 다르거나 종료되었으면 버림 (그 사이 새 예측/종료 반영)
+// - timestep x 확률 구간별로 바뀐 폴리곤만 갱신, 사라진 구간만 삭제 (매번 전체 삭제 후 재삽입하지 않음)
+// - 종료 시 폴리곤 삭제는 종료 트랜잭션에서 처리 (AIPredictionService)
+@Slf4j
+@Component
+public class FireFrontUpdater {
+
+    private final AIPredictionFireRepository fireRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "fire-front-updater");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, FirePredictionRequestDto> pending = new ConcurrentHashMap<>();
+
+    public FireFrontUpdater(AIPredictionFireRepository fireRepository, PlatformTransactionManager transactionManager) {
+        this.fireRepository = fireRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 예측 반영 트랜잭션 커밋 후 등록 (이미 대기 중인 화재면 payload만 교체)
+    @TransactionalEventListener
+    public void onFireFrontsChanged(FireFrontsChangedEvent event) {
+        String fireId = event.requestDto().getFireId();
+        if (pending.put(fireId, event.requestDto()) == null) {
+            executor.execute(() -> update(fireId));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void update(String fireId) {
+        FirePredictionRequestDto requestDto = pending.remove(fireId);
+        if (requestDto == null) {
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            List<FireFrontPolygon> polygons = FireFrontPolygonizer.build(requestDto);
+            long buildMillis = System.currentTimeMillis() - startTime;
+            if (pending.containsKey(fireId)) {
+                log.debug("화선 폴리곤 저장 생략 (새 payload 대기 중) - fireId: {}", fireId);
+                return;
+            }
+
+            Integer changed = transactionTemplate.execute(status -> apply(requestDto, polygons));
+            if (changed == null || changed < 0) {
+                log.info("화선 폴리곤 저장 생략 (이후 예측/종료 반영됨) - fireId: {}", fireId);
+                return;
+            }
+            log.info("화선 폴리곤 갱신 - fireId: {}, 폴리곤: {}개, 변경: {}개, 생성: {}ms, 전체: {}ms",
+                    fireId, polygons.size(), changed, buildMillis, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("화선 폴리곤 갱신 실패 - fireId: {}, error: {}", fireId, e.getMessage(), e);
+        }
+    }
+
+    // 바뀐 폴리곤 수 반환 (payload가 더 이상 최신이 아니면 -1)
+    private int apply(FirePredictionRequestDto requestDto, List<FireFrontPolygon> polygons) {
+        AIPredictionFire fire = fireRepository.findByFireId(requestDto.getFireId()).orElse(null);
+        if (fire == null || fire.getStatus() != FireStatus.PROGRESS
+                || !Objects.equals(fire.getInferenceTimestamp(), requestDto.getInferenceTimestamp())) {
+            return -1;
+        }
+
+        Map<FrontKey, AIPredictionFireFront> existing = new HashMap<>();
+        for (AIPredictionFireFront front : fire.getFireFronts()) {
+            existing.put(new FrontKey(front.getTimeStep(), front.getBand()), front);
+        }
+
+        int changed = 0;
+        for (FireFrontPolygon polygon : polygons) {
+            AIPredictionFireFront front = existing.remove(new FrontKey(polygon.timeStep(), polygon.band()));
+            if (front == null) {
+                fire.addFireFront(AIPredictionFireFront.builder()
+                        .timeStep(polygon.timeStep())
+                        .predictedTimestamp(polygon.predictedTimestamp())
+                        .band(polygon.band())
+                        .cellCount(polygon.cellCount())
+                        .geom(polygon.geometry())
+                        .build());
+                changed++;
+            } else if (front.updateShape(polygon.predictedTimestamp(), polygon.cellCount(), polygon.geometry())) {
+                changed++;
+            }
+        }
+
+        // 셀이 없어진 구간 삭제 (orphanRemoval)
+        fire.getFireFronts().removeAll(existing.values());
+        return changed + existing.size();
+    }
+
+    private record FrontKey(int timeStep, ProbabilityBand band) {
+    }
+
+    // 화선 폴리곤 갱신 요청 (예측 반영 시 발행, 커밋 후 처리)
+    public record FireFrontsChangedEvent(FirePredictionRequestDto requestDto) {
+    }
+}
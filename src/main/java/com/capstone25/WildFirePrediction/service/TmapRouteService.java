@@ -9,7 +9,6 @@ import com.capstone25.WildFirePrediction.dto.response.RouteResponse;
 import com.capstone25.WildFirePrediction.dto.response.TmapApiResponse;
 import com.capstone25.WildFirePrediction.global.code.status.ErrorStatus;
 import com.capstone25.WildFirePrediction.global.exception.handler.ExceptionHandler;
-import com.capstone25.WildFirePrediction.repository.AIPredictedCellRepository;
 import com.capstone25.WildFirePrediction.util.GeoUtils;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -41,7 +40,8 @@ public class TmapRouteService {
             "https://apis.openapi.sk.com/tmap/routes/pedestrian?version=1";
 
     private final RestTemplate restTemplate;
-    private final AIPredictedCellRepository aiPredictedCellRepository;
+    private final AIPredictionService aiPredictionService;
+    private final BurnArrivalRasterRegistry burnArrivalRasterRegistry;
 
     private static final double MAX_DETOUR_KM = 3.0;
     private static final double DETOUR_START_KM = 0.4;
@@ -114,7 +114,11 @@ public class TmapRouteService {
         double minLon = Math.min(request.getStartLon(), request.getEndLon()) - padding;
         double maxLon = Math.max(request.getStartLon(), request.getEndLon()) + padding;
 
-        return aiPredictedCellRepository.findCellsInBoundingBox(minLat, maxLat, minLon, maxLon);
+        // 도달 시각 래스터 (격자 셀당 1개, timestep 중복 제거) 사용, 기동 직후 초기화 전에는 DB 조회
+        if (burnArrivalRasterRegistry.isInitialized()) {
+            return burnArrivalRasterRegistry.findCellsInBoundingBox(minLat, maxLat, minLon, maxLon);
+        }
+        return aiPredictionService.findActiveCellsInBoundingBox(minLat, maxLat, minLon, maxLon);
     }
 
     // 정밀 충돌 기반 우회 경로 탐색 (반복 3회 최대)
@@ -0,0 +1,191 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import com.capstone25.WildFirePrediction.domain.FireBroadcastEvent;
+import com.capstone25.WildFirePrediction.dto.response.FireEventResponse;
+import com.capstone25.WildFirePrediction.repository.FireBroadcastEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 다중 노드용 버스 (fire_broadcast_event 테이블 폴링)
+// - 발행: 이벤트 묶음을 1행으로 기록 (발행한 노드도 폴링으로 수신, 바로 전달하지 않음)
+//   outbox relay 트랜잭션에 참여하므로 outbox 발행 완료 표시와 함께 커밋
+// - 수신: 노드마다 마지막으로 전달한 id 이후 행을 순서대로 읽어 로컬 구독자에게 1회씩 전달
+// - 동시에 발행된 행은 id 순서와 커밋 순서가 다를 수 있으므로 건너뛴 id는 gap-timeout 동안 다시 조회
+// - 기동한 노드는 그 시점 마지막 id부터 수신 (이전 이벤트는 클라이언트 재연결 시 resync로 보충)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fire-sse.bus.mode", havingValue = "DB")
+public class DbFireBroadcastBus implements FireBroadcastBus {
+
+    private static final TypeReference<List<FireEventResponse>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+    private static final int MAX_TRACKED_GAP = 1000;    // 이보다 큰 id 간격은 auto_increment 건너뜀으로 보고 추적하지 않음
+
+    private final FireBroadcastEventRepository eventRepository;
+    private final FireSseEmitterRepository emitterRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate newTransaction;
+    private final long pollIntervalMillis;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final long retentionMinutes;
+
+    // 폴링 전용 스레드 (기본 스케줄러는 외부 API 호출 작업과 공유하므로 지연되지 않도록 분리)
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "fire-broadcast-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 폴링 스레드에서만 접근
+    private long cursor;
+    private final Map<Long, Long> pendingGaps = new HashMap<>();    // 아직 보이지 않은 id -> 처음 건너뛴 시각
+
+    public DbFireBroadcastBus(FireBroadcastEventRepository eventRepository,
+                              FireSseEmitterRepository emitterRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${fire-sse.bus.poll-interval-ms:300}") long pollIntervalMillis,
+                              @Value("${fire-sse.bus.batch-size:100}") int batchSize,
+                              @Value("${fire-sse.bus.gap-timeout-ms:10000}") long gapTimeoutMillis,
+                              @Value("${fire-sse.bus.retention-minutes:60}") long retentionMinutes) {
+        this.eventRepository = eventRepository;
+        this.emitterRepository = emitterRepository;
+        this.objectMapper = objectMapper;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = Math.max(1, batchSize);
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.retentionMinutes = retentionMinutes;
+
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 기록 실패 시 예외 전파 (relay가 outbox 행을 미발행으로 남겨 재시도)
+    @Override
+    public void publish(long eventId, List<FireEventResponse> events) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(events);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("브로드캐스트 이벤트 직렬화 실패 - eventId: " + eventId, e);
+        }
+
+        FireBroadcastEvent saved = eventRepository.save(FireBroadcastEvent.builder()
+                .eventId(eventId)
+                .eventCount(events.size())
+                .payload(payload)
+                .build());
+        log.info("브로드캐스트 이벤트 기록 - id: {}, eventId: {}, 이벤트: {}건", saved.getId(), eventId, events.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        cursor = eventRepository.findMaxId();
+        poller.scheduleWithFixedDelay(this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("브로드캐스트 버스 폴링 시작 - 시작 id: {}, 주기: {}ms", cursor, pollIntervalMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        poller.shutdownNow();
+    }
+
+    // 보관 기간이 지난 행 삭제 (모든 노드가 실행해도 무방)
+    @Scheduled(cron = "0 */10 * * * *")
+    public void deleteExpired() {
+        try {
+            int deleted = newTransaction.execute(status ->
+                    eventRepository.deleteAllCreatedBefore(LocalDateTime.now().minusMinutes(retentionMinutes)));
+            if (deleted > 0) {
+                log.info("브로드캐스트 이벤트 정리 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("브로드캐스트 이벤트 정리 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    void poll() {
+        try {
+            List<FireBroadcastEvent> rows;
+            do {
+                rows = eventRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize));
+                long now = System.currentTimeMillis();
+                for (FireBroadcastEvent row : rows) {
+                    trackGap(row.getId(), now);
+                    deliver(row);
+                    cursor = row.getId();
+                }
+            } while (rows.size() == batchSize);
+
+            if (!pendingGaps.isEmpty()) {
+                recoverGaps();
+            }
+        } catch (Exception e) {
+            // 다음 주기에 같은 위치부터 다시 조회
+            log.warn("브로드캐스트 이벤트 폴링 실패 - cursor: {}, error: {}", cursor, e.getMessage());
+        }
+    }
+
+    // cursor와 새 id 사이에 비어 있는 id 기록 (아직 커밋되지 않은 발행일 수 있음)
+    private void trackGap(long id, long now) {
+        long gap = id - cursor - 1;
+        if (gap <= 0 || gap > MAX_TRACKED_GAP) {
+            return;
+        }
+        for (long missing = cursor + 1; missing < id; missing++) {
+            pendingGaps.putIfAbsent(missing, now);
+        }
+    }
+
+    // 늦게 커밋된 행 전달, gap-timeout이 지난 id는 롤백/건너뜀으로 보고 제외
+    private void recoverGaps() {
+        for (FireBroadcastEvent row : eventRepository.findAllById(pendingGaps.keySet())) {
+            pendingGaps.remove(row.getId());
+            log.info("브로드캐스트 이벤트 지연 수신 - id: {}", row.getId());
+            deliver(row);
+        }
+
+        long expireBefore = System.currentTimeMillis() - gapTimeoutMillis;
+        Iterator<Map.Entry<Long, Long>> iterator = pendingGaps.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Long> gap = iterator.next();
+            if (gap.getValue() < expireBefore) {
+                iterator.remove();
+                log.debug("브로드캐스트 이벤트 id 건너뜀 - id: {}", gap.getKey());
+            }
+        }
+    }
+
+    private void deliver(FireBroadcastEvent row) {
+        List<FireEventResponse> events;
+        try {
+            events = objectMapper.readValue(row.getPayload(), PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            log.error("브로드캐스트 이벤트 해석 실패 - id: {}, error: {}", row.getId(), e.getMessage());
+            return;
+        }
+        emitterRepository.sendFireEvents(row.getEventId(), events);
+    }
+}
@@ -0,0 +1,16 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import com.capstone25.WildFirePrediction.dto.response.FireEventResponse;
+import java.util.List;
+
+// 커밋된 화재 이벤트를 모든 서버 노드의 SSE 구독자에게 전달하는 경로 (fire-sse.bus.mode)
+// - LOCAL: 같은 프로세스의 FireSseEmitterRepository로 바로 전달 (단일 노드, 기본값)
+// - DB: fire_broadcast_event 테이블에 기록하고 각 노드가 폴링해서 전달 (다중 노드)
+// 어느 구현이든 노드마다 이벤트당 1회만 로컬 구독자에게 전달
+// FireEventOutboxRelay가 outbox 행마다 호출 (같은 eventId가 재발행될 수 있으며 수신 측에서 걸러냄)
+public interface FireBroadcastBus {
+
+    // 화재 이벤트 발행 (1건이면 개별 이벤트, 여러 건이면 fire_batch로 전달)
+    // 실패하면 예외를 던져 relay가 재시도하도록 함
+    void publish(long eventId, List<FireEventResponse> events);
+}
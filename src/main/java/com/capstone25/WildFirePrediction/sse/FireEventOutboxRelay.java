@@ -0,0 +1,253 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import com.capstone25.WildFirePrediction.domain.FireEventOutbox;
+import com.capstone25.WildFirePrediction.dto.response.FireEventResponse;
+import com.capstone25.WildFirePrediction.dto.response.FireOutboxStatsResponse;
+import com.capstone25.WildFirePrediction.repository.FireEventOutboxRepository;
+import com.capstone25.WildFirePrediction.repository.FireOutboxRelayLeaseRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 화재 이벤트 outbox 기록 및 발행 (at-least-once)
+// - 기록: 예측/종료 반영 트랜잭션 안에서 outbox 1행 (반영이 롤백되면 이벤트도 없음)
+// - 발행: 커밋 직후 깨우기 + poll-interval 주기로 미발행 행을 batch-size씩 선점해 FireBroadcastBus로 발행 후 완료 표시
+//   발행 후 완료 표시 전에 프로세스가 죽으면 재기동 시 다시 발행 (수신 측이 outbox id로 중복 제거)
+// - 여러 노드 중 relay lease(fire_outbox_relay_lease)를 보유한 노드만 발행 (id 순서 그대로 발행)
+//   lease 획득/연장과 발행이 한 트랜잭션이라 보유 노드가 바뀌는 순간에도 두 노드의 배치가 겹치지 않음
+//   보유 노드가 lease-ms 동안 연장하지 못하면 다른 노드가 가져감
+@Slf4j
+@Component
+public class FireEventOutboxRelay {
+
+    private static final TypeReference<List<FireEventResponse>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+    private static final String LEASE_NAME = "fire-event-outbox";
+
+    private final FireEventOutboxRepository outboxRepository;
+    private final FireOutboxRelayLeaseRepository leaseRepository;
+    private final FireBroadcastBus broadcastBus;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate relayTransaction;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long retentionHours;
+    private final long leaseMillis;
+    private final String relayId = UUID.randomUUID().toString();
+
+    // relay 전용 스레드 (주기 실행과 커밋 직후 깨우기가 한 스레드에서 순서대로 실행)
+    private final ScheduledExecutorService relayExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "fire-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    private final AtomicLong relayedCount = new AtomicLong();
+    private final AtomicLong relayFailureCount = new AtomicLong();
+    private volatile long lastRelayLagMillis;
+    private volatile boolean leaseHolder;
+
+    public FireEventOutboxRelay(FireEventOutboxRepository outboxRepository,
+                                FireOutboxRelayLeaseRepository leaseRepository,
+                                FireBroadcastBus broadcastBus,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${fire-sse.outbox.batch-size:50}") int batchSize,
+                                @Value("${fire-sse.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+                                @Value("${fire-sse.outbox.retention-hours:24}") long retentionHours,
+                                @Value("${fire-sse.outbox.lease-ms:10000}") long leaseMillis) {
+        this.outboxRepository = outboxRepository;
+        this.leaseRepository = leaseRepository;
+        this.broadcastBus = broadcastBus;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.relayTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.retentionHours = retentionHours;
+        this.leaseMillis = Math.max(leaseMillis, pollIntervalMillis * 3);
+    }
+
+    // 화재 이벤트 outbox 기록 (호출한 트랜잭션과 함께 커밋/롤백)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(List<FireEventResponse> events) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(events);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("화재 이벤트 outbox 직렬화 실패 - " + events.size() + "건", e);
+        }
+
+        FireEventOutbox outbox = outboxRepository.save(FireEventOutbox.builder()
+                .eventCount(events.size())
+                .payload(payload)
+                .build());
+        eventPublisher.publishEvent(new FireEventOutboxAppendedEvent(outbox.getId()));
+    }
+
+    // 커밋 직후 relay 깨우기 (주기를 기다리지 않음)
+    @TransactionalEventListener
+    public void onOutboxAppended(FireEventOutboxAppendedEvent event) {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            relayExecutor.execute(this::relayPending);
+        }
+    }
+
+    // 기동 시 남아있는 미발행 이벤트부터 발행
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        relayExecutor.scheduleWithFixedDelay(this::relayPending, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("화재 이벤트 outbox relay 시작 - id: {}, 주기: {}ms, batch: {}건, lease: {}ms",
+                relayId, pollIntervalMillis, batchSize, leaseMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        relayExecutor.shutdownNow();
+    }
+
+    // 보관 기간이 지난 발행 완료 행 삭제
+    @Scheduled(cron = "0 30 * * * *")
+    public void deleteExpired() {
+        try {
+            int deleted = relayTransaction.execute(status ->
+                    outboxRepository.deleteAllPublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+            if (deleted > 0) {
+                log.info("화재 이벤트 outbox 정리 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("화재 이벤트 outbox 정리 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    public FireOutboxStatsResponse getStats() {
+        LocalDateTime oldestPending = outboxRepository.findOldestUnpublishedCreatedAt();
+        long relayLagMillis = oldestPending != null
+                ? Math.max(0, Duration.between(oldestPending, LocalDateTime.now()).toMillis()) : 0;
+
+        return FireOutboxStatsResponse.builder()
+                .pendingCount(outboxRepository.countByPublishedAtIsNull())
+                .relayLagMillis(relayLagMillis)
+                .lastRelayLagMillis(lastRelayLagMillis)
+                .relayedCount(relayedCount.get())
+                .relayFailureCount(relayFailureCount.get())
+                .leaseHolder(leaseHolder)
+                .batchSize(batchSize)
+                .pollIntervalMillis(pollIntervalMillis)
+                .build();
+    }
+
+    // 미발행 행이 batch-size보다 적게 남을 때까지 반복
+    private void relayPending() {
+        wakeUpPending.set(false);
+        try {
+            Integer relayed;
+            do {
+                relayed = relayTransaction.execute(status -> relayBatch());
+            } while (relayed != null && relayed == batchSize);
+        } catch (Exception e) {
+            // 선점/완료 표시 트랜잭션이 롤백되므로 다음 주기에 다시 발행
+            relayFailureCount.incrementAndGet();
+            log.warn("화재 이벤트 outbox 발행 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    // lease 확인 -> 조회 -> 발행 -> 완료 표시 (한 트랜잭션), 발행한 행 수 반환
+    // 중간에 발행이 실패하면 앞선 행만 완료 표시하고 중단 (이후 행은 다음 주기에 id 순서대로 재시도)
+    private int relayBatch() {
+        if (!acquireLease()) {
+            return 0;
+        }
+
+        List<FireEventOutbox> rows = outboxRepository.findUnpublishedForRelay(PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> publishedIds = new ArrayList<>(rows.size());
+        FireEventOutbox lastPublished = null;
+        boolean failed = false;
+        for (FireEventOutbox row : rows) {
+            List<FireEventResponse> events;
+            try {
+                events = objectMapper.readValue(row.getPayload(), PAYLOAD_TYPE);
+            } catch (JsonProcessingException e) {
+                // 해석할 수 없는 행은 재시도해도 같으므로 완료 처리
+                log.error("화재 이벤트 outbox 해석 실패, 건너뜀 - id: {}, error: {}", row.getId(), e.getMessage());
+                publishedIds.add(row.getId());
+                continue;
+            }
+
+            try {
+                broadcastBus.publish(row.getId(), events);
+            } catch (RuntimeException e) {
+                relayFailureCount.incrementAndGet();
+                log.warn("화재 이벤트 발행 실패 - id: {}, error: {}", row.getId(), e.getMessage());
+                failed = true;
+                break;
+            }
+            publishedIds.add(row.getId());
+            lastPublished = row;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!publishedIds.isEmpty()) {
+            outboxRepository.markPublished(publishedIds, now);
+        }
+        if (lastPublished != null) {
+            lastRelayLagMillis = Math.max(0, Duration.between(lastPublished.getCreatedAt(), now).toMillis());
+        }
+        relayedCount.addAndGet(publishedIds.size());
+        log.info("화재 이벤트 outbox 발행 - {}건 (선점 {}건), 지연: {}ms",
+                publishedIds.size(), rows.size(), lastRelayLagMillis);
+        return failed ? 0 : rows.size();
+    }
+
+    // relay lease 획득/연장 (보유 노드가 바뀔 때만 로그)
+    private boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMillis));
+        int acquired = leaseRepository.acquire(LEASE_NAME, relayId, now, expiresAt);
+        if (acquired == 0 && leaseRepository.createIfAbsent(LEASE_NAME, now.minusSeconds(1)) > 0) {
+            acquired = leaseRepository.acquire(LEASE_NAME, relayId, now, expiresAt);
+        }
+
+        boolean holding = acquired > 0;
+        if (holding != leaseHolder) {
+            log.info("화재 이벤트 outbox relay lease {} - id: {}", holding ? "획득" : "상실", relayId);
+        }
+        leaseHolder = holding;
+        return holding;
+    }
+
+    // outbox 기록 알림 (커밋 후 relay 깨우기용)
+    public record FireEventOutboxAppendedEvent(Long outboxId) {
+    }
+}
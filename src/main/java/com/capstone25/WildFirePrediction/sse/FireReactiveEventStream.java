@@ -0,0 +1,84 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+// Reactor Sinks 기반 SSE 스트림 (/fires/sse-reactive)
+// - 구독자별 SseEmitter/맵 항목 없이 하나의 multicast sink를 공유
+// - directBestEffort: 느린 구독자가 다른 구독자의 전송을 막지 않음
+// - 구독자별 버퍼(queue-capacity)가 차면 가장 오래된 이벤트부터 버림
+// - heartbeat-interval-ms마다 주석 프레임(:heartbeat)을 섞어 보냄 (끊긴 연결은 쓰기 실패로 구독 해제)
+//   타이머는 모든 구독자가 공유 (연결마다 interval을 만들지 않음), 수신이 밀린 구독자에게는 건너뜀
+@Slf4j
+@Component
+public class FireReactiveEventStream {
+
+    private static final ServerSentEvent<String> HEARTBEAT = ServerSentEvent.<String>builder()
+            .comment("heartbeat")
+            .build();
+
+    private final Sinks.Many<ServerSentEvent<String>> sink = Sinks.many().multicast().directBestEffort();
+    private final int bufferCapacity;
+    private final Flux<ServerSentEvent<String>> heartbeats;
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong droppedEventCount = new AtomicLong();
+
+    public FireReactiveEventStream(@Value("${fire-sse.queue-capacity:32}") int bufferCapacity,
+                                   @Value("${fire-sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis) {
+        this.bufferCapacity = Math.max(1, bufferCapacity);
+        this.heartbeats = Flux.interval(Duration.ofMillis(heartbeatIntervalMillis))
+                .map(tick -> HEARTBEAT)
+                .share();
+    }
+
+    // 구독 (연결 확인 이벤트 후 브로드캐스트 이벤트)
+    public Flux<ServerSentEvent<String>> subscribe() {
+        ServerSentEvent<String> connect = ServerSentEvent.<String>builder()
+                .event("connect")
+                .data("SSE connected")
+                .build();
+
+        Flux<ServerSentEvent<String>> events = sink.asFlux()
+                .onBackpressureBuffer(bufferCapacity,
+                        dropped -> droppedEventCount.incrementAndGet(),
+                        BufferOverflowStrategy.DROP_OLDEST);
+
+        return Flux.concat(Mono.just(connect), Flux.merge(events, heartbeats.onBackpressureDrop()))
+                .doOnSubscribe(subscription -> subscriberCount.incrementAndGet())
+                .doFinally(signal -> subscriberCount.decrementAndGet());
+    }
+
+    // 이미 직렬화된 JSON 발행 (sink 발행은 직렬화되어야 하므로 synchronized)
+    public synchronized void publish(long eventId, String eventName, String json) {
+        Sinks.EmitResult result = sink.tryEmitNext(ServerSentEvent.<String>builder()
+                .id(Long.toString(eventId))
+                .event(eventName)
+                .data(json)
+                .build());
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.warn("Reactive SSE 발행 실패 - event: {}, result: {}", eventName, result);
+        }
+    }
+
+    public boolean hasSubscribers() {
+        return subscriberCount.get() > 0;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+}
@@ -1,51 +1,851 @@
 package com.capstone25.WildFirePrediction.sse;
 
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.response.FireDeltaResponse;
+import com.capstone25.WildFirePrediction.dto.response.FireEventResponse;
+import com.capstone25.WildFirePrediction.dto.response.SseStatsResponse;
+import com.capstone25.WildFirePrediction.global.code.status.ErrorStatus;
+import com.capstone25.WildFirePrediction.global.exception.handler.ExceptionHandler;
+import com.capstone25.WildFirePrediction.ingest.FireEventOrdering;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+// SSE 구독자 관리 및 브로드캐스트
+// - 브로드캐스트는 이벤트를 1회 인코딩해서 구독자별 전송 큐에 넣고 바로 반환 (수신 스레드는 네트워크 쓰기를 기다리지 않음)
+// - 실제 전송은 sseWriterExecutor에서 구독자별로 순서대로 처리
+// - 큐가 가득 차면 overflow-policy에 따라 오래된 이벤트를 버리거나 resync 이벤트로 대체
+// - 모든 브로드캐스트 이벤트에 증가하는 id를 붙이고 최근 이벤트를 보관
+//   재연결 시 Last-Event-ID 이후 이벤트만 재전송, 보관 범위 밖이면 resync
+// - 구독 영역(viewport)이 있는 구독자는 화재 범위와 겹치는 이벤트만 수신 (SseSubscriptionIndex)
+// - delta 구독자는 화재 갱신을 직전 버전 대비 바뀐 셀(fire_delta)로 수신
+//   연결 시 / 재전송 불가 시 영역 내 전체 화재(fire_sync), 처음 보는 화재는 fire_snapshot
+// - 주기적으로 유휴 구독자에게 heartbeat(주석 프레임)를 보내 끊긴 연결을 브로드캐스트 전에 정리
+//   idle-timeout 동안 전송이 한 번도 끝나지 않은 구독자(응답 없는 연결, 쓰기 대기 중인 writer)는 강제 종료
+//   heartbeat는 전용 스레드에서 실행, 연결 종료(complete)는 해당 구독자의 writer가 전송을 마친 뒤 처리
+// - 노드당 연결 수는 max-connections로 제한
+// - 화재별 마지막 전달 이벤트보다 과거 이벤트는 버림 (FireEventOrdering 기준, 수신 측 판단과 동일)
+//   outbox id 중복 제거는 메모리에만 있으므로 재기동/노드 간 순서 역전은 기동 시 DB에서 적재한 화재 상태 기준으로 걸러냄
 @Slf4j
 @Component
 public class FireSseEmitterRepository {
-    // 간단하게 클라이언트별 emitter를 관리 (key는 필요하면 세션/토큰 등으로 교체)
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+
+    private static final String CONNECT_EVENT = "connect";
+    private static final String SUBSCRIPTION_EVENT = "subscription";
+    private static final String RESYNC_EVENT = "resync";
+    private static final String BATCH_EVENT = "fire_batch";
+    private static final String SNAPSHOT_EVENT = "fire_snapshot";
+    private static final String DELTA_EVENT = "fire_delta";
+    private static final String SYNC_EVENT = "fire_sync";
+    private static final byte[] CONNECT_DATA = "SSE connected".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESYNC_OVERFLOW_DATA = "{\"reason\":\"queue_overflow\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESYNC_REPLAY_DATA = "{\"reason\":\"replay_unavailable\"}".getBytes(StandardCharsets.UTF_8);
+    private static final int DELIVERED_EVENT_WINDOW = 4096;    // 중복 확인용으로 기억하는 최근 outbox 이벤트 id 수
+    private static final int ENDED_FIRE_WINDOW = 4096;         // 과거 이벤트 확인용으로 기억하는 최근 종료 화재 수
+
+    // 화재 이벤트를 구독자에게 보내는 형태
+    private enum Variant {
+        SKIP,       // 구독 영역 밖
+        FULL,       // 기존 형식 (fire_prediction / fire_end)
+        DELTA,      // delta 구독자 (fire_delta, 처음 보는 화재면 fire_snapshot)
+        SNAPSHOT    // delta 구독자인데 직전 버전을 받지 못한 경우 (영역에 새로 들어온 화재)
+    }
+
+    // 간단하게 클라이언트별 구독자를 관리 (key는 필요하면 세션/토큰 등으로 교체)
+    private final Map<String, SseSubscriber> subscribers = new ConcurrentHashMap<>();
+
+    // id 발급, 이력 추가, 구독자 큐 등록을 한 번에 처리 (구독자마다 id 순서 보장, 재연결 시 누락/중복 방지)
+    private final Object broadcastLock = new Object();
+    // 화재 이벤트 처리 순서 보장 (과거 이벤트 판단, delta 계산, 직렬화는 broadcastLock 밖에서 처리)
+    // fireStates/endedFires 변경은 두 락을 모두 잡고, 읽기는 둘 중 하나만 잡아도 됨
+    private final Object fireUpdateLock = new Object();
+    private final SseEventHistory history;
+    private final SseSubscriptionIndex subscriptionIndex = new SseSubscriptionIndex();
+    private final Map<String, SseFireState> fireStates = new HashMap<>();  // 진행 중 화재별 마지막 전송 상태
+    private final Set<Long> deliveredEventIds = new LinkedHashSet<>();      // 최근 전달한 outbox 이벤트 id (재발행 중복 제거)
+    private final Map<String, String> endedFires = new LinkedHashMap<>() {  // 최근 종료 화재 -> 종료 시각
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > ENDED_FIRE_WINDOW;
+        }
+    };
+
+    private final ObjectMapper objectMapper;
+    private final FireReactiveEventStream reactiveEventStream;
+    private final Executor writerExecutor;
+    private final int queueCapacity;
+    private final SseOverflowPolicy overflowPolicy;
+    private final int maxConnections;
+    private final long heartbeatIntervalMillis;
+    private final long idleTimeoutMillis;
+
+    private final AtomicLong broadcastCount = new AtomicLong();
+    private final AtomicLong sentFrameCount = new AtomicLong();
+    private final AtomicLong droppedFrameCount = new AtomicLong();
+    private final AtomicLong resyncCount = new AtomicLong();
+    private final AtomicLong writeFailureCount = new AtomicLong();
+    private final AtomicLong heartbeatCount = new AtomicLong();
+    private final AtomicLong reapedCount = new AtomicLong();
+    private final AtomicLong rejectedConnectionCount = new AtomicLong();
+    private final AtomicLong replayedFrameCount = new AtomicLong();
+    private final AtomicLong replayMissCount = new AtomicLong();
+    private final AtomicLong filteredOutCount = new AtomicLong();
+    private final AtomicLong duplicateEventCount = new AtomicLong();
+    private final AtomicLong staleEventCount = new AtomicLong();
+    private final AtomicLong deltaEventCount = new AtomicLong();
+    private final AtomicLong fullFrameBytes = new AtomicLong();     // 화재 이벤트 기존 형식 프레임 크기 합
+    private final AtomicLong deltaFrameBytes = new AtomicLong();    // 같은 이벤트의 delta 형식 프레임 크기 합
+
+    // heartbeat 전용 스레드 (기본 @Scheduled 스레드는 다른 주기 작업과 공유하므로 서로 지연되지 않도록 분리)
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public FireSseEmitterRepository(ObjectMapper objectMapper,
+                                    FireReactiveEventStream reactiveEventStream,
+                                    @Qualifier("sseWriterExecutor") Executor writerExecutor,
+                                    @Value("${fire-sse.queue-capacity:32}") int queueCapacity,
+                                    @Value("${fire-sse.overflow-policy:COALESCE}") SseOverflowPolicy overflowPolicy,
+                                    @Value("${fire-sse.replay.max-events:256}") int replayMaxEvents,
+                                    @Value("${fire-sse.replay.max-bytes:67108864}") long replayMaxBytes,
+                                    @Value("${fire-sse.max-connections:5000}") int maxConnections,
+                                    @Value("${fire-sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+                                    @Value("${fire-sse.idle-timeout-ms:60000}") long idleTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.reactiveEventStream = reactiveEventStream;
+        this.writerExecutor = writerExecutor;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.history = new SseEventHistory(replayMaxEvents, replayMaxBytes, System.currentTimeMillis());
+        this.maxConnections = maxConnections;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
 
     // 구독 등록
-    public SseEmitter add(String id, Long timeout) {
+    // - lastEventId가 있으면 놓친 이벤트부터 전송, viewport가 있으면 해당 영역 화재만 전송
+    // - deltaMode면 화재 갱신을 fire_delta로 수신 (연결 시 fire_sync로 전체 상태 전송)
+    public SseEmitter add(String id, Long timeout, String lastEventId, SseViewport viewport, boolean deltaMode) {
+        // 동시에 연결하면 몇 건 초과할 수 있음 (연결 수 상한 용도라 엄밀하게 맞추지 않음)
+        if (subscribers.size() >= maxConnections) {
+            rejectedConnectionCount.incrementAndGet();
+            log.warn("SSE 연결 거부 - 최대 연결 수 도달: {}", maxConnections);
+            throw new ExceptionHandler(ErrorStatus.SSE_CONNECTION_LIMIT_EXCEEDED);
+        }
+
         SseEmitter emitter = new SseEmitter(timeout);
-        emitters.put(id, emitter);
+        SseSubscriber subscriber = new SseSubscriber(id, emitter, queueCapacity, deltaMode, viewport);
 
         emitter.onCompletion(() -> {
             log.info("SSE completed - id: {}", id);
-            emitters.remove(id);
+            remove(id);
         });
         emitter.onTimeout(() -> {
             log.info("SSE timeout - id: {}", id);
-            emitters.remove(id);
+            remove(id);
         });
         emitter.onError((e) -> {
             log.warn("SSE error - id: {}, error: {}", id, e.getMessage());
-            emitters.remove(id);
+            remove(id);
         });
 
+        boolean hasLastEventId = lastEventId != null && !lastEventId.isBlank();
+
+        // 연결 확인 -> 구독 id -> 재전송 이벤트(또는 fire_sync) -> 이후 브로드캐스트 순서로 큐에 등록
+        synchronized (broadcastLock) {
+            offerControl(subscriber, SseFrame.of(SseFrame.NO_ID, CONNECT_EVENT, CONNECT_DATA));
+            offerControl(subscriber, SseFrame.of(SseFrame.NO_ID, SUBSCRIPTION_EVENT, subscriptionData(id)));
+            if (deltaMode && (!hasLastEventId || viewport != null)) {
+                // 영역 구독자는 영역 밖 화재의 delta를 걸러낼 수 없으므로 재전송 대신 현재 상태 전송
+                offerControl(subscriber, syncFrame(viewport));
+            } else if (hasLastEventId) {
+                replay(subscriber, lastEventId.trim());
+            }
+            subscribers.put(id, subscriber);
+            subscriptionIndex.put(subscriber, viewport);
+        }
+        scheduleDrain(subscriber);
+
         return emitter;
     }
 
-    // 전체 브로드캐스트
+    // 구독 영역 변경 (null이면 전체 화재 수신), 구독자가 없으면 false
+    // delta 구독자에게는 영역에 새로 들어온 화재를 fire_snapshot 묶음(fire_batch)으로 전송
+    public boolean updateViewport(String id, SseViewport viewport) {
+        synchronized (broadcastLock) {
+            SseSubscriber subscriber = subscribers.get(id);
+            if (subscriber == null) {
+                return false;
+            }
+            SseViewport previous = subscriber.getViewport();
+            subscriber.setViewport(viewport);
+            subscriptionIndex.put(subscriber, viewport);
+
+            if (subscriber.isDeltaMode()) {
+                List<byte[]> entered = new ArrayList<>();
+                for (SseFireState state : fireStates.values()) {
+                    if (inViewport(viewport, state.getExtent()) && !inViewport(previous, state.getExtent())) {
+                        entered.add(batchItem(SNAPSHOT_EVENT, state.getSnapshotJson()));
+                    }
+                }
+                if (!entered.isEmpty()) {
+                    enqueue(subscriber, SseFrame.of(SseFrame.NO_ID, BATCH_EVENT, joinJsonArray(entered)),
+                            SseFrame.of(history.getLastId(), RESYNC_EVENT, RESYNC_OVERFLOW_DATA));
+                }
+            }
+        }
+        log.info("SSE 구독 영역 변경 - id: {}, viewport: {}", id, viewport);
+        return true;
+    }
+
+    // 기동 시 진행 중 화재 상태 적재 (이미 수신 반영된 화재는 최신본 유지)
+    public void seedFireStates(List<FirePredictionRequestDto> activeFires) {
+        for (FirePredictionRequestDto activeFire : activeFires) {
+            byte[] fullJson = serialize(activeFire, SNAPSHOT_EVENT);
+            if (fullJson == null) {
+                continue;
+            }
+            SseFireState state = new SseFireState(1, activeFire, SseViewport.extentOf(activeFire),
+                    snapshotJson(activeFire.getFireId(), 1, fullJson));
+            synchronized (fireUpdateLock) {
+                synchronized (broadcastLock) {
+                    fireStates.putIfAbsent(activeFire.getFireId(), state);
+                }
+            }
+        }
+        log.info("SSE 화재 상태 적재 완료 - {}건", activeFires.size());
+    }
+
+    // 전체 구독자 브로드캐스트 (영역 필터 없음, delta 구독자도 같은 이벤트)
     public void sendToAll(Object data, String eventName) {
-        emitters.forEach((id, emitter) -> {
-            try {
-                SseEmitter.SseEventBuilder event = SseEmitter.event()
-                        .name(eventName)
-                        .data(data);
-                emitter.send(event);
-            } catch (IOException e) {
-                log.warn("SSE send 실패 - id: {}, error: {}", id, e.getMessage());
-                emitter.completeWithError(e);
+        byte[] json = serialize(data, eventName);
+        if (json == null) {
+            return;
+        }
+        broadcastCount.incrementAndGet();
+        synchronized (broadcastLock) {
+            long eventId = history.nextId();
+            SseFrame frame = SseFrame.of(eventId, eventName, json);
+            history.append(frame, frame, null);
+            publishReactive(eventId, eventName, json);
+
+            SseFrame resyncFrame = SseFrame.of(eventId, RESYNC_EVENT, RESYNC_OVERFLOW_DATA);
+            for (SseSubscriber subscriber : subscribers.values()) {
+                enqueue(subscriber, frame, resyncFrame);
             }
-        });
+        }
+    }
+
+    // 화재 이벤트 브로드캐스트 (화재 범위와 겹치는 영역 구독자에게만 전송)
+    public void sendFireEvent(FirePredictionRequestDto requestDto, String eventName) {
+        byte[] fullJson = serialize(requestDto, eventName);
+        if (fullJson == null) {
+            return;
+        }
+        synchronized (fireUpdateLock) {
+            FireUpdate update = prepareFireUpdate(requestDto, eventName, fullJson, null);
+            if (update != null) {
+                broadcastUpdates(eventName, List.of(update), false);
+            }
+        }
+    }
+
+    // 화재 이벤트 묶음 브로드캐스트 (구독자마다 영역과 겹치는 항목만 묶어서 전송)
+    // 직렬화에 실패한 항목만 빼고 전송 (serialize에서 로그)
+    public void sendFireBatch(List<FireEventResponse> events) {
+        List<FireEventResponse> serialized = new ArrayList<>(events.size());
+        List<byte[]> fullJsons = new ArrayList<>(events.size());
+        for (FireEventResponse event : events) {
+            byte[] fullJson = serialize(event.getData(), BATCH_EVENT);
+            if (fullJson != null) {
+                serialized.add(event);
+                fullJsons.add(fullJson);
+            }
+        }
+        if (serialized.isEmpty()) {
+            return;
+        }
+
+        synchronized (fireUpdateLock) {
+            // 같은 묶음에 같은 화재가 여러 번 있으면 앞 항목 적용 결과를 기준으로 비교
+            Map<String, FireUpdate> staged = new HashMap<>();
+            List<FireUpdate> updates = new ArrayList<>(serialized.size());
+            for (int i = 0; i < serialized.size(); i++) {
+                FirePredictionRequestDto data = serialized.get(i).getData();
+                FireUpdate update = prepareFireUpdate(data, serialized.get(i).getEvent(), fullJsons.get(i),
+                        staged.get(data.getFireId()));
+                if (update != null) {
+                    updates.add(update);
+                    staged.put(data.getFireId(), update);
+                }
+            }
+            if (!updates.isEmpty()) {
+                broadcastUpdates(BATCH_EVENT, updates, true);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startHeartbeat() {
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMillis, heartbeatIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopHeartbeat() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    // 유휴 구독자 heartbeat 및 응답 없는 구독자 정리 (heartbeat 전용 스레드)
+    // - heartbeat 전송이 실패하면 write()에서 바로 정리 (다음 브로드캐스트가 실패를 떠안지 않음)
+    // - 쓰기가 idle-timeout 넘게 끝나지 않으면(상대가 수신하지 않아 소켓 버퍼가 가득 찬 경우 등) 강제 종료
+    void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            int sent = 0;
+            int reaped = 0;
+            for (SseSubscriber subscriber : subscribers.values()) {
+                long idleMillis = subscriber.idleMillis(now);
+                if (idleMillis > idleTimeoutMillis) {
+                    reap(subscriber, idleMillis);
+                    reaped++;
+                } else if (idleMillis >= heartbeatIntervalMillis && subscriber.offerIfIdle(SseFrame.HEARTBEAT)) {
+                    scheduleDrain(subscriber);
+                    sent++;
+                }
+            }
+            heartbeatCount.addAndGet(sent);
+            if (reaped > 0) {
+                log.info("SSE heartbeat - 전송: {}명, 정리: {}명, 남은 구독자: {}명", sent, reaped, subscribers.size());
+            }
+        } catch (Exception e) {
+            // 예외가 전파되면 이후 주기 실행이 중단되므로 여기서 처리
+            log.warn("SSE heartbeat 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    // 화재 이벤트 목록 브로드캐스트 (FireBroadcastBus에서 호출)
+    // outbox relay는 at-least-once이므로 이미 전달한 eventId는 무시
+    public void sendFireEvents(long eventId, List<FireEventResponse> events) {
+        synchronized (broadcastLock) {
+            if (!deliveredEventIds.add(eventId)) {
+                duplicateEventCount.incrementAndGet();
+                log.info("SSE 중복 이벤트 무시 - eventId: {}", eventId);
+                return;
+            }
+            if (deliveredEventIds.size() > DELIVERED_EVENT_WINDOW) {
+                Iterator<Long> oldest = deliveredEventIds.iterator();
+                oldest.next();
+                oldest.remove();
+            }
+        }
+
+        if (events.size() == 1) {
+            sendFireEvent(events.get(0).getData(), events.get(0).getEvent());
+        } else if (!events.isEmpty()) {
+            sendFireBatch(events);
+        }
+    }
+
+    public SseStatsResponse getStats() {
+        long totalDepth = 0;
+        int maxDepth = 0;
+        int deltaSubscribers = 0;
+        for (SseSubscriber subscriber : subscribers.values()) {
+            int depth = subscriber.depth();
+            totalDepth += depth;
+            maxDepth = Math.max(maxDepth, depth);
+            if (subscriber.isDeltaMode()) {
+                deltaSubscribers++;
+            }
+        }
+
+        int replayBufferEvents;
+        long replayBufferBytes;
+        long lastEventId;
+        int viewportSubscribers;
+        int trackedFires;
+        synchronized (broadcastLock) {
+            viewportSubscribers = subscriptionIndex.filteredCount();
+            replayBufferEvents = history.size();
+            replayBufferBytes = history.getTotalBytes();
+            lastEventId = history.getLastId();
+            trackedFires = fireStates.size();
+        }
+
+        return SseStatsResponse.builder()
+                .subscriberCount(subscribers.size())
+                .maxConnections(maxConnections)
+                .viewportSubscriberCount(viewportSubscribers)
+                .deltaSubscriberCount(deltaSubscribers)
+                .reactiveSubscriberCount(reactiveEventStream.getSubscriberCount())
+                .queueCapacity(queueCapacity)
+                .overflowPolicy(overflowPolicy)
+                .totalQueueDepth(totalDepth)
+                .maxQueueDepth(maxDepth)
+                .broadcastCount(broadcastCount.get())
+                .sentFrameCount(sentFrameCount.get())
+                .droppedFrameCount(droppedFrameCount.get())
+                .resyncCount(resyncCount.get())
+                .reactiveDroppedEventCount(reactiveEventStream.getDroppedEventCount())
+                .writeFailureCount(writeFailureCount.get())
+                .reapedCount(reapedCount.get())
+                .rejectedConnectionCount(rejectedConnectionCount.get())
+                .heartbeatCount(heartbeatCount.get())
+                .lastEventId(lastEventId)
+                .replayBufferEvents(replayBufferEvents)
+                .replayBufferBytes(replayBufferBytes)
+                .replayedFrameCount(replayedFrameCount.get())
+                .replayMissCount(replayMissCount.get())
+                .filteredOutCount(filteredOutCount.get())
+                .duplicateEventCount(duplicateEventCount.get())
+                .staleEventCount(staleEventCount.get())
+                .trackedFireCount(trackedFires)
+                .deltaEventCount(deltaEventCount.get())
+                .fullFrameBytes(fullFrameBytes.get())
+                .deltaFrameBytes(deltaFrameBytes.get())
+                .build();
+    }
+
+    // 화재 상태 변경과 구독자 형태별 데이터 준비 (fireUpdateLock 안에서 호출, 과거 이벤트면 null)
+    // 상태는 바꾸지 않고 결과만 반환 (broadcastUpdates에서 id 발급과 함께 적용)
+    // - staged: 같은 묶음에서 먼저 준비된 같은 화재 항목 (없으면 현재 상태 기준)
+    // - 종료: 마지막 범위로 전달 후 상태 삭제, 종료 시각은 endedFires에 보관
+    // - 예측: 버전 증가, 직전 버전이 있고 변경이 적으면 fire_delta, 아니면 fire_snapshot
+    private FireUpdate prepareFireUpdate(FirePredictionRequestDto requestDto, String eventName, byte[] fullJson,
+                                         FireUpdate staged) {
+        String fireId = requestDto.getFireId();
+        String eventTimestamp = FireEventOrdering.eventTimestamp(requestDto);
+        SseFireState current = staged != null ? staged.state() : fireStates.get(fireId);
+        String endedAt = staged != null ? staged.endedTimestamp() : endedFires.get(fireId);
+        boolean stale = current != null
+                ? FireEventOrdering.isOlder(requestDto, current.getData())
+                : FireEventOrdering.isOlder(requestDto.getEventType(), eventTimestamp, FireEventOrdering.END, endedAt);
+        if (stale) {
+            staleEventCount.incrementAndGet();
+            log.info("SSE 과거 화재 이벤트 무시 - fireId: {}, event: {}, 시각: {}", fireId, eventName, eventTimestamp);
+            return null;
+        }
+
+        if (FireEventOrdering.END.equals(requestDto.getEventType())) {
+            SseViewport extent = current != null && current.getExtent() != null
+                    ? current.getExtent() : SseViewport.extentOf(requestDto);
+            return new FireUpdate(fireId, null, eventTimestamp,
+                    eventName, fullJson, eventName, fullJson, null, extent, extent);
+        }
+
+        long version = current != null ? current.getVersion() + 1 : 1;
+        SseViewport extent = SseViewport.extentOf(requestDto);
+        byte[] snapshotJson = snapshotJson(fireId, version, fullJson);
+        SseFireState state = new SseFireState(version, requestDto, extent, snapshotJson);
+
+        if (current != null) {
+            FireDeltaResponse delta = FireDeltaResponse.between(
+                    current.getData(), requestDto, current.getVersion(), version);
+            byte[] deltaJson = delta != null ? serialize(delta, DELTA_EVENT) : null;
+            if (deltaJson != null) {
+                return new FireUpdate(fireId, state, null, eventName, fullJson, DELTA_EVENT, deltaJson, snapshotJson,
+                        extent, current.getExtent());
+            }
+        }
+        return new FireUpdate(fireId, state, null,
+                eventName, fullJson, SNAPSHOT_EVENT, snapshotJson, snapshotJson, extent, null);
+    }
+
+    // 준비된 화재 상태 적용 (fireUpdateLock, broadcastLock 안에서 호출)
+    private void commitFireState(FireUpdate update) {
+        if (update.state() == null) {
+            fireStates.remove(update.fireId());
+            if (update.endedTimestamp() != null) {
+                endedFires.put(update.fireId(), update.endedTimestamp());
+            }
+        } else {
+            endedFires.remove(update.fireId());
+            fireStates.put(update.fireId(), update.state());
+        }
+    }
+
+    // 화재 상태 적용, id 발급, 이력 추가, 대상 구독자 큐 등록 (fireUpdateLock 안에서 호출)
+    // 공통 프레임 데이터는 broadcastLock 밖에서 만들고, 구독자별 항목 형태(Variant) 조합마다 프레임을 1회 인코딩
+    private void broadcastUpdates(String eventName, List<FireUpdate> updates, boolean batch) {
+        broadcastCount.incrementAndGet();
+
+        SseViewport extent = null;
+        boolean global = false;
+        for (FireUpdate update : updates) {
+            if (update.extent() == null) {
+                global = true;
+            } else {
+                extent = extent == null ? update.extent() : extent.union(update.extent());
+            }
+        }
+        if (global) {
+            extent = null;
+        }
+
+        BitSet fullKey = uniformKey(updates.size(), Variant.FULL);
+        BitSet deltaKey = uniformKey(updates.size(), Variant.DELTA);
+        byte[] fullData = frameData(updates, fullKey, batch);
+        byte[] deltaData = frameData(updates, deltaKey, batch);
+
+        synchronized (broadcastLock) {
+            updates.forEach(this::commitFireState);
+            enqueueUpdates(eventName, updates, batch, extent, fullKey, fullData, deltaKey, deltaData);
+        }
+    }
+
+    // broadcastLock 안에서 호출
+    private void enqueueUpdates(String eventName, List<FireUpdate> updates, boolean batch, SseViewport extent,
+                                BitSet fullKey, byte[] fullData, BitSet deltaKey, byte[] deltaData) {
+        long eventId = history.nextId();
+        Map<BitSet, SseFrame> frames = new HashMap<>();
+        SseFrame fullFrame = SseFrame.of(eventId, frameEvent(eventName, updates, fullKey, batch), fullData);
+        SseFrame deltaFrame = SseFrame.of(eventId, frameEvent(eventName, updates, deltaKey, batch), deltaData);
+        frames.put(fullKey, fullFrame);
+        frames.put(deltaKey, deltaFrame);
+
+        history.append(fullFrame, deltaFrame, extent);
+        publishReactive(eventId, fullFrame.getEventName(), fullData);
+        fullFrameBytes.addAndGet(fullFrame.getSize());
+        deltaFrameBytes.addAndGet(deltaFrame.getSize());
+        if (updates.stream().anyMatch(update -> DELTA_EVENT.equals(update.deltaEvent()))) {
+            deltaEventCount.incrementAndGet();
+        }
+
+        int targets = 0;
+        int dropped = 0;
+        if (!subscribers.isEmpty()) {
+            // 큐 초과 시 대체할 resync (이 이벤트 id를 가져서 이후 재연결은 여기부터 재전송)
+            SseFrame resyncFrame = SseFrame.of(eventId, RESYNC_EVENT, RESYNC_OVERFLOW_DATA);
+            Set<SseSubscriber> candidates = subscriptionIndex.query(extent);
+            for (SseSubscriber subscriber : candidates) {
+                BitSet key = new BitSet(updates.size() * 2);
+                boolean any = false;
+                for (int i = 0; i < updates.size(); i++) {
+                    Variant variant = variantFor(subscriber, updates.get(i));
+                    setVariant(key, i, variant);
+                    any |= variant != Variant.SKIP;
+                }
+                if (!any) {
+                    continue;
+                }
+                SseFrame frame = frames.computeIfAbsent(key, k -> SseFrame.of(eventId,
+                        frameEvent(eventName, updates, k, batch), frameData(updates, k, batch)));
+                dropped += enqueue(subscriber, frame, resyncFrame);
+                targets++;
+            }
+            filteredOutCount.addAndGet(subscribers.size() - targets);
+        }
+
+        log.info("SSE 브로드캐스트 등록 - id: {}, event: {}, 대상: {}/{}명, 프레임: {}bytes (delta {}bytes), 버린 이벤트: {}건",
+                eventId, eventName, targets, subscribers.size(), fullFrame.getSize(), deltaFrame.getSize(), dropped);
+    }
+
+    private Variant variantFor(SseSubscriber subscriber, FireUpdate update) {
+        if (!subscriptionIndex.matches(subscriber, update.extent())) {
+            return Variant.SKIP;
+        }
+        if (!subscriber.isDeltaMode()) {
+            return Variant.FULL;
+        }
+        // 직전 버전이 구독 영역 밖이었으면 클라이언트에 기준 버전이 없음
+        if (DELTA_EVENT.equals(update.deltaEvent()) && !subscriptionIndex.matches(subscriber, update.previousExtent())) {
+            return Variant.SNAPSHOT;
+        }
+        return Variant.DELTA;
+    }
+
+    // 단일 이벤트면 항목 이벤트명, 묶음이면 fire_batch
+    private static String frameEvent(String eventName, List<FireUpdate> updates, BitSet key, boolean batch) {
+        return batch ? eventName : itemEvent(updates.get(0), getVariant(key, 0));
+    }
+
+    // 단일 이벤트면 항목 데이터, 묶음이면 [{ "event", "data" }, ...]
+    private static byte[] frameData(List<FireUpdate> updates, BitSet key, boolean batch) {
+        if (!batch) {
+            return itemData(updates.get(0), getVariant(key, 0));
+        }
+        List<byte[]> items = new ArrayList<>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            Variant variant = getVariant(key, i);
+            if (variant != Variant.SKIP) {
+                items.add(batchItem(itemEvent(updates.get(i), variant), itemData(updates.get(i), variant)));
+            }
+        }
+        return joinJsonArray(items);
+    }
+
+    private static String itemEvent(FireUpdate update, Variant variant) {
+        return switch (variant) {
+            case DELTA -> update.deltaEvent();
+            case SNAPSHOT -> SNAPSHOT_EVENT;
+            default -> update.fullEvent();
+        };
+    }
+
+    private static byte[] itemData(FireUpdate update, Variant variant) {
+        return switch (variant) {
+            case DELTA -> update.deltaJson();
+            case SNAPSHOT -> update.snapshotJson();
+            default -> update.fullJson();
+        };
+    }
+
+    // 항목별 형태를 2비트씩 기록
+    private static BitSet uniformKey(int size, Variant variant) {
+        BitSet key = new BitSet(size * 2);
+        for (int i = 0; i < size; i++) {
+            setVariant(key, i, variant);
+        }
+        return key;
+    }
+
+    private static void setVariant(BitSet key, int index, Variant variant) {
+        key.set(index * 2, (variant.ordinal() & 1) != 0);
+        key.set(index * 2 + 1, (variant.ordinal() & 2) != 0);
+    }
+
+    private static Variant getVariant(BitSet key, int index) {
+        int ordinal = (key.get(index * 2) ? 1 : 0) | (key.get(index * 2 + 1) ? 2 : 0);
+        return Variant.values()[ordinal];
+    }
+
+    // 영역 내 진행 중 화재 전체 ([fire_snapshot data, ...]), 현재 마지막 id를 붙여 이후 재연결은 여기부터 재전송
+    private SseFrame syncFrame(SseViewport viewport) {
+        List<byte[]> snapshots = new ArrayList<>();
+        for (SseFireState state : fireStates.values()) {
+            if (inViewport(viewport, state.getExtent())) {
+                snapshots.add(state.getSnapshotJson());
+            }
+        }
+        return SseFrame.of(history.getLastId(), SYNC_EVENT, joinJsonArray(snapshots));
+    }
+
+    private static boolean inViewport(SseViewport viewport, SseViewport extent) {
+        return viewport == null || extent == null || viewport.intersects(extent);
+    }
+
+    private void publishReactive(long eventId, String eventName, byte[] json) {
+        if (reactiveEventStream.hasSubscribers()) {
+            reactiveEventStream.publish(eventId, eventName, new String(json, StandardCharsets.UTF_8));
+        }
+    }
+
+    // Last-Event-ID 이후 이벤트 재전송 등록 (broadcastLock 안에서 호출)
+    private void replay(SseSubscriber subscriber, String lastEventId) {
+        List<SseEventHistory.Entry> missed = null;
+        try {
+            missed = history.since(Long.parseLong(lastEventId));
+        } catch (NumberFormatException e) {
+            log.warn("SSE Last-Event-ID 형식 오류 - id: {}, lastEventId: {}", subscriber.getId(), lastEventId);
+        }
+
+        if (missed == null) {
+            // 보관 범위 밖: delta 구독자는 현재 상태, 기본 구독자는 전체 재조회 요청
+            replayMissCount.incrementAndGet();
+            offerControl(subscriber, subscriber.isDeltaMode()
+                    ? syncFrame(subscriber.getViewport())
+                    : SseFrame.of(history.getLastId(), RESYNC_EVENT, RESYNC_REPLAY_DATA));
+            log.info("SSE 재전송 불가 - id: {}, lastEventId: {}", subscriber.getId(), lastEventId);
+            return;
+        }
+
+        SseFrame resyncFrame = SseFrame.of(history.getLastId(), RESYNC_EVENT, RESYNC_OVERFLOW_DATA);
+        int replayed = 0;
+        SseViewport viewport = subscriber.getViewport();
+        for (SseEventHistory.Entry entry : missed) {
+            // 영역 구독자는 겹치는 이벤트만 (fire_batch는 항목 중 하나라도 겹치면 전체)
+            if (inViewport(viewport, entry.extent())) {
+                enqueue(subscriber, subscriber.isDeltaMode() ? entry.deltaFrame() : entry.frame(), resyncFrame);
+                replayed++;
+            }
+        }
+        replayedFrameCount.addAndGet(replayed);
+        log.info("SSE 재전송 - id: {}, lastEventId: {}, 이벤트: {}건", subscriber.getId(), lastEventId, replayed);
+    }
+
+    // 연결 직후 제어 이벤트 등록 (큐가 차면 자기 자신으로 대체)
+    private void offerControl(SseSubscriber subscriber, SseFrame frame) {
+        subscriber.offer(frame, overflowPolicy, frame);
+    }
+
+    // 구독자 큐에 추가 후 writer 예약, 버린 이벤트 수 반환
+    private int enqueue(SseSubscriber subscriber, SseFrame frame, SseFrame resyncFrame) {
+        int dropped = subscriber.offer(frame, overflowPolicy, resyncFrame);
+        if (dropped > 0) {
+            droppedFrameCount.addAndGet(dropped);
+            if (overflowPolicy == SseOverflowPolicy.COALESCE) {
+                resyncCount.incrementAndGet();
+            }
+        }
+        scheduleDrain(subscriber);
+        return dropped;
+    }
+
+    private void scheduleDrain(SseSubscriber subscriber) {
+        if (subscriber.tryStartDrain()) {
+            writerExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    // writer 스레드: 구독자 큐를 순서대로 전송, 종료 요청이 있으면 현재 전송을 마친 뒤 연결 종료
+    private void drain(SseSubscriber subscriber) {
+        try {
+            SseFrame frame;
+            while (!subscriber.isCloseRequested() && (frame = subscriber.poll()) != null) {
+                if (!write(subscriber, frame)) {
+                    return;
+                }
+            }
+            if (subscriber.isCloseRequested()) {
+                close(subscriber);
+                return;
+            }
+        } finally {
+            subscriber.finishDrain();
+        }
+
+        // finishDrain 직전에 들어온 이벤트 / 종료 요청 처리 (wakeup 누락 방지)
+        if (subscriber.isCloseRequested()
+                || (subscriber.depth() > 0 && subscribers.containsKey(subscriber.getId()))) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private boolean write(SseSubscriber subscriber, SseFrame frame) {
+        try {
+            subscriber.getEmitter().send(frame.getItems());
+            subscriber.markWritten();
+            if (!frame.isComment()) {
+                sentFrameCount.incrementAndGet();
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.warn("SSE send 실패 - id: {}, error: {}", subscriber.getId(), e.getMessage());
+            writeFailureCount.incrementAndGet();
+            remove(subscriber.getId());
+            subscriber.getEmitter().completeWithError(e);
+            return false;
+        }
+    }
+
+    // 응답 없는 구독자 강제 종료 (먼저 목록에서 빼서 이후 브로드캐스트 대상에서 제외)
+    // - complete()는 writer 실행기에서 호출 (전송 중인 writer가 있으면 그 writer가 send를 마친 뒤 호출)
+    // - send가 끝나지 않는 연결은 컨테이너의 async timeout 또는 쓰기 실패로 정리됨
+    private void reap(SseSubscriber subscriber, long idleMillis) {
+        remove(subscriber.getId());
+        subscriber.requestClose();
+        reapedCount.incrementAndGet();
+        log.info("SSE 유휴 연결 정리 - id: {}, 마지막 전송 후 {}ms", subscriber.getId(), idleMillis);
+        scheduleDrain(subscriber);
+    }
+
+    // writer 스레드에서만 호출 (draining 보유 중)
+    private void close(SseSubscriber subscriber) {
+        if (!subscriber.markClosed()) {
+            return;
+        }
+        try {
+            subscriber.getEmitter().complete();
+        } catch (Exception e) {
+            log.debug("SSE 유휴 연결 종료 실패 - id: {}, error: {}", subscriber.getId(), e.getMessage());
+        }
+    }
+
+    private void remove(String id) {
+        SseSubscriber subscriber = subscribers.remove(id);
+        if (subscriber != null) {
+            synchronized (broadcastLock) {
+                subscriptionIndex.remove(subscriber);
+            }
+            subscriber.clear();
+        }
+    }
+
+    // {"fire_id":..,"version":..,"data":<전체 JSON>} (전체 JSON은 다시 직렬화하지 않음)
+    private static byte[] snapshotJson(String fireId, long version, byte[] fullJson) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(fullJson.length + 64);
+        out.writeBytes("{\"fire_id\":\"".getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(JsonStringEncoder.getInstance().quoteAsUTF8(fireId));
+        out.writeBytes(("\",\"version\":" + version + ",\"data\":").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(fullJson);
+        out.write('}');
+        return out.toByteArray();
+    }
+
+    private static byte[] subscriptionData(String id) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("{\"subscription_id\":\"".getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(JsonStringEncoder.getInstance().quoteAsUTF8(id));
+        out.writeBytes("\"}".getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    // fire_batch 항목 ({"event":..,"data":..}, FireEventResponse와 같은 형식)
+    private static byte[] batchItem(String event, byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length + 32);
+        out.writeBytes(("{\"event\":\"" + event + "\",\"data\":").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(data);
+        out.write('}');
+        return out.toByteArray();
+    }
+
+    private static byte[] joinJsonArray(List<byte[]> items) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(items.get(i));
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    private byte[] serialize(Object data, String eventName) {
+        try {
+            return objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패 - event: {}, error: {}", eventName, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    // 화재 1건의 구독자 형태별 이벤트명/데이터
+    // - full*: 기존 형식, delta*: delta 구독자용 (fire_delta / fire_snapshot / fire_end)
+    // - previousExtent: 직전 버전 범위 (delta 구독자가 기준 버전을 받았는지 판단)
+    // state: 적용 후 상태 (종료면 null), endedTimestamp: 종료 시각 (예측이면 null)
+    private record FireUpdate(String fireId, SseFireState state, String endedTimestamp,
+                              String fullEvent, byte[] fullJson, String deltaEvent, byte[] deltaJson,
+                              byte[] snapshotJson, SseViewport extent, SseViewport previousExtent) {
     }
 }
@@ -0,0 +1,28 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import com.capstone25.WildFirePrediction.service.AIPredictionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 기동 시 DB의 진행 중 화재로 SSE 화재 상태 1회 적재 (delta 구독자 fire_sync / 첫 갱신 delta 계산용)
+// AIPredictionService가 FireSseEmitterRepository를 사용하므로 초기화는 별도 컴포넌트에서 처리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FireSseStateInitializer {
+
+    private final AIPredictionService aiPredictionService;
+    private final FireSseEmitterRepository emitterRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            emitterRepository.seedFireStates(aiPredictionService.getActiveFirePredictionsAsRequestDto());
+        } catch (Exception e) {
+            log.error("SSE 화재 상태 적재 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+}
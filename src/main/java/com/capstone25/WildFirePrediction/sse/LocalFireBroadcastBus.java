@@ -0,0 +1,21 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import com.capstone25.WildFirePrediction.dto.response.FireEventResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 단일 노드용 버스 (발행 즉시 이 노드의 구독자에게 전달)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fire-sse.bus.mode", havingValue = "LOCAL", matchIfMissing = true)
+public class LocalFireBroadcastBus implements FireBroadcastBus {
+
+    private final FireSseEmitterRepository emitterRepository;
+
+    @Override
+    public void publish(long eventId, List<FireEventResponse> events) {
+        emitterRepository.sendFireEvents(eventId, events);
+    }
+}
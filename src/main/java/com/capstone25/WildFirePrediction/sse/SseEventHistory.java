@@ -0,0 +1,74 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// 최근 브로드캐스트 이벤트 보관 (Last-Event-ID 재연결 시 놓친 이벤트 재전송용)
+// - 이벤트 수(max-events)와 바이트 합(max-bytes) 중 먼저 넘는 쪽 기준으로 오래된 것부터 제거
+// - id는 기동 시각(epoch ms)에서 시작해 1씩 증가 (재기동 전 id는 항상 버퍼 범위 밖으로 판정)
+// - 동기화는 호출자(FireSseEmitterRepository의 broadcastLock) 책임
+class SseEventHistory {
+
+    private final int maxEvents;
+    private final long maxBytes;
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private long totalBytes;
+    private long lastId;
+
+    SseEventHistory(int maxEvents, long maxBytes, long initialId) {
+        this.maxEvents = Math.max(0, maxEvents);
+        this.maxBytes = Math.max(0, maxBytes);
+        this.lastId = initialId;
+    }
+
+    long nextId() {
+        return ++lastId;
+    }
+
+    long getLastId() {
+        return lastId;
+    }
+
+    // frame: 기본 구독자용, deltaFrame: delta 구독자용 (같으면 같은 객체)
+    // extent: 이벤트가 영향을 주는 범위 (null이면 전체 구독자 대상)
+    void append(SseFrame frame, SseFrame deltaFrame, SseViewport extent) {
+        entries.addLast(new Entry(frame, deltaFrame, extent));
+        totalBytes += frame.getSize() + (deltaFrame != frame ? deltaFrame.getSize() : 0);
+        while (!entries.isEmpty() && (entries.size() > maxEvents || totalBytes > maxBytes)) {
+            Entry evicted = entries.pollFirst();
+            totalBytes -= evicted.frame().getSize()
+                    + (evicted.deltaFrame() != evicted.frame() ? evicted.deltaFrame().getSize() : 0);
+        }
+    }
+
+    // lastEventId 이후 이벤트 (버퍼 범위 밖이면 null)
+    List<Entry> since(long lastEventId) {
+        if (lastEventId == lastId) {
+            return List.of();
+        }
+        if (lastEventId > lastId || entries.isEmpty() || lastEventId < entries.peekFirst().frame().getId() - 1) {
+            return null;
+        }
+
+        List<Entry> missed = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.frame().getId() > lastEventId) {
+                missed.add(entry);
+            }
+        }
+        return missed;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long getTotalBytes() {
+        return totalBytes;
+    }
+
+    record Entry(SseFrame frame, SseFrame deltaFrame, SseViewport extent) {
+    }
+}
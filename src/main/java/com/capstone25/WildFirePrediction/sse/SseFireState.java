@@ -0,0 +1,17 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 진행 중 화재의 마지막 전송 상태 (delta 계산, 연결 시 fire_sync, 종료 이벤트 라우팅용)
+// - snapshotJson: fire_snapshot data ({"fire_id","version","data"}) 직렬화 결과
+@Getter
+@RequiredArgsConstructor
+class SseFireState {
+
+    private final long version;
+    private final FirePredictionRequestDto data;
+    private final SseViewport extent;
+    private final byte[] snapshotJson;
+}
@@ -0,0 +1,63 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+// 한 번 인코딩한 SSE 이벤트 ("id:..\nevent:..\ndata:..\n\n" 전체 바이트)
+// - 브로드캐스트 1회당 JSON 직렬화 1회, 모든 구독자에게 같은 바이트를 전송
+// - 구독자별로 SseEventBuilder/JSON을 다시 만들지 않음
+@Getter
+public final class SseFrame {
+
+    public static final long NO_ID = 0L;    // id 줄 없음 (connect 등 재전송 대상이 아닌 이벤트)
+
+    // 연결 유지용 주석 프레임 (EventSource는 이벤트로 전달하지 않음)
+    public static final SseFrame HEARTBEAT = new SseFrame(NO_ID, null,
+            ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8));
+
+    private static final byte[] ID_PREFIX = "id:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_PREFIX = "\nevent:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_PREFIX = "\ndata:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FRAME_SUFFIX = "\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final long id;
+    private final String eventName;           // 주석 프레임이면 null
+    private final Set<DataWithMediaType> items;   // ResponseBodyEmitter.send(Set)에 그대로 전달
+    private final int size;
+
+    private SseFrame(long id, String eventName, byte[] frame) {
+        this.id = id;
+        this.eventName = eventName;
+        this.items = Set.of(new DataWithMediaType(frame, MediaType.TEXT_EVENT_STREAM));
+        this.size = frame.length;
+    }
+
+    public boolean isComment() {
+        return eventName == null;
+    }
+
+    // 이미 직렬화된 데이터(개행 없는 1줄)로 프레임 생성
+    public static SseFrame of(long id, String eventName, byte[] data) {
+        byte[] idBytes = id != NO_ID ? Long.toString(id).getBytes(StandardCharsets.UTF_8) : null;
+        byte[] name = eventName.getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ID_PREFIX.length + 20
+                + EVENT_PREFIX.length + name.length + DATA_PREFIX.length + data.length + FRAME_SUFFIX.length);
+        if (idBytes != null) {
+            out.writeBytes(ID_PREFIX);
+            out.writeBytes(idBytes);
+            out.writeBytes(EVENT_PREFIX);
+        } else {
+            out.writeBytes(EVENT_PREFIX, 1, EVENT_PREFIX.length - 1);   // 앞의 개행 제외
+        }
+        out.writeBytes(name);
+        out.writeBytes(DATA_PREFIX);
+        out.writeBytes(data);
+        out.writeBytes(FRAME_SUFFIX);
+        return new SseFrame(id, eventName, out.toByteArray());
+    }
+}
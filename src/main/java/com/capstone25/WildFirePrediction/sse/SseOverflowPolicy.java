@@ -0,0 +1,7 @@
+package com.capstone25.WildFirePrediction.sse;
+
+// 구독자 전송 큐가 가득 찼을 때 처리 방식
+public enum SseOverflowPolicy {
+    DROP_OLDEST,    // 가장 오래된 이벤트를 버리고 새 이벤트 추가
+    COALESCE        // 대기 이벤트를 모두 버리고 resync 이벤트 1건으로 대체 (클라이언트가 /fires/active 재조회)
+}
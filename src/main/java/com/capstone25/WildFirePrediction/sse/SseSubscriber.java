@@ -0,0 +1,124 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// SSE 구독자 1명의 전송 큐 (용량 제한)
+// - 브로드캐스트는 큐에 넣기만 하고 반환 (네트워크 쓰기는 sseWriterExecutor가 담당)
+// - 구독자당 동시에 하나의 writer만 큐를 비움 (draining 플래그)
+// - 마지막 전송 성공 시각으로 heartbeat 필요 여부 / 유휴(죽은 연결) 판정
+// - 유휴 연결 종료는 요청만 표시하고 writer가 전송 중이 아닐 때 처리 (send 도중 complete 호출 방지)
+class SseSubscriber {
+
+    @Getter
+    private final String id;
+    @Getter
+    private final SseEmitter emitter;
+    private final int capacity;
+
+    // true면 화재 갱신을 fire_delta / fire_snapshot으로 수신
+    @Getter
+    private final boolean deltaMode;
+
+    // 구독 영역 (null이면 전체 화재 수신), broadcastLock 안에서 변경
+    @Getter
+    private volatile SseViewport viewport;
+
+    private final Deque<SseFrame> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile long lastWriteAt = System.currentTimeMillis();
+    private volatile boolean closeRequested;
+    private boolean closed;     // draining을 보유한 writer에서만 접근
+
+    SseSubscriber(String id, SseEmitter emitter, int capacity, boolean deltaMode, SseViewport viewport) {
+        this.id = id;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.deltaMode = deltaMode;
+        this.viewport = viewport;
+        this.queue = new ArrayDeque<>(capacity);
+    }
+
+    void setViewport(SseViewport viewport) {
+        this.viewport = viewport;
+    }
+
+    // 이벤트 추가, 용량 초과 시 정책에 따라 버린 이벤트 수 반환
+    synchronized int offer(SseFrame frame, SseOverflowPolicy policy, SseFrame resyncFrame) {
+        if (queue.size() < capacity) {
+            queue.addLast(frame);
+            return 0;
+        }
+
+        if (policy == SseOverflowPolicy.DROP_OLDEST) {
+            queue.pollFirst();
+            queue.addLast(frame);
+            return 1;
+        }
+
+        // COALESCE: 대기 이벤트 + 새 이벤트를 resync 1건으로 대체
+        int dropped = queue.size() + 1;
+        queue.clear();
+        queue.addLast(resyncFrame);
+        return dropped;
+    }
+
+    // 큐가 비어 있을 때만 추가 (heartbeat용, 대기 이벤트가 있으면 그 전송이 연결 확인 역할)
+    synchronized boolean offerIfIdle(SseFrame frame) {
+        if (!queue.isEmpty()) {
+            return false;
+        }
+        queue.addLast(frame);
+        return true;
+    }
+
+    synchronized SseFrame poll() {
+        return queue.pollFirst();
+    }
+
+    synchronized int depth() {
+        return queue.size();
+    }
+
+    synchronized void clear() {
+        queue.clear();
+    }
+
+    void markWritten() {
+        lastWriteAt = System.currentTimeMillis();
+    }
+
+    // 마지막 전송 성공 후 경과 시간 (ms)
+    long idleMillis(long now) {
+        return now - lastWriteAt;
+    }
+
+    // writer 시작 권한 획득 (이미 다른 writer가 비우는 중이면 false)
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    void requestClose() {
+        closeRequested = true;
+    }
+
+    boolean isCloseRequested() {
+        return closeRequested;
+    }
+
+    // 연결 종료 권한 (최초 1회만 true)
+    boolean markClosed() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        return true;
+    }
+}
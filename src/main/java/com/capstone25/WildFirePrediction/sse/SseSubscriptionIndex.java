@@ -0,0 +1,112 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+// 구독 영역 공간 인덱스 (고정 격자)
+// - 구독 영역이 걸친 격자 칸마다 구독자 등록, 화재 범위가 걸친 칸의 구독자만 확인
+// - 영역 없는 구독자와 격자 칸이 너무 많은 넓은 영역은 전체 수신(global)으로 관리
+// - 동기화는 호출자(FireSseEmitterRepository의 broadcastLock) 책임
+class SseSubscriptionIndex {
+
+    private static final double CELL_DEG = 0.25;        // 격자 칸 크기 (약 25km)
+    private static final int MAX_CELLS_PER_VIEWPORT = 4096;
+
+    private final Set<SseSubscriber> global = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Long, Set<SseSubscriber>> cells = new HashMap<>();
+    private final Map<SseSubscriber, SseViewport> indexed = new IdentityHashMap<>();
+
+    void put(SseSubscriber subscriber, SseViewport viewport) {
+        remove(subscriber);
+        if (viewport == null || cellCount(viewport) > MAX_CELLS_PER_VIEWPORT) {
+            global.add(subscriber);
+            return;
+        }
+
+        indexed.put(subscriber, viewport);
+        forEachCell(viewport, key -> cells.computeIfAbsent(key, k -> new HashSet<>()).add(subscriber));
+    }
+
+    void remove(SseSubscriber subscriber) {
+        if (global.remove(subscriber)) {
+            return;
+        }
+        SseViewport viewport = indexed.remove(subscriber);
+        if (viewport == null) {
+            return;
+        }
+        forEachCell(viewport, key -> {
+            Set<SseSubscriber> set = cells.get(key);
+            if (set != null) {
+                set.remove(subscriber);
+                if (set.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        });
+    }
+
+    // 범위와 겹치는 구독자 (extent가 null이면 전체)
+    Set<SseSubscriber> query(SseViewport extent) {
+        Set<SseSubscriber> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        result.addAll(global);
+        if (extent == null || cellCount(extent) > MAX_CELLS_PER_VIEWPORT) {
+            indexed.forEach((subscriber, viewport) -> {
+                if (extent == null || viewport.intersects(extent)) {
+                    result.add(subscriber);
+                }
+            });
+            return result;
+        }
+
+        forEachCell(extent, key -> {
+            Set<SseSubscriber> set = cells.get(key);
+            if (set == null) {
+                return;
+            }
+            for (SseSubscriber subscriber : set) {
+                if (indexed.get(subscriber).intersects(extent)) {
+                    result.add(subscriber);
+                }
+            }
+        });
+        return result;
+    }
+
+    // 구독자 영역이 범위와 겹치는지 (global 구독자는 항상 true)
+    boolean matches(SseSubscriber subscriber, SseViewport extent) {
+        SseViewport viewport = indexed.get(subscriber);
+        return viewport == null || extent == null || viewport.intersects(extent);
+    }
+
+    int filteredCount() {
+        return indexed.size();
+    }
+
+    private static long cellCount(SseViewport viewport) {
+        long rows = cellIndex(viewport.maxLat()) - cellIndex(viewport.minLat()) + 1;
+        long cols = cellIndex(viewport.maxLon()) - cellIndex(viewport.minLon()) + 1;
+        return rows * cols;
+    }
+
+    private static void forEachCell(SseViewport viewport, LongConsumer action) {
+        int minRow = cellIndex(viewport.minLat());
+        int maxRow = cellIndex(viewport.maxLat());
+        int minCol = cellIndex(viewport.minLon());
+        int maxCol = cellIndex(viewport.maxLon());
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                action.accept(((long) row << 32) | (col & 0xFFFFFFFFL));
+            }
+        }
+    }
+
+    private static int cellIndex(double deg) {
+        return (int) Math.floor(deg / CELL_DEG);
+    }
+}
@@ -0,0 +1,64 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FireLocationDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+
+// SSE 구독 영역 / 화재 영향 범위 (위경도 사각형)
+public record SseViewport(double minLat, double maxLat, double minLon, double maxLon) {
+
+    // 예측 셀은 중심 좌표이므로 셀 크기만큼 여유 (약 200m)
+    private static final double CELL_MARGIN_DEG = 0.002;
+
+    public static boolean isValid(double minLat, double maxLat, double minLon, double maxLon) {
+        return minLat <= maxLat && minLon <= maxLon
+                && minLat >= -90 && maxLat <= 90 && minLon >= -180 && maxLon <= 180;
+    }
+
+    public boolean intersects(SseViewport other) {
+        return minLat <= other.maxLat && maxLat >= other.minLat
+                && minLon <= other.maxLon && maxLon >= other.minLon;
+    }
+
+    public SseViewport union(SseViewport other) {
+        return new SseViewport(Math.min(minLat, other.minLat), Math.max(maxLat, other.maxLat),
+                Math.min(minLon, other.minLon), Math.max(maxLon, other.maxLon));
+    }
+
+    // 화재 위치 + 전체 예측 셀을 덮는 범위 (좌표가 하나도 없으면 null)
+    public static SseViewport extentOf(FirePredictionRequestDto requestDto) {
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+
+        FireLocationDto location = requestDto.getFireLocation();
+        if (location != null && location.getLat() != null && location.getLon() != null) {
+            minLat = maxLat = location.getLat();
+            minLon = maxLon = location.getLon();
+        }
+        if (requestDto.getPredictions() != null) {
+            for (PredictionDto prediction : requestDto.getPredictions()) {
+                if (prediction.getPredictedCells() == null) {
+                    continue;
+                }
+                for (PredictedCellDto cell : prediction.getPredictedCells()) {
+                    if (cell.getLat() == null || cell.getLon() == null) {
+                        continue;
+                    }
+                    minLat = Math.min(minLat, cell.getLat());
+                    maxLat = Math.max(maxLat, cell.getLat());
+                    minLon = Math.min(minLon, cell.getLon());
+                    maxLon = Math.max(maxLon, cell.getLon());
+                }
+            }
+        }
+
+        if (minLat > maxLat) {
+            return null;
+        }
+        return new SseViewport(minLat - CELL_MARGIN_DEG, maxLat + CELL_MARGIN_DEG,
+                minLon - CELL_MARGIN_DEG, maxLon + CELL_MARGIN_DEG);
+    }
+}
@@ -0,0 +1,115 @@
+package com.capstone25.WildFirePrediction.util;
+
+import com.capstone25.WildFirePrediction.domain.enums.ProbabilityBand;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.capstone25.WildFirePrediction.dto.request.PredictedCellColumns;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+// 예측 셀 -> timestep/확률 구간별 화선 폴리곤 변환
+// - 셀 중심 기준 AI 격자 크기(375m) 사각형을 합친(union) 뒤 단순화
+// - 인접 셀 사이 틈이 생기지 않도록 사각형을 약간 크게 만듦
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class FireFrontPolygonizer {
+
+    private static final int SRID = 4326;
+    private static final double CELL_OVERLAP = 1.02;                   // 인접 셀 사이 2% 겹침
+    // 375m 격자의 절반 = GridKey 셀 1칸 (경도 폭도 GridKey와 같은 기준 위도로 고정)
+    private static final double CELL_HALF_LAT_DEG = GridKey.CELL_LAT_DEG * CELL_OVERLAP;
+    private static final double CELL_HALF_LON_DEG = GridKey.CELL_LON_DEG * CELL_OVERLAP;
+    private static final double SIMPLIFY_TOLERANCE_DEG = 0.0005;      // 약 50m
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), SRID);
+
+    // payload의 timestep x 확률 구간별 폴리곤 생성 (셀이 없는 구간은 제외)
+    public static List<FireFrontPolygon> build(FirePredictionRequestDto requestDto) {
+        List<FireFrontPolygon> polygons = new ArrayList<>();
+        Set<Integer> timeSteps = new HashSet<>();
+        for (PredictionDto prediction : requestDto.getPredictions()) {
+            if (!timeSteps.add(prediction.getTimestep())) {
+                continue;   // 같은 payload 내 중복 timestep은 첫 번째만 사용
+            }
+
+            // 격자 셀 중복 제거 후 확률 구간별 사각형 모음
+            Map<ProbabilityBand, List<Geometry>> squaresByBand = new EnumMap<>(ProbabilityBand.class);
+            Set<Long> seenKeys = new HashSet<>();
+            PredictedCellColumns cells = PredictedCellColumns.of(prediction.getPredictedCells());
+            for (int i = 0; i < cells.size(); i++) {
+                double lat = cells.getLat(i);
+                double lon = cells.getLon(i);
+                if (!seenKeys.add(GridKey.of(lat, lon))) {
+                    continue;
+                }
+                squaresByBand.computeIfAbsent(ProbabilityBand.of(cells.getProbability(i)), band -> new ArrayList<>())
+                        .add(cellSquare(lat, lon));
+            }
+
+            for (Map.Entry<ProbabilityBand, List<Geometry>> entry : squaresByBand.entrySet()) {
+                Geometry union = CascadedPolygonUnion.union(entry.getValue());
+                Geometry simplified = TopologyPreservingSimplifier.simplify(union, SIMPLIFY_TOLERANCE_DEG);
+                simplified.setSRID(SRID);
+                polygons.add(new FireFrontPolygon(prediction.getTimestep(), prediction.getTimestamp(),
+                        entry.getKey(), entry.getValue().size(), simplified));
+            }
+        }
+        return polygons;
+    }
+
+    // 좌표가 폴리곤 안(경계 포함)에 있는지
+    public static boolean covers(Geometry geometry, double lat, double lon) {
+        return geometry.covers(GEOMETRY_FACTORY.createPoint(new Coordinate(lon, lat)));
+    }
+
+    // Polygon/MultiPolygon -> GeoJSON MultiPolygon coordinates ([polygon][ring][point] = [lon, lat])
+    public static List<List<List<double[]>>> toMultiPolygonCoordinates(Geometry geometry) {
+        List<List<List<double[]>>> multiPolygon = new ArrayList<>(geometry.getNumGeometries());
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+            if (!(geometry.getGeometryN(i) instanceof Polygon polygon)) {
+                continue;
+            }
+            List<List<double[]>> rings = new ArrayList<>(1 + polygon.getNumInteriorRing());
+            rings.add(toRing(polygon.getExteriorRing()));
+            for (int r = 0; r < polygon.getNumInteriorRing(); r++) {
+                rings.add(toRing(polygon.getInteriorRingN(r)));
+            }
+            multiPolygon.add(rings);
+        }
+        return multiPolygon;
+    }
+
+    private static List<double[]> toRing(LinearRing ring) {
+        Coordinate[] coordinates = ring.getCoordinates();
+        List<double[]> points = new ArrayList<>(coordinates.length);
+        for (Coordinate coordinate : coordinates) {
+            points.add(new double[]{coordinate.getX(), coordinate.getY()});
+        }
+        return points;
+    }
+
+    // 셀 중심 기준 사각형 (x = 경도, y = 위도)
+    private static Geometry cellSquare(double lat, double lon) {
+        return GEOMETRY_FACTORY.toGeometry(new Envelope(lon - CELL_HALF_LON_DEG, lon + CELL_HALF_LON_DEG,
+                lat - CELL_HALF_LAT_DEG, lat + CELL_HALF_LAT_DEG));
+    }
+
+    // timestep x 확률 구간 폴리곤 1개
+    public record FireFrontPolygon(int timeStep, String predictedTimestamp, ProbabilityBand band,
+                                   int cellCount, Geometry geometry) {
+    }
+}
@@ -5,7 +5,9 @@ import com.capstone25.WildFirePrediction.dto.CollisionGroup;
 import com.capstone25.WildFirePrediction.dto.CollisionPoint;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -40,31 +42,66 @@ public class GeoUtils {
 
     // 경로에서 실제 충돌 지점들을 찾아 CollisionPoint 리스트로 반환
     public static List<CollisionPoint> findCollisionPoints(List<List<Double>> path, List<AIPredictedCell> cells) {
+        // 격자 셀 키 인덱스 (경로 점마다 전체 셀을 순회하지 않고 주변 격자만 조회)
+        Map<Long, List<AIPredictedCell>> cellIndex = indexByGridKey(cells);
+
         return path.stream()
                 .map(point -> {
                     double lon = point.get(0);  // [lon, lat] 순서
                     double lat = point.get(1);
 
-                    // 가장 가까운 셀 찾기
-                    AIPredictedCell nearestCell = cells.stream()
-                            .min(Comparator.comparingDouble(cell ->
-                                    haversine(lat, lon, cell.getLatitude(), cell.getLongitude())))
-                            .orElse(null);
+                    // 충돌 반경 내 가장 가까운 셀 찾기
+                    AIPredictedCell nearestCell = findNearestCellWithin(lat, lon, cellIndex, COLLISION_DISTANCE_KM);
 
                     if (nearestCell == null) return null;
 
                     double distance = haversine(lat, lon, nearestCell.getLatitude(), nearestCell.getLongitude());
-
-                    // 충돌 기준: 265m 이내
-                    if (distance <= COLLISION_DISTANCE_KM) {
-                        return new CollisionPoint(lon, lat, nearestCell, distance);
-                    }
-                    return null;
+                    return new CollisionPoint(lon, lat, nearestCell, distance);
                 })
                 .filter(point -> point != null)  // 충돌한 점만
                 .collect(Collectors.toList());
     }
 
+    // 예측 셀을 격자 셀 키로 묶음
+    public static Map<Long, List<AIPredictedCell>> indexByGridKey(List<AIPredictedCell> cells) {
+        Map<Long, List<AIPredictedCell>> index = new HashMap<>(cells.size() * 2);
+        for (AIPredictedCell cell : cells) {
+            long key = cell.getGridKey() != null
+                    ? cell.getGridKey() : GridKey.of(cell.getLatitude(), cell.getLongitude());
+            index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(cell);
+        }
+        return index;
+    }
+
+    // 반경(km) 내 가장 가까운 셀 (없으면 null), 반경을 덮는 주변 격자만 조회
+    public static AIPredictedCell findNearestCellWithin(double lat, double lon,
+                                                       Map<Long, List<AIPredictedCell>> cellIndex,
+                                                       double radiusKm) {
+        int row = GridKey.row(lat);
+        int col = GridKey.col(lon);
+        int rowRadius = GridKey.rowRadius(radiusKm);
+        int colRadius = GridKey.colRadius(lat, radiusKm);
+
+        AIPredictedCell nearestCell = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int r = row - rowRadius; r <= row + rowRadius; r++) {
+            for (int c = col - colRadius; c <= col + colRadius; c++) {
+                List<AIPredictedCell> candidates = cellIndex.get(GridKey.pack(r, c));
+                if (candidates == null) {
+                    continue;
+                }
+                for (AIPredictedCell cell : candidates) {
+                    double distance = haversine(lat, lon, cell.getLatitude(), cell.getLongitude());
+                    if (distance <= radiusKm && distance < nearestDistance) {
+                        nearestDistance = distance;
+                        nearestCell = cell;
+                    }
+                }
+            }
+        }
+        return nearestCell;
+    }
+
     // 연속된 충돌점들을 그룹화 (50m 간격 이내는 같은 그룹)
     public static List<CollisionGroup> groupCollisions(List<CollisionPoint> collisions, List<List<Double>> path) {
         if (collisions.isEmpty()) return new ArrayList<>();
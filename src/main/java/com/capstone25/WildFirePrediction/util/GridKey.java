@@ -0,0 +1,70 @@
+package com.capstone25.WildFirePrediction.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 고정 원점/셀 크기 격자 기반 셀 식별 키 (packed long)
+// - 원점 (33.0N, 124.0E), 셀 크기는 AI 격자(375m)의 절반 (위도 방향 187.5m, 경도 방향 36N 기준 187.5m)
+//   절반 크기 셀의 대각선(< 270m)이 AI 셀 간격(375m)보다 작으므로 서로 다른 AI 셀 중심은 항상 다른 키를 가짐
+// - 키 레이아웃: [timeStep:16][row:24][col:24] (timeStep 없는 공간 키는 상위 16bit = 0)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GridKey {
+
+    public static final double ORIGIN_LAT = 33.0;
+    public static final double ORIGIN_LON = 124.0;
+    public static final double CELL_SIZE_KM = 0.1875;   // AI 격자 375m의 절반
+
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    private static final double REFERENCE_LAT = 36.0;   // 경도 셀 크기 기준 위도 (한국 중부)
+    public static final double CELL_LAT_DEG = CELL_SIZE_KM / KM_PER_DEGREE_LAT;
+    public static final double CELL_LON_DEG =
+            CELL_SIZE_KM / (KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(REFERENCE_LAT)));
+
+    private static final int AXIS_BITS = 24;
+    private static final long AXIS_MASK = (1L << AXIS_BITS) - 1;
+    private static final long SPATIAL_MASK = (1L << (AXIS_BITS * 2)) - 1;
+
+    // 좌표 -> 공간 키
+    public static long of(double lat, double lon) {
+        return pack(row(lat), col(lon));
+    }
+
+    // timestep + 좌표 -> 셀 식별 키 (diff/중복 제거용)
+    public static long of(int timeStep, double lat, double lon) {
+        return withTimeStep(timeStep, of(lat, lon));
+    }
+
+    public static long withTimeStep(int timeStep, long spatialKey) {
+        return ((long) timeStep << (AXIS_BITS * 2)) | (spatialKey & SPATIAL_MASK);
+    }
+
+    public static int timeStep(long key) {
+        return (int) (key >>> (AXIS_BITS * 2));
+    }
+
+    public static long spatialKey(long key) {
+        return key & SPATIAL_MASK;
+    }
+
+    public static int row(double lat) {
+        return (int) Math.floor((lat - ORIGIN_LAT) / CELL_LAT_DEG);
+    }
+
+    public static int col(double lon) {
+        return (int) Math.floor((lon - ORIGIN_LON) / CELL_LON_DEG);
+    }
+
+    public static long pack(int row, int col) {
+        return ((row & AXIS_MASK) << AXIS_BITS) | (col & AXIS_MASK);
+    }
+
+    // 반경(km) 내 셀을 모두 덮는 행/열 범위 (셀 경계 걸침 고려 +1)
+    public static int rowRadius(double radiusKm) {
+        return (int) Math.floor(radiusKm / CELL_SIZE_KM) + 1;
+    }
+
+    public static int colRadius(double lat, double radiusKm) {
+        double cellWidthKm = CELL_LON_DEG * KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(lat));
+        return (int) Math.floor(radiusKm / cellWidthKm) + 1;
+    }
+}
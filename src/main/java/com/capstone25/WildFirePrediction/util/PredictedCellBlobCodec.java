@@ -0,0 +1,202 @@
+package com.capstone25.WildFirePrediction.util;
+
+import com.capstone25.WildFirePrediction.dto.request.PredictedCellColumns;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// timestep 1개의 예측 셀을 압축 바이트로 인코딩/디코딩
+// - 셀은 GridKey 격자(행/열)로 양자화해 (최소 행, 최소 열) 기준 격자 인덱스로 변환
+//   AI 셀(375m) 간격이 격자 셀 2칸 정도라 인접 셀의 인덱스 차이가 1~수십
+//   (v1은 1e-6도 좌표 오프셋의 최대공약수를 격자 간격으로 써서 실수 좌표면 간격이 1로 무너짐)
+// - 좌표는 격자 셀 기준점 대비 1e-6도 잔차로 함께 기록 (디코딩 좌표 = v1과 같은 1e-6도 정밀도)
+// - 같은 격자 셀에 여러 셀이 오면 payload 내 첫 번째만 기록하고 count도 기록한 셀 수
+// - 셀을 격자 인덱스 오름차순으로 정렬해 인덱스 차이(delta)를 varint로 기록
+// - 확률은 0~1을 16bit로 양자화 (오차 < 1e-5)
+//
+// 포맷 v2: [version:1][count:varint][minRow:zigzag][minCol:zigzag][columns:varint]
+//          count x ([indexDelta:varint][latResidualE6:zigzag][lonResidualE6:zigzag][probability:uint16])
+// 포맷 v1: [version:1][count:varint][originLatE6:zigzag][originLonE6:zigzag]
+//          [latStepE6:varint][lonStepE6:varint][columns:varint]
+//          count x ([indexDelta:varint][probability:uint16])  (디코딩만 지원)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PredictedCellBlobCodec {
+
+    private static final byte FORMAT_VERSION_V1 = 1;
+    private static final byte FORMAT_VERSION = 2;
+    private static final double COORDINATE_SCALE = 1_000_000d;    // 1e-6도 단위
+    private static final int PROBABILITY_LEVELS = 0xFFFF;
+
+    public static byte[] encode(PredictedCellColumns cells) {
+        int size = cells.size();
+        int[] rows = new int[size];
+        int[] cols = new int[size];
+        int minRow = Integer.MAX_VALUE;
+        int minCol = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            rows[i] = GridKey.row(cells.getLat(i));
+            cols[i] = GridKey.col(cells.getLon(i));
+            minRow = Math.min(minRow, rows[i]);
+            minCol = Math.min(minCol, cols[i]);
+        }
+        if (size == 0) {
+            minRow = 0;
+            minCol = 0;
+        }
+
+        long columns = 1;
+        for (int i = 0; i < size; i++) {
+            columns = Math.max(columns, (long) cols[i] - minCol + 1);
+        }
+
+        // 격자 인덱스 (행 우선)
+        long[] gridIndex = new long[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            gridIndex[i] = ((long) rows[i] - minRow) * columns + ((long) cols[i] - minCol);
+            order[i] = i;
+        }
+        // 안정 정렬이므로 같은 셀이 여러 번 오면 payload 내 첫 번째가 앞에 옴
+        Arrays.sort(order, Comparator.comparingLong(i -> gridIndex[i]));
+
+        int distinctCount = 0;
+        for (int k = 0; k < size; k++) {
+            if (k == 0 || gridIndex[order[k]] != gridIndex[order[k - 1]]) {
+                distinctCount++;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + distinctCount * 7);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, distinctCount);
+        writeVarLong(out, zigZag(minRow));
+        writeVarLong(out, zigZag(minCol));
+        writeVarLong(out, columns);
+
+        long previousIndex = 0;
+        for (int k = 0; k < size; k++) {
+            int i = order[k];
+            if (k > 0 && gridIndex[i] == gridIndex[order[k - 1]]) {
+                continue;   // 같은 셀 중복은 첫 번째만 사용
+            }
+            writeVarLong(out, gridIndex[i] - previousIndex);
+            previousIndex = gridIndex[i];
+
+            writeVarLong(out, zigZag(Math.round(cells.getLat(i) * COORDINATE_SCALE) - rowBaseE6(rows[i])));
+            writeVarLong(out, zigZag(Math.round(cells.getLon(i) * COORDINATE_SCALE) - colBaseE6(cols[i])));
+
+            int quantized = (int) Math.round(cells.getProbability(i) * PROBABILITY_LEVELS);
+            quantized = Math.max(0, Math.min(PROBABILITY_LEVELS, quantized));
+            out.write(quantized >>> 8);
+            out.write(quantized);
+        }
+        return out.toByteArray();
+    }
+
+    public static PredictedCellColumns decode(byte[] encoded) {
+        ByteBuffer in = ByteBuffer.wrap(encoded);
+        byte version = in.get();
+        if (version == FORMAT_VERSION_V1) {
+            return decodeV1(in);
+        }
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 예측 셀 인코딩 버전: " + version);
+        }
+
+        int count = (int) readVarLong(in);
+        long minRow = unZigZag(readVarLong(in));
+        long minCol = unZigZag(readVarLong(in));
+        long columns = readVarLong(in);
+
+        PredictedCellColumns cells = new PredictedCellColumns(count);
+        long gridIndex = 0;
+        for (int k = 0; k < count; k++) {
+            gridIndex += readVarLong(in);
+            int row = (int) (minRow + gridIndex / columns);
+            int column = (int) (minCol + gridIndex % columns);
+            long latResidual = unZigZag(readVarLong(in));
+            long lonResidual = unZigZag(readVarLong(in));
+            int quantized = ((in.get() & 0xFF) << 8) | (in.get() & 0xFF);
+
+            cells.add((rowBaseE6(row) + latResidual) / COORDINATE_SCALE,
+                    (colBaseE6(column) + lonResidual) / COORDINATE_SCALE,
+                    (double) quantized / PROBABILITY_LEVELS);
+        }
+        return cells;
+    }
+
+    // 인코딩된 셀 수 (헤더만 읽음, 중복 제거 후 실제 기록된 셀 수)
+    public static int count(byte[] encoded) {
+        ByteBuffer in = ByteBuffer.wrap(encoded);
+        byte version = in.get();
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_V1) {
+            throw new IllegalArgumentException("지원하지 않는 예측 셀 인코딩 버전: " + version);
+        }
+        return (int) readVarLong(in);
+    }
+
+    // v1 (원점 + 최대공약수 간격) 디코딩, 전환 전에 저장된 압축분용
+    private static PredictedCellColumns decodeV1(ByteBuffer in) {
+        int count = (int) readVarLong(in);
+        long originLat = unZigZag(readVarLong(in));
+        long originLon = unZigZag(readVarLong(in));
+        long latStep = readVarLong(in);
+        long lonStep = readVarLong(in);
+        long columns = readVarLong(in);
+
+        PredictedCellColumns cells = new PredictedCellColumns(count);
+        long gridIndex = 0;
+        for (int k = 0; k < count; k++) {
+            gridIndex += readVarLong(in);
+            long row = gridIndex / columns;
+            long column = gridIndex % columns;
+            int quantized = ((in.get() & 0xFF) << 8) | (in.get() & 0xFF);
+
+            cells.add((originLat + row * latStep) / COORDINATE_SCALE,
+                    (originLon + column * lonStep) / COORDINATE_SCALE,
+                    (double) quantized / PROBABILITY_LEVELS);
+        }
+        return cells;
+    }
+
+    // 격자 행/열의 기준 좌표 (1e-6도, 인코딩/디코딩이 같은 식을 써야 잔차가 맞음)
+    private static long rowBaseE6(int row) {
+        return Math.round((GridKey.ORIGIN_LAT + row * GridKey.CELL_LAT_DEG) * COORDINATE_SCALE);
+    }
+
+    private static long colBaseE6(int col) {
+        return Math.round((GridKey.ORIGIN_LON + col * GridKey.CELL_LON_DEG) * COORDINATE_SCALE);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.capstone25.WildFirePrediction;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+// @Tag("benchmark") 테스트용 간단한 측정기 (./gradlew benchmark 로 실행, 결과는 표준 출력)
+// - 현재 스레드 기준 1회당 지연(p50/p99), CPU 시간, 할당 바이트
+// - JMH 없이 같은 JVM에서 워밍업 후 반복 측정하므로 절대값보다 같은 조건의 비교용
+public final class BenchmarkRunner {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private BenchmarkRunner() {
+    }
+
+    public static Result run(String name, int warmupIterations, int iterations, Runnable operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            operation.run();
+        }
+
+        long[] latencies = new long[iterations];
+        long cpuStart = THREADS.getCurrentThreadCpuTime();
+        long allocatedStart = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        long cpuNanos = THREADS.getCurrentThreadCpuTime() - cpuStart;
+        long allocatedBytes = THREADS.getCurrentThreadAllocatedBytes() - allocatedStart;
+
+        Arrays.sort(latencies);
+        Result result = new Result(name, iterations, percentile(latencies, 0.50), percentile(latencies, 0.99),
+                cpuNanos / iterations, allocatedBytes / iterations);
+        System.out.println(result);
+        return result;
+    }
+
+    // GC 후 사용 중인 힙 (메모리 비교용, System.gc는 힌트라 여러 번 호출)
+    public static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    public record Result(String name, int iterations, long p50Nanos, long p99Nanos,
+                         long cpuNanosPerOp, long allocatedBytesPerOp) {
+
+        // p50 기준 초당 처리 단위 수 (예: 1회에 넣은 row 수 -> rows/sec)
+        public long perSecond(long unitsPerOp) {
+            return unitsPerOp * 1_000_000_000L / Math.max(1, p50Nanos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[benchmark] %s - %d회, p50: %.3fms, p99: %.3fms, CPU: %.3fms/op, 할당: %,d bytes/op",
+                    name, iterations, p50Nanos / 1e6, p99Nanos / 1e6, cpuNanosPerOp / 1e6, allocatedBytesPerOp);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.capstone25.WildFirePrediction.dto.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// predicted_cells 스트리밍 역직렬화 / 직렬화 (PredictedCellColumns.Deserializer, Serializer)
+class PredictedCellColumnsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("predicted_cells를 컬럼 버퍼로 바로 적재")
+    void deserializesIntoColumns() throws Exception {
+        PredictionDto prediction = readPrediction("""
+                [{"lat": 36.5684, "lon": 128.7294, "probability": 0.8},
+                 {"lat": 36.5718, "lon": 128.7294, "probability": 1}]""");
+
+        assertThat(prediction.getPredictedCells()).isInstanceOf(PredictedCellColumns.class);
+        PredictedCellColumns cells = (PredictedCellColumns) prediction.getPredictedCells();
+        assertThat(cells.size()).isEqualTo(2);
+        assertThat(cells.getLat(0)).isEqualTo(36.5684);
+        assertThat(cells.getLon(1)).isEqualTo(128.7294);
+        assertThat(cells.getProbability(1)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 필드는 무시, 문자열 숫자는 변환, 누락/null 값은 NaN")
+    void handlesUnknownStringAndMissingValues() throws Exception {
+        PredictionDto prediction = readPrediction("""
+                [{"lat": "36.5", "lon": 128.7, "extra": {"nested": [1, 2]}, "probability": null},
+                 {"lon": 128.8, "probability": 0.4}]""");
+
+        PredictedCellColumns cells = (PredictedCellColumns) prediction.getPredictedCells();
+        assertThat(cells.size()).isEqualTo(2);
+        assertThat(cells.getLat(0)).isEqualTo(36.5);
+        assertThat(cells.getProbability(0)).isNaN();
+        assertThat(cells.getLat(1)).isNaN();
+        assertThat(cells.getProbability(1)).isEqualTo(0.4);
+    }
+
+    @Test
+    @DisplayName("List<PredictedCellDto> 뷰로 읽으면 셀마다 DTO 생성")
+    void exposesListView() throws Exception {
+        PredictionDto prediction = readPrediction("""
+                [{"lat": 36.5684, "lon": 128.7294, "probability": 0.8}]""");
+
+        PredictedCellDto cell = prediction.getPredictedCells().get(0);
+        assertThat(cell.getLat()).isEqualTo(36.5684);
+        assertThat(cell.getLon()).isEqualTo(128.7294);
+        assertThat(cell.getProbability()).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("predicted_cells가 null이면 null, 배열이 아니면 역직렬화 실패")
+    void handlesNullAndRejectsNonArray() throws Exception {
+        assertThat(readPrediction("null").getPredictedCells()).isNull();
+        assertThatThrownBy(() -> readPrediction("{\"lat\": 36.5}")).isInstanceOf(JsonMappingException.class);
+        assertThatThrownBy(() -> readPrediction("[1, 2]")).isInstanceOf(JsonMappingException.class);
+    }
+
+    @Test
+    @DisplayName("직렬화 후 다시 읽으면 같은 셀")
+    void roundTrips() throws Exception {
+        PredictedCellColumns cells = new PredictedCellColumns();
+        cells.add(36.5684, 128.7294, 0.8);
+        cells.add(36.5718, 128.7294, 0.25);
+        FirePredictionRequestDto requestDto = FirePredictionRequestDto.builder()
+                .eventType("0")
+                .fireId("fire-1")
+                .predictions(List.of(PredictionDto.builder()
+                        .timestep(1)
+                        .timestamp("2025-12-02T14:50:00")
+                        .predictedCells(cells)
+                        .build()))
+                .build();
+
+        FirePredictionRequestDto read = objectMapper.readValue(
+                objectMapper.writeValueAsString(requestDto), FirePredictionRequestDto.class);
+
+        PredictedCellColumns readCells = PredictedCellColumns.of(read.getPredictions().get(0).getPredictedCells());
+        assertThat(readCells.size()).isEqualTo(2);
+        assertThat(readCells.getLat(1)).isEqualTo(36.5718);
+        assertThat(readCells.getProbability(1)).isEqualTo(0.25);
+    }
+
+    @Test
+    @DisplayName("버퍼 용량을 넘겨도 모든 셀 보관")
+    void growsBeyondInitialCapacity() {
+        PredictedCellColumns cells = new PredictedCellColumns(1);
+        for (int i = 0; i < 1000; i++) {
+            cells.add(36 + i * 0.001, 128, i / 1000.0);
+        }
+
+        assertThat(cells.size()).isEqualTo(1000);
+        assertThat(cells.getProbability(999)).isEqualTo(0.999);
+        assertThatThrownBy(() -> cells.getLat(1000)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private PredictionDto readPrediction(String predictedCellsJson) throws Exception {
+        return objectMapper.readValue("""
+                {"timestep": 1, "timestamp": "2025-12-02T14:50:00", "predicted_cells": %s}"""
+                .formatted(predictedCellsJson), PredictionDto.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.capstone25.WildFirePrediction.dto.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.capstone25.WildFirePrediction.BenchmarkRunner;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// /ai-predictions payload 역직렬화: 컬럼 버퍼 스트리밍 vs 기존 DTO 트리 (List<PredictedCellDto>)
+// - 5 timestep x 10,000셀 payload 1건당 할당 바이트 / p50, p99 지연
+// ./gradlew benchmark --tests '*PredictedCellParsingBenchmark'
+@Tag("benchmark")
+class PredictedCellParsingBenchmark {
+
+    private static final int TIMESTEPS = 5;
+    private static final int CELLS_PER_TIMESTEP = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("50k 셀 payload 역직렬화 할당량 / 지연")
+    void parsePayload() {
+        byte[] payload = payload();
+        ObjectReader streamingReader = objectMapper.readerFor(FirePredictionRequestDto.class);
+        ObjectReader dtoReader = objectMapper.readerFor(LegacyRequest.class);
+
+        BenchmarkRunner.run("streaming column parse (" + payload.length / 1024 + " KiB)", 20, 100, () -> {
+            FirePredictionRequestDto request = read(streamingReader, payload);
+            assertThat(request.getPredictions().get(0).getPredictedCells()).hasSize(CELLS_PER_TIMESTEP);
+        });
+        BenchmarkRunner.run("DTO tree parse (" + payload.length / 1024 + " KiB)", 20, 100, () -> {
+            LegacyRequest request = read(dtoReader, payload);
+            assertThat(request.predictions.get(0).predictedCells).hasSize(CELLS_PER_TIMESTEP);
+        });
+    }
+
+    private static <T> T read(ObjectReader reader, byte[] payload) {
+        try {
+            return reader.readValue(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] payload() {
+        StringBuilder json = new StringBuilder(TIMESTEPS * CELLS_PER_TIMESTEP * 64);
+        json.append("{\"event_type\":\"0\",\"fire_id\":\"bench\",\"inference_timestamp\":\"2025-12-02T14:40:00\",")
+                .append("\"fire_location\":{\"lat\":36.5,\"lon\":128.7},\"predictions\":[");
+        for (int t = 1; t <= TIMESTEPS; t++) {
+            if (t > 1) {
+                json.append(',');
+            }
+            json.append("{\"timestep\":").append(t)
+                    .append(",\"timestamp\":\"2025-12-02T1").append(t).append(":00:00\",\"predicted_cells\":[");
+            for (int i = 0; i < CELLS_PER_TIMESTEP; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"lat\":").append(36.5 + (i / 100) * 0.003369)
+                        .append(",\"lon\":").append(128.7 + (i % 100) * 0.004168)
+                        .append(",\"probability\":").append((i % 1000) / 1000.0).append('}');
+            }
+            json.append("]}");
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 스트리밍 파서 도입 전 구조 (셀마다 PredictedCellDto + Double 3개)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class LegacyRequest {
+
+        @JsonProperty("predictions")
+        List<LegacyPrediction> predictions;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class LegacyPrediction {
+
+        @JsonProperty("timestep")
+        Integer timestep;
+
+        @JsonProperty("timestamp")
+        String timestamp;
+
+        @JsonProperty("predicted_cells")
+        List<PredictedCellDto> predictedCells;
+    }
+}
@@ -0,0 +1,135 @@
+package com.capstone25.WildFirePrediction.dto.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.capstone25.WildFirePrediction.dto.response.FireDeltaResponse.CellDelta;
+import com.capstone25.WildFirePrediction.dto.response.FireDeltaResponse.TimestepDelta;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// 직전 버전 대비 셀 차이 (FireDeltaResponse.between)
+class FireDeltaResponseTest {
+
+    private static final int BASE_CELL_COUNT = 20;
+
+    @Test
+    @DisplayName("추가/확률 변경/삭제 셀만 timestep별로 담고 버전 정보를 채움")
+    void computesAddedChangedRemoved() {
+        List<PredictedCellDto> before = baseCells();
+        List<PredictedCellDto> after = baseCells();
+        after.set(0, cell(36.5000, 128.7000, 0.9));     // 확률 변경
+        after.remove(1);                                  // 삭제
+        after.add(cell(36.6000, 128.8000, 0.4));          // 추가
+
+        FireDeltaResponse delta = FireDeltaResponse.between(
+                request(prediction(1, "T1", before)), request(prediction(1, "T1-new", after)), 3L, 4L);
+
+        assertThat(delta.getFireId()).isEqualTo("A");
+        assertThat(delta.getBaseVersion()).isEqualTo(3L);
+        assertThat(delta.getVersion()).isEqualTo(4L);
+        TimestepDelta timestep = single(delta);
+        assertThat(timestep.getTimestep()).isEqualTo(1);
+        assertThat(timestep.getTimestamp()).isEqualTo("T1-new");
+        assertThat(timestep.getChanged()).extracting(CellDelta::getLat, CellDelta::getProbability)
+                .containsExactly(tuple(36.5000, 0.9));
+        assertThat(timestep.getAdded()).extracting(CellDelta::getLat, CellDelta::getLon)
+                .containsExactly(tuple(36.6000, 128.8000));
+        assertThat(timestep.getRemoved()).extracting(CellDelta::getLat, CellDelta::getProbability)
+                .containsExactly(tuple(before.get(1).getLat(), null));
+    }
+
+    @Test
+    @DisplayName("같은 격자 셀 안에서 좌표만 바뀐 셀은 removed(이전 좌표) + added(새 좌표)")
+    void movedCellIsRemovedAndAdded() {
+        List<PredictedCellDto> before = baseCells();
+        List<PredictedCellDto> after = baseCells();
+        after.set(0, cell(36.50004, 128.70003, 0.5));
+
+        TimestepDelta timestep = single(FireDeltaResponse.between(
+                request(prediction(1, "T1", before)), request(prediction(1, "T1", after)), 1L, 2L));
+
+        assertThat(timestep.getChanged()).isEmpty();
+        assertThat(timestep.getAdded()).extracting(CellDelta::getLat, CellDelta::getLon)
+                .containsExactly(tuple(36.50004, 128.70003));
+        assertThat(timestep.getRemoved()).extracting(CellDelta::getLat, CellDelta::getLon)
+                .containsExactly(tuple(36.5000, 128.7000));
+    }
+
+    @Test
+    @DisplayName("새 버전에서 사라진 timestep의 셀은 모두 removed, timestamp는 null")
+    void removedTimestep() {
+        List<PredictedCellDto> removedCells = List.of(cell(36.7000, 128.9000, 0.2), cell(36.7040, 128.9000, 0.3));
+
+        FireDeltaResponse delta = FireDeltaResponse.between(
+                request(prediction(1, "T1", baseCells()), prediction(2, "T2", removedCells)),
+                request(prediction(1, "T1", baseCells())), 1L, 2L);
+
+        assertThat(delta.getPredictions()).extracting(TimestepDelta::getTimestep).containsExactly(1, 2);
+        TimestepDelta removed = delta.getPredictions().get(1);
+        assertThat(removed.getTimestamp()).isNull();
+        assertThat(removed.getAdded()).isEmpty();
+        assertThat(removed.getRemoved()).extracting(CellDelta::getLat)
+                .containsExactlyInAnyOrder(36.7000, 36.7040);
+    }
+
+    @Test
+    @DisplayName("바뀐 셀이 새 버전 셀 수의 50%를 넘으면 null (전체 전송)")
+    void returnsNullWhenMostCellsChanged() {
+        List<PredictedCellDto> after = new ArrayList<>();
+        for (PredictedCellDto cell : baseCells()) {
+            after.add(cell(cell.getLat(), cell.getLon(), 0.99));
+        }
+
+        assertThat(FireDeltaResponse.between(
+                request(prediction(1, "T1", baseCells())), request(prediction(1, "T1", after)), 1L, 2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("바뀐 셀이 없으면 빈 delta")
+    void emptyDeltaWhenUnchanged() {
+        TimestepDelta timestep = single(FireDeltaResponse.between(
+                request(prediction(1, "T1", baseCells())), request(prediction(1, "T1", baseCells())), 1L, 2L));
+
+        assertThat(timestep.getAdded()).isEmpty();
+        assertThat(timestep.getChanged()).isEmpty();
+        assertThat(timestep.getRemoved()).isEmpty();
+    }
+
+    private static TimestepDelta single(FireDeltaResponse delta) {
+        assertThat(delta).isNotNull();
+        assertThat(delta.getPredictions()).hasSize(1);
+        return delta.getPredictions().get(0);
+    }
+
+    // 375m 간격 셀 20개 (위도 방향 한 줄)
+    private static List<PredictedCellDto> baseCells() {
+        List<PredictedCellDto> cells = new ArrayList<>();
+        for (int i = 0; i < BASE_CELL_COUNT; i++) {
+            cells.add(cell(36.5000 + i * 0.0034, 128.7000, 0.5));
+        }
+        return cells;
+    }
+
+    private static FirePredictionRequestDto request(PredictionDto... predictions) {
+        return FirePredictionRequestDto.builder()
+                .eventType("0")
+                .fireId("A")
+                .inferenceTimestamp("2025-12-02T14:40:00")
+                .predictions(List.of(predictions))
+                .build();
+    }
+
+    private static PredictionDto prediction(int timestep, String timestamp, List<PredictedCellDto> cells) {
+        return PredictionDto.builder().timestep(timestep).timestamp(timestamp).predictedCells(cells).build();
+    }
+
+    private static PredictedCellDto cell(double lat, double lon, double probability) {
+        return PredictedCellDto.builder().lat(lat).lon(lon).probability(probability).build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.capstone25.WildFirePrediction.global.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.capstone25.WildFirePrediction.global.filter.RequestDecompressionFilter.DecompressedSizeExceededException;
+import com.capstone25.WildFirePrediction.ingest.AIPredictionIngestMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// gzip 본문 해제 / 헤더 제거 / 415 / 해제 크기 한도 / 바이트 지표
+class RequestDecompressionFilterTest {
+
+    private static final byte[] BODY = "{\"fire_id\":\"A\",\"event_type\":\"0\"}".repeat(100)
+            .getBytes(StandardCharsets.UTF_8);
+
+    private AIPredictionIngestMetrics metrics;
+    private RequestDecompressionFilter filter;
+    private AtomicReference<HttpServletRequest> forwarded;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new AIPredictionIngestMetrics();
+        filter = new RequestDecompressionFilter(metrics);
+        ReflectionTestUtils.setField(filter, "maxDecompressedBytes", 64L * 1024 * 1024);
+        forwarded = new AtomicReference<>();
+        chain = (request, response) -> forwarded.set((HttpServletRequest) request);
+    }
+
+    @Test
+    @DisplayName("gzip 본문은 해제해서 전달하고 Content-Encoding / Content-Length 헤더는 제거")
+    void decompressesAndStripsHeaders() throws Exception {
+        byte[] compressed = gzip(BODY);
+        MockHttpServletRequest request = request("gzip", compressed);
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        HttpServletRequest decompressed = forwarded.get();
+        assertThat(decompressed.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(decompressed.getHeader(HttpHeaders.CONTENT_LENGTH)).isNull();
+        assertThat(Collections.list(decompressed.getHeaders(HttpHeaders.CONTENT_ENCODING))).isEmpty();
+        assertThat(Collections.list(decompressed.getHeaderNames()))
+                .noneMatch(name -> name.equalsIgnoreCase(HttpHeaders.CONTENT_ENCODING)
+                        || name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH))
+                .anyMatch(name -> name.equalsIgnoreCase(HttpHeaders.CONTENT_TYPE));
+        assertThat(decompressed.getContentLengthLong()).isEqualTo(-1);
+        assertThat(decompressed.getInputStream().readAllBytes()).isEqualTo(BODY);
+
+        assertThat(metrics.getCompressedRequestCount()).isEqualTo(1);
+        assertThat(metrics.getCompressedBytes()).isEqualTo(compressed.length);
+        assertThat(metrics.getDecompressedBytes()).isEqualTo(BODY.length);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 Content-Encoding은 415, 다음 필터로 넘기지 않음")
+    void rejectsUnsupportedEncoding() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("zstd", BODY), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE);
+        assertThat(forwarded.get()).isNull();
+        assertThat(metrics.getCompressedRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("identity이거나 대상 경로가 아니면 요청을 그대로 전달")
+    void passesThroughIdentityAndOtherPaths() throws Exception {
+        MockHttpServletRequest identity = request("identity", BODY);
+        filter.doFilter(identity, new MockHttpServletResponse(), chain);
+        assertThat(forwarded.get()).isSameAs(identity);
+
+        MockHttpServletRequest otherPath = request("gzip", gzip(BODY));
+        otherPath.setRequestURI("/fires/active");
+        filter.doFilter(otherPath, new MockHttpServletResponse(), chain);
+        assertThat(forwarded.get()).isSameAs(otherPath);
+        assertThat(metrics.getCompressedRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("해제 크기가 max-decompressed-bytes를 넘으면 읽기 중단")
+    void stopsReadingOverDecompressedLimit() throws Exception {
+        ReflectionTestUtils.setField(filter, "maxDecompressedBytes", 1024L);
+
+        filter.doFilter(request("gzip", gzip(BODY)), new MockHttpServletResponse(), chain);
+
+        assertThatThrownBy(() -> forwarded.get().getInputStream().readAllBytes())
+                .isInstanceOf(DecompressedSizeExceededException.class);
+        assertThat(metrics.getDecompressedBytes()).isLessThanOrEqualTo(1024);
+    }
+
+    private static MockHttpServletRequest request(String encoding, byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/ai-predictions");
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        request.addHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+        request.addHeader(HttpHeaders.CONTENT_LENGTH, body.length);
+        request.setContent(body);
+        return request;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,285 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.capstone25.WildFirePrediction.ingest.AIPredictionIngestScheduler.IngestPriority;
+import com.capstone25.WildFirePrediction.ingest.AIPredictionIngestScheduler.SubmitResult;
+import com.capstone25.WildFirePrediction.service.AIPredictionService;
+import com.capstone25.WildFirePrediction.service.BurnArrivalRasterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// 화재별 병합 큐 / 한도 초과 거절 / 우선순위 / 재시도 (실행기는 등록된 작업을 테스트에서 직접 실행)
+// 재시도 backoff는 대기 없이 바로 실행기에 등록하고 그만큼 시계를 진행
+class AIPredictionIngestSchedulerTest {
+
+    private static final long RETRY_INITIAL_DELAY_MILLIS = 1_000;
+    private static final long RETRY_MAX_DELAY_MILLIS = 4_000;
+    private static final long RETRY_BUDGET_MILLIS = 5_000;
+
+    private AIPredictionService aiPredictionService;
+    private AIPredictionJournal journal;
+    private BurnArrivalRasterRegistry rasterRegistry;
+    private List<Runnable> tasks;
+    private List<Long> retryDelays;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        aiPredictionService = mock(AIPredictionService.class);
+        journal = mock(AIPredictionJournal.class);
+        rasterRegistry = mock(BurnArrivalRasterRegistry.class);
+        tasks = new ArrayList<>();
+        retryDelays = new ArrayList<>();
+        now = 1_000_000;
+    }
+
+    @Test
+    @DisplayName("처리 대기 중인 화재에 더 최신 payload가 오면 교체하고 이전 payload는 ack")
+    void coalescesToLatestPayload() {
+        AIPredictionIngestScheduler scheduler = scheduler(10);
+        FirePredictionRequestDto older = prediction("A", "2025-12-02T14:00:00");
+        FirePredictionRequestDto newer = prediction("A", "2025-12-02T14:10:00");
+
+        assertThat(scheduler.submit(older, 1L)).isEqualTo(SubmitResult.ACCEPTED);
+        assertThat(scheduler.submit(newer, 2L)).isEqualTo(SubmitResult.COALESCED);
+        verify(journal).ack(1L);
+
+        runAll();
+
+        verify(aiPredictionService).processAIPrediction(newer);
+        verify(aiPredictionService, never()).processAIPrediction(older);
+        verify(journal).ack(2L);
+    }
+
+    @Test
+    @DisplayName("대기 중인 payload보다 과거 payload는 폐기")
+    void dropsOlderPayload() {
+        AIPredictionIngestScheduler scheduler = scheduler(10);
+        FirePredictionRequestDto newer = prediction("A", "2025-12-02T14:10:00");
+        FirePredictionRequestDto older = prediction("A", "2025-12-02T14:00:00");
+
+        scheduler.submit(newer, 1L);
+        assertThat(scheduler.submit(older, 2L)).isEqualTo(SubmitResult.COALESCED);
+        verify(journal).ack(2L);
+
+        runAll();
+
+        verify(aiPredictionService).processAIPrediction(newer);
+        verify(aiPredictionService, never()).processAIPrediction(older);
+    }
+
+    @Test
+    @DisplayName("대기 중인 종료는 종료 시각 이후 추론된 예측만 대체")
+    void pendingEndIsReplacedOnlyByLaterPrediction() {
+        FirePredictionRequestDto end = end("A", "2025-12-02T14:10:00");
+
+        assertThat(AIPredictionIngestScheduler.replacesPending(prediction("A", "2025-12-02T14:20:00"), end)).isTrue();
+        assertThat(AIPredictionIngestScheduler.replacesPending(prediction("A", "2025-12-02T14:10:00"), end)).isFalse();
+        assertThat(AIPredictionIngestScheduler.replacesPending(prediction("A", null), end)).isFalse();
+        assertThat(AIPredictionIngestScheduler.replacesPending(end, prediction("A", "2025-12-02T14:00:00"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 화재 수가 한도면 신규 화재는 거절, 이미 대기 중인 화재는 병합")
+    void rejectsNewFiresOverLimit() {
+        AIPredictionIngestScheduler scheduler = scheduler(1);
+
+        assertThat(scheduler.submit(prediction("A", "2025-12-02T14:00:00"), 1L)).isEqualTo(SubmitResult.ACCEPTED);
+        assertThat(scheduler.submit(prediction("B", "2025-12-02T14:00:00"), 2L)).isEqualTo(SubmitResult.REJECTED);
+        assertThat(scheduler.submit(prediction("A", "2025-12-02T14:10:00"), 3L)).isEqualTo(SubmitResult.COALESCED);
+        assertThat(scheduler.getStats().getRejectedCount()).isEqualTo(1);
+
+        runAll();
+
+        // 처리가 끝나 슬롯이 정리되면 다시 수락
+        assertThat(scheduler.submit(prediction("B", "2025-12-02T14:00:00"), 4L)).isEqualTo(SubmitResult.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("배치는 신규 화재가 한도를 넘으면 전체 거절, 아무것도 등록하지 않음")
+    void rejectsWholeBatchOverLimit() {
+        AIPredictionIngestScheduler scheduler = scheduler(2);
+        scheduler.submit(prediction("A", "2025-12-02T14:00:00"), 1L);
+
+        SubmitResult result = scheduler.submitBatch(
+                List.of(prediction("B", "2025-12-02T14:00:00"), prediction("C", "2025-12-02T14:00:00")),
+                List.of(2L, 3L));
+
+        assertThat(result).isEqualTo(SubmitResult.REJECTED);
+        assertThat(tasks).hasSize(1);
+        assertThat(scheduler.getStats().getActiveFireSlots()).isEqualTo(1);
+        assertThat(scheduler.getStats().getRejectedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치로 들어온 신규 화재들은 한 작업으로 묶어 일괄 처리")
+    void processesBatchInOneTask() {
+        AIPredictionIngestScheduler scheduler = scheduler(10);
+        FirePredictionRequestDto a = prediction("A", "2025-12-02T14:00:00");
+        FirePredictionRequestDto b = prediction("B", "2025-12-02T14:00:00");
+
+        assertThat(scheduler.submitBatch(List.of(a, b), List.of(1L, 2L))).isEqualTo(SubmitResult.ACCEPTED);
+        assertThat(tasks).hasSize(1);
+
+        runAll();
+
+        verify(aiPredictionService).processAIPredictionBatch(List.of(a, b));
+        verify(journal).ack(1L);
+        verify(journal).ack(2L);
+        assertThat(scheduler.getStats().getActiveFireSlots()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 payload는 ack하지 않고 지수 backoff로 재시도, 재시도 시간 한도를 넘으면 dead-letter")
+    void retriesWithBackoffThenDeadLetters() {
+        AIPredictionIngestScheduler scheduler = scheduler(10);
+        FirePredictionRequestDto failing = prediction("A", "2025-12-02T14:00:00");
+        doThrow(new IllegalStateException("db down")).when(aiPredictionService).processAIPrediction(failing);
+
+        scheduler.submit(failing, 1L);
+        runAll();
+
+        // 1s, 2s 대기 후 재시도, 다음 대기(4s)는 첫 실패 후 3s + 4s > 5s라서 dead-letter
+        assertThat(retryDelays).containsExactly(1_000L, 2_000L);
+        verify(aiPredictionService, times(3)).processAIPrediction(failing);
+        verify(journal).deadLetter(1L, failing);
+        verify(journal, never()).ack(1L);
+        assertThat(scheduler.getStats().getRetriedCount()).isEqualTo(2);
+        assertThat(scheduler.getStats().getDeadLetteredCount()).isEqualTo(1);
+        assertThat(scheduler.getStats().getActiveFireSlots()).isZero();
+    }
+
+    @Test
+    @DisplayName("backoff 대기 중에는 재등록하지 않고, 대기 중 들어온 최신 payload가 실패한 payload를 대체")
+    void newerPayloadDuringBackoffReplacesFailed() {
+        AIPredictionIngestScheduler scheduler = scheduler(10);
+        FirePredictionRequestDto failing = prediction("A", "2025-12-02T14:00:00");
+        FirePredictionRequestDto newer = prediction("A", "2025-12-02T14:10:00");
+        doThrow(new IllegalStateException("db down")).when(aiPredictionService).processAIPrediction(failing);
+
+        scheduler.submit(failing, 1L);
+        tasks.remove(0).run();
+        assertThat(retryDelays).containsExactly(1_000L);
+        Runnable retry = tasks.remove(0);   // backoff 대기 중
+
+        assertThat(scheduler.submit(newer, 2L)).isEqualTo(SubmitResult.COALESCED);
+        assertThat(tasks).isEmpty();
+        verify(journal).ack(1L);
+
+        retry.run();
+        runAll();
+
+        verify(aiPredictionService).processAIPrediction(newer);
+        verify(aiPredictionService, times(1)).processAIPrediction(failing);
+        verify(journal).ack(2L);
+    }
+
+    @Test
+    @DisplayName("재시도 전에 더 최신 payload가 들어오면 실패한 payload는 ack하고 최신 payload 처리")
+    void failedPayloadSupersededByNewer() {
+        AIPredictionIngestScheduler scheduler = scheduler(10);
+        FirePredictionRequestDto failing = prediction("A", "2025-12-02T14:00:00");
+        FirePredictionRequestDto newer = prediction("A", "2025-12-02T14:10:00");
+        // 처리 중에 최신 payload가 도착한 뒤 실패
+        doAnswer(invocation -> {
+            scheduler.submit(newer, 2L);
+            throw new IllegalStateException("db down");
+        }).when(aiPredictionService).processAIPrediction(failing);
+
+        scheduler.submit(failing, 1L);
+        runAll();
+
+        verify(journal).ack(1L);
+        verify(aiPredictionService).processAIPrediction(newer);
+        verify(journal).ack(2L);
+        verify(journal, never()).deadLetter(any(), any());
+    }
+
+    @Test
+    @DisplayName("실행기 작업 우선순위: 종료 > 신규 발화 > 갱신 > 대용량 갱신")
+    void classifiesPriority() {
+        AIPredictionIngestScheduler scheduler = scheduler(10);
+        when(rasterRegistry.contains("UPDATE")).thenReturn(true);
+        when(rasterRegistry.contains("HEAVY")).thenReturn(true);
+
+        scheduler.submit(end("END", "2025-12-02T14:00:00"), 1L);
+        scheduler.submit(prediction("NEW", "2025-12-02T14:00:00"), 2L);
+        scheduler.submit(prediction("UPDATE", "2025-12-02T14:00:00"), 3L);
+        scheduler.submit(prediction("HEAVY", "2025-12-02T14:00:00", 3), 4L);
+
+        assertThat(tasks).map(task -> ((PrioritizedTask) task).getPriority()).containsExactly(
+                IngestPriority.FIRE_END.ordinal(),
+                IngestPriority.NEW_IGNITION.ordinal(),
+                IngestPriority.UPDATE.ordinal(),
+                IngestPriority.HEAVY_UPDATE.ordinal());
+    }
+
+    private AIPredictionIngestScheduler scheduler(int maxDispatchedFires) {
+        return new AIPredictionIngestScheduler(aiPredictionService, journal, new AIPredictionIngestMetrics(),
+                rasterRegistry, tasks::add, maxDispatchedFires, 3, 2,
+                RETRY_INITIAL_DELAY_MILLIS, RETRY_MAX_DELAY_MILLIS, RETRY_BUDGET_MILLIS) {
+            @Override
+            void scheduleRetry(Runnable retry, long delayMillis) {
+                retryDelays.add(delayMillis);
+                now += delayMillis;
+                tasks.add(retry);
+            }
+
+            @Override
+            long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    // 처리 중 재등록된 작업까지 모두 실행
+    private void runAll() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static FirePredictionRequestDto prediction(String fireId, String inferenceTimestamp) {
+        return prediction(fireId, inferenceTimestamp, 1);
+    }
+
+    private static FirePredictionRequestDto prediction(String fireId, String inferenceTimestamp, int cellCount) {
+        List<PredictedCellDto> cells = new ArrayList<>();
+        for (int i = 0; i < cellCount; i++) {
+            cells.add(PredictedCellDto.builder().lat(36.5 + i * 0.004).lon(128.7).probability(0.5).build());
+        }
+        return FirePredictionRequestDto.builder()
+                .eventType(FireEventOrdering.PREDICTION)
+                .fireId(fireId)
+                .inferenceTimestamp(inferenceTimestamp)
+                .predictions(List.of(PredictionDto.builder()
+                        .timestep(1)
+                        .timestamp("2025-12-02T15:00:00")
+                        .predictedCells(cells)
+                        .build()))
+                .build();
+    }
+
+    private static FirePredictionRequestDto end(String fireId, String endedTimestamp) {
+        return FirePredictionRequestDto.builder()
+                .eventType(FireEventOrdering.END)
+                .fireId(fireId)
+                .endedTimestamp(endedTimestamp)
+                .build();
+    }
+}
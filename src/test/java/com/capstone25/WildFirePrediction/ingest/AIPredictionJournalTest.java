@@ -0,0 +1,160 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.ingest.AIPredictionJournal.FsyncPolicy;
+import com.capstone25.WildFirePrediction.ingest.AIPredictionJournal.JournalRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 저널 기록 / 재기동 복구 / 세그먼트 정리 / dead-letter
+class AIPredictionJournalTest {
+
+    private static final long DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("재기동 시 남아있는 레코드를 순서대로 복구하고 시퀀스를 이어서 발급")
+    void recoversRecordsAfterRestart() throws IOException {
+        AIPredictionJournal journal = open(DEFAULT_SEGMENT_BYTES);
+        journal.append(request("A"));
+        journal.appendAll(List.of(request("B"), request("C")));
+        journal.close();
+
+        AIPredictionJournal reopened = open(DEFAULT_SEGMENT_BYTES);
+        List<JournalRecord> records = reopened.drainRecoveredRecords();
+
+        assertThat(records).extracting(JournalRecord::getSeq).containsExactly(1L, 2L, 3L);
+        assertThat(records).extracting(record -> record.getRequestDto().getFireId()).containsExactly("A", "B", "C");
+        assertThat(reopened.getOutstandingCount()).isEqualTo(3);
+        assertThat(reopened.drainRecoveredRecords()).isEmpty();
+        assertThat(reopened.append(request("D"))).isEqualTo(4L);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("모두 ack된 레코드는 재시작 후 다시 처리하지 않고 시퀀스는 이어서 발급")
+    void doesNotReplayAckedRecords() throws IOException {
+        AIPredictionJournal journal = open(DEFAULT_SEGMENT_BYTES);
+        Long first = journal.append(request("A"));
+        Long second = journal.append(request("B"));
+        journal.ack(second);
+        journal.ack(first);
+        journal.close();
+
+        AIPredictionJournal reopened = open(DEFAULT_SEGMENT_BYTES);
+        assertThat(reopened.drainRecoveredRecords()).isEmpty();
+        assertThat(reopened.getOutstandingCount()).isZero();
+        assertThat(reopened.append(request("C"))).isEqualTo(3L);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("체크포인트는 연속으로 ack된 시퀀스까지만 이동, 그 이후 레코드는 재처리")
+    void replaysRecordsAfterCheckpoint() throws IOException {
+        AIPredictionJournal journal = open(DEFAULT_SEGMENT_BYTES);
+        Long first = journal.append(request("A"));
+        journal.append(request("B"));
+        Long third = journal.append(request("C"));
+        journal.ack(first);
+        journal.ack(third);     // B가 처리 중이므로 체크포인트는 A까지
+        journal.close();
+
+        AIPredictionJournal reopened = open(DEFAULT_SEGMENT_BYTES);
+        assertThat(reopened.drainRecoveredRecords())
+                .extracting(record -> record.getRequestDto().getFireId())
+                .containsExactly("B", "C");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 잘렸으면 그 앞까지만 복구")
+    void ignoresTornTailRecord() throws IOException {
+        AIPredictionJournal journal = open(DEFAULT_SEGMENT_BYTES);
+        journal.append(request("A"));
+        journal.append(request("B"));
+        journal.close();
+
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(segment) - 3);
+        }
+
+        AIPredictionJournal reopened = open(DEFAULT_SEGMENT_BYTES);
+        assertThat(reopened.drainRecoveredRecords())
+                .extracting(record -> record.getRequestDto().getFireId())
+                .containsExactly("A");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("ack되지 않은 레코드가 없는 세그먼트는 삭제")
+    void deletesFullyAckedSegments() throws IOException {
+        AIPredictionJournal journal = open(1);    // 레코드마다 세그먼트 전환
+        Long first = journal.append(request("A"));
+        Long second = journal.append(request("B"));
+        assertThat(segments()).hasSize(3);
+
+        journal.ack(second);
+        assertThat(segments()).hasSize(3);   // 더 오래된 세그먼트에 ack 대기 레코드가 있으면 유지
+
+        journal.ack(first);
+        assertThat(segments()).hasSize(1);  // 현재 쓰는 빈 세그먼트만 남음
+        assertThat(journal.getOutstandingCount()).isZero();
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("dead-letter는 payload를 파일로 남긴 뒤 ack")
+    void deadLetterWritesFileAndAcks() throws IOException {
+        AIPredictionJournal journal = open(DEFAULT_SEGMENT_BYTES);
+        FirePredictionRequestDto requestDto = request("A");
+        Long seq = journal.append(requestDto);
+
+        journal.deadLetter(seq, requestDto);
+
+        Path deadLetter = dir.resolve("dead-letter").resolve(String.format("%020d-A.json", seq));
+        assertThat(deadLetter).exists();
+        assertThat(new ObjectMapper().readValue(deadLetter.toFile(), FirePredictionRequestDto.class).getFireId())
+                .isEqualTo("A");
+        assertThat(journal.getOutstandingCount()).isZero();
+        journal.close();
+    }
+
+    private AIPredictionJournal open(long segmentMaxBytes) throws IOException {
+        AIPredictionJournal journal = new AIPredictionJournal(new ObjectMapper());
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "journalDir", dir.toString());
+        ReflectionTestUtils.setField(journal, "segmentMaxBytes", segmentMaxBytes);
+        ReflectionTestUtils.setField(journal, "fsyncPolicy", FsyncPolicy.NONE);
+        journal.open();
+        return journal;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-")).sorted().toList();
+        }
+    }
+
+    private static FirePredictionRequestDto request(String fireId) {
+        return FirePredictionRequestDto.builder()
+                .eventType(FireEventOrdering.PREDICTION)
+                .fireId(fireId)
+                .inferenceTimestamp("2025-12-02T14:00:00")
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.capstone25.WildFirePrediction.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 완성된 gzip 멤버 검사 / 비정상 종료로 잘린 꼬리 복구
+class FirePredictionArchiveTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("CRC까지 맞는 멤버 끝까지만 완성 길이로 계산")
+    void scansCompletedMembers() throws IOException {
+        byte[] first = member("{\"n\":1}");
+        byte[] second = member("{\"n\":2}");
+        Path file = dir.resolve("scan.ndjson.gz");
+
+        Files.write(file, concat(first, second));
+        assertThat(FirePredictionArchive.scanCompletedMembers(file)).isEqualTo(first.length + second.length);
+
+        // 두 번째 멤버가 쓰다 만 상태
+        Files.write(file, concat(first, Arrays.copyOf(second, second.length - 3)));
+        assertThat(FirePredictionArchive.scanCompletedMembers(file)).isEqualTo(first.length);
+
+        // 두 번째 멤버의 CRC가 깨진 상태
+        byte[] corrupted = second.clone();
+        corrupted[corrupted.length - 8] ^= 0x01;
+        Files.write(file, concat(first, corrupted));
+        assertThat(FirePredictionArchive.scanCompletedMembers(file)).isEqualTo(first.length);
+
+        Files.write(file, new byte[0]);
+        assertThat(FirePredictionArchive.scanCompletedMembers(file)).isZero();
+    }
+
+    @Test
+    @DisplayName("재기동 후 처음 읽을 때 잘린 꼬리를 잘라내고, 이후 기록은 완성된 멤버 뒤에 이어 씀")
+    void truncatesTornTailOnFirstAccess() throws IOException {
+        FirePredictionArchive archive = open();
+        archive.append(List.of(request("A", "2025-12-02T14:00:00"), request("A", "2025-12-02T14:10:00")));
+        Path file = dir.resolve("fire-A.ndjson.gz");
+        long completed = Files.size(file);
+
+        // 비정상 종료로 다음 멤버 앞부분만 남은 상태
+        byte[] torn = member("{\"fire_id\":\"A\"}");
+        Files.write(file, Arrays.copyOf(torn, torn.length / 2), StandardOpenOption.APPEND);
+
+        FirePredictionArchive reopened = open();
+        assertThat(reopened.exists("A")).isTrue();
+        assertThat(Files.size(file)).isEqualTo(completed);
+        assertThat(inferenceTimestamps(reopened, "A")).containsExactly("2025-12-02T14:00:00", "2025-12-02T14:10:00");
+
+        reopened.append(List.of(request("A", "2025-12-02T14:20:00")));
+        assertThat(FirePredictionArchive.scanCompletedMembers(file)).isEqualTo(Files.size(file));
+        assertThat(inferenceTimestamps(reopened, "A"))
+                .containsExactly("2025-12-02T14:00:00", "2025-12-02T14:10:00", "2025-12-02T14:20:00");
+    }
+
+    private FirePredictionArchive open() throws IOException {
+        FirePredictionArchive archive = new FirePredictionArchive(objectMapper);
+        ReflectionTestUtils.setField(archive, "enabled", true);
+        ReflectionTestUtils.setField(archive, "archiveDir", dir.toString());
+        ReflectionTestUtils.setField(archive, "retentionDays", 365L);
+        archive.open();
+        return archive;
+    }
+
+    private List<String> inferenceTimestamps(FirePredictionArchive archive, String fireId) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        archive.copyDecompressed(fireId, out);
+        return out.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, FirePredictionRequestDto.class).getInferenceTimestamp();
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private static byte[] member(String line) throws IOException {
+        ByteArrayOutputStream member = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(member)) {
+            gzip.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return member.toByteArray();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    private static FirePredictionRequestDto request(String fireId, String inferenceTimestamp) {
+        return FirePredictionRequestDto.builder()
+                .eventType(FireEventOrdering.PREDICTION)
+                .fireId(fireId)
+                .inferenceTimestamp(inferenceTimestamp)
+                .build();
+    }
+}
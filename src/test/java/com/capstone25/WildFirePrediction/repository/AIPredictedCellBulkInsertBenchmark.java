@@ -0,0 +1,93 @@
+package com.capstone25.WildFirePrediction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.capstone25.WildFirePrediction.BenchmarkRunner;
+import com.capstone25.WildFirePrediction.BenchmarkRunner.Result;
+import com.capstone25.WildFirePrediction.domain.AIPredictedCell;
+import com.capstone25.WildFirePrediction.util.GridKey;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 예측 셀 10k건 INSERT 처리량: 멀티 row 벌크 INSERT vs row당 INSERT (기존 IDENTITY cascade와 같은 왕복 수)
+// - 실제 MySQL 필요 (ai_prediction_fire에 행이 하나 이상 있는 스키마), 측정 후 롤백
+// ./gradlew benchmark -Dbenchmark.datasource.url=jdbc:mysql://localhost:3306/wildfire
+//                     -Dbenchmark.datasource.username=... -Dbenchmark.datasource.password=...
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.datasource.url", matches = ".+")
+class AIPredictedCellBulkInsertBenchmark {
+
+    private static final int CELL_COUNT = 10_000;
+
+    private static final String SINGLE_INSERT_SQL = "INSERT INTO ai_predicted_cell "
+            + "(latitude, longitude, geom, grid_key, time_step, predicted_timestamp, probability, fire_id, created_at, updated_at) "
+            + "VALUES (?, ?, ST_SRID(POINT(?, ?), 4326), ?, ?, ?, ?, ?, NOW(6), NOW(6))";
+
+    @Test
+    @DisplayName("10k 셀 INSERT rows/sec")
+    void insertThroughput() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("benchmark.datasource.url"),
+                System.getProperty("benchmark.datasource.username", "root"),
+                System.getProperty("benchmark.datasource.password", ""));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        Long fireId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM ai_prediction_fire", Long.class);
+        assumeTrue(fireId != null, "ai_prediction_fire에 행이 없음");
+
+        List<AIPredictedCell> cells = cells();
+        AIPredictedCellRepositoryImpl repository = new AIPredictedCellRepositoryImpl(jdbcTemplate);
+
+        Result bulk = BenchmarkRunner.run("bulk insert " + CELL_COUNT + " cells", 2, 5,
+                () -> inRollback(transaction, () -> assertThat(repository.bulkInsertCells(fireId, cells))
+                        .isEqualTo(CELL_COUNT)));
+        Result perRow = BenchmarkRunner.run("row-by-row insert " + CELL_COUNT + " cells", 1, 3,
+                () -> inRollback(transaction, () -> {
+                    for (AIPredictedCell cell : cells) {
+                        jdbcTemplate.update(SINGLE_INSERT_SQL, cell.getLatitude(), cell.getLongitude(),
+                                cell.getLongitude(), cell.getLatitude(), cell.getGridKey(), cell.getTimeStep(),
+                                cell.getPredictedTimestamp(), cell.getProbability(), fireId);
+                    }
+                }));
+
+        System.out.printf("[benchmark] bulk: %,d rows/sec, row-by-row: %,d rows/sec%n",
+                bulk.perSecond(CELL_COUNT), perRow.perSecond(CELL_COUNT));
+    }
+
+    private static void inRollback(TransactionTemplate transaction, Runnable work) {
+        transaction.executeWithoutResult(status -> {
+            work.run();
+            status.setRollbackOnly();
+        });
+    }
+
+    // 5 timestep x 2,000셀 (375m 간격)
+    private static List<AIPredictedCell> cells() {
+        List<AIPredictedCell> cells = new ArrayList<>(CELL_COUNT);
+        for (int i = 0; i < CELL_COUNT; i++) {
+            int timeStep = i / 2_000 + 1;
+            int index = i % 2_000;
+            double lat = 36.5 + (index / 50) * 0.00337;
+            double lon = 128.7 + (index % 50) * 0.00419;
+            cells.add(AIPredictedCell.builder()
+                    .latitude(lat)
+                    .longitude(lon)
+                    .gridKey(GridKey.of(lat, lon))
+                    .timeStep(timeStep)
+                    .predictedTimestamp("2025-12-02T1" + timeStep + ":00:00")
+                    .probability(index / 2_000.0)
+                    .build());
+        }
+        return cells;
+    }
+}
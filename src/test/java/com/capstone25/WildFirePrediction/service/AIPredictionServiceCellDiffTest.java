@@ -0,0 +1,171 @@
+package com.capstone25.WildFirePrediction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.capstone25.WildFirePrediction.domain.AIPredictedCell;
+import com.capstone25.WildFirePrediction.dto.PredictedCellDiff;
+import com.capstone25.WildFirePrediction.dto.projection.PredictedCellProjection;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.capstone25.WildFirePrediction.util.GridKey;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// 저장된 셀과 신규 예측 셀 비교 (AIPredictionService.computeCellDiff)
+class AIPredictionServiceCellDiffTest {
+
+    private static final String TIMESTAMP_1 = "2025-12-02T14:50:00";
+    private static final String TIMESTAMP_2 = "2025-12-02T15:00:00";
+
+    @Test
+    @DisplayName("저장된 셀이 없으면 모든 셀을 추가")
+    void insertsAllCellsWhenNothingStored() {
+        FirePredictionRequestDto request = request(prediction(1, TIMESTAMP_1,
+                cell(36.5684, 128.7294, 0.8), cell(36.5718, 128.7294, 0.6)));
+
+        PredictedCellDiff diff = AIPredictionService.computeCellDiff(request, List.of());
+
+        assertThat(diff.getToInsert()).hasSize(2);
+        assertThat(diff.getToInsert().get(0).getGridKey()).isEqualTo(GridKey.of(36.5684, 128.7294));
+        assertThat(diff.getToUpdate()).isEmpty();
+        assertThat(diff.getToDelete()).isEmpty();
+        assertThat(diff.getUnchangedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 격자 셀은 확률/예상 시각이 바뀐 경우만 갱신, 그대로면 유지")
+    void updatesOnlyChangedCells() {
+        List<PredictedCellProjection> stored = List.of(
+                stored(1L, 1, 36.5684, 128.7294, 0.8, TIMESTAMP_1),
+                stored(2L, 1, 36.5718, 128.7294, 0.6, TIMESTAMP_1));
+        FirePredictionRequestDto request = request(prediction(1, TIMESTAMP_1,
+                cell(36.5684, 128.7294, 0.8), cell(36.5718, 128.7294, 0.9)));
+
+        PredictedCellDiff diff = AIPredictionService.computeCellDiff(request, stored);
+
+        assertThat(diff.getToInsert()).isEmpty();
+        assertThat(diff.getToDelete()).isEmpty();
+        assertThat(diff.getUnchangedCount()).isEqualTo(1);
+        assertThat(diff.getToUpdate()).singleElement().satisfies(cell -> {
+            assertThat(cell.getId()).isEqualTo(2L);
+            assertThat(cell.getProbability()).isEqualTo(0.9);
+        });
+    }
+
+    @Test
+    @DisplayName("예상 시각만 바뀌어도 갱신")
+    void updatesWhenTimestampChanges() {
+        List<PredictedCellProjection> stored = List.of(stored(1L, 1, 36.5684, 128.7294, 0.8, TIMESTAMP_1));
+        FirePredictionRequestDto request = request(prediction(1, TIMESTAMP_2, cell(36.5684, 128.7294, 0.8)));
+
+        PredictedCellDiff diff = AIPredictionService.computeCellDiff(request, stored);
+
+        assertThat(diff.getToUpdate()).extracting(AIPredictedCell::getPredictedTimestamp).containsExactly(TIMESTAMP_2);
+    }
+
+    @Test
+    @DisplayName("신규 예측에 없는 셀과 다른 timestep의 셀은 삭제 대상")
+    void deletesCellsMissingFromPrediction() {
+        PredictedCellProjection sameCellOtherTimestep = stored(2L, 2, 36.5684, 128.7294, 0.8, TIMESTAMP_2);
+        PredictedCellProjection removedCell = stored(3L, 1, 36.6000, 128.8000, 0.5, TIMESTAMP_1);
+        List<PredictedCellProjection> stored = List.of(
+                stored(1L, 1, 36.5684, 128.7294, 0.8, TIMESTAMP_1), sameCellOtherTimestep, removedCell);
+        FirePredictionRequestDto request = request(prediction(1, TIMESTAMP_1, cell(36.5684, 128.7294, 0.8)));
+
+        PredictedCellDiff diff = AIPredictionService.computeCellDiff(request, stored);
+
+        assertThat(diff.getToDelete()).containsExactlyInAnyOrder(sameCellOtherTimestep, removedCell);
+        assertThat(diff.getUnchangedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("grid_key가 없는 저장 셀은 좌표로 격자 셀을 계산해 비교")
+    void matchesLegacyCellsWithoutGridKey() {
+        List<PredictedCellProjection> stored = List.of(
+                new StoredCell(1L, 1, 36.5684, 128.7294, null, TIMESTAMP_1, 0.8));
+        FirePredictionRequestDto request = request(prediction(1, TIMESTAMP_1, cell(36.5684, 128.7294, 0.8)));
+
+        PredictedCellDiff diff = AIPredictionService.computeCellDiff(request, stored);
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.getUnchangedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 payload 안의 중복 셀은 첫 번째만 사용")
+    void usesFirstOfDuplicateCells() {
+        FirePredictionRequestDto request = request(prediction(1, TIMESTAMP_1,
+                cell(36.5684, 128.7294, 0.8), cell(36.5684, 128.7294, 0.3)));
+
+        PredictedCellDiff diff = AIPredictionService.computeCellDiff(request, List.of());
+
+        assertThat(diff.getToInsert()).extracting(AIPredictedCell::getProbability).containsExactly(0.8);
+    }
+
+    private static FirePredictionRequestDto request(PredictionDto... predictions) {
+        return FirePredictionRequestDto.builder()
+                .eventType("0")
+                .fireId("fire-1")
+                .inferenceTimestamp("2025-12-02T14:40:00")
+                .predictions(List.of(predictions))
+                .build();
+    }
+
+    private static PredictionDto prediction(int timestep, String timestamp, PredictedCellDto... cells) {
+        return PredictionDto.builder()
+                .timestep(timestep)
+                .timestamp(timestamp)
+                .predictedCells(List.of(cells))
+                .build();
+    }
+
+    private static PredictedCellDto cell(double lat, double lon, double probability) {
+        return PredictedCellDto.builder().lat(lat).lon(lon).probability(probability).build();
+    }
+
+    private static PredictedCellProjection stored(Long id, int timeStep, double lat, double lon,
+                                                  double probability, String timestamp) {
+        return new StoredCell(id, timeStep, lat, lon, GridKey.of(lat, lon), timestamp, probability);
+    }
+
+    private record StoredCell(Long id, Integer timeStep, Double latitude, Double longitude, Long gridKey,
+                              String predictedTimestamp, Double probability) implements PredictedCellProjection {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Integer getTimeStep() {
+            return timeStep;
+        }
+
+        @Override
+        public Double getLatitude() {
+            return latitude;
+        }
+
+        @Override
+        public Double getLongitude() {
+            return longitude;
+        }
+
+        @Override
+        public Long getGridKey() {
+            return gridKey;
+        }
+
+        @Override
+        public String getPredictedTimestamp() {
+            return predictedTimestamp;
+        }
+
+        @Override
+        public Double getProbability() {
+            return probability;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.capstone25.WildFirePrediction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.capstone25.WildFirePrediction.domain.AIPredictedCell;
+import com.capstone25.WildFirePrediction.dto.BurnArrivalRaster;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FireLocationDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.capstone25.WildFirePrediction.service.BurnArrivalRasterRegistry.FireRasterChangedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// 바운딩 박스 위험 셀 조회 (화재 범위 확인 + 위도 구간 탐색이 전체 탐색과 같은 결과인지)
+class BurnArrivalRasterRegistryTest {
+
+    private static final double LAT_STEP = 0.003369;    // 375m
+    private static final double LON_STEP = 0.004168;
+
+    @Test
+    @DisplayName("바운딩 박스 안의 셀만 반환하고, 범위가 겹치지 않는 화재는 건너뜀")
+    void findsCellsInBoundingBox() {
+        BurnArrivalRasterRegistry registry = new BurnArrivalRasterRegistry(mock(AIPredictionService.class));
+        BurnArrivalRaster near = BurnArrivalRaster.from(request("NEAR", 36.5, 128.7));
+        BurnArrivalRaster far = BurnArrivalRaster.from(request("FAR", 37.5, 127.0));
+        registry.onFireRasterChanged(new FireRasterChangedEvent("NEAR", near));
+        registry.onFireRasterChanged(new FireRasterChangedEvent("FAR", far));
+
+        double minLat = 36.5 + 2.5 * LAT_STEP;
+        double maxLat = 36.5 + 6.5 * LAT_STEP;
+        double minLon = 128.7 + 1.5 * LON_STEP;
+        double maxLon = 128.7 + 4.5 * LON_STEP;
+        List<AIPredictedCell> cells = registry.findCellsInBoundingBox(minLat, maxLat, minLon, maxLon);
+
+        assertThat(cells).hasSize(4 * 3);
+        assertThat(cells).allSatisfy(cell -> {
+            assertThat(cell.getLatitude()).isBetween(minLat, maxLat);
+            assertThat(cell.getLongitude()).isBetween(minLon, maxLon);
+        });
+        assertThat(cells).extracting(AIPredictedCell::getGridKey)
+                .containsExactlyInAnyOrderElementsOf(bruteForceGridKeys(near, minLat, maxLat, minLon, maxLon));
+
+        assertThat(registry.findCellsInBoundingBox(35.0, 35.1, 128.0, 128.1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("래스터 셀은 위도 오름차순, 격자 셀당 가장 이른 timestep 유지")
+    void keepsCellsSortedByLatitude() {
+        BurnArrivalRaster raster = BurnArrivalRaster.from(request("A", 36.5, 128.7));
+
+        double[] latitudes = raster.getLatitudes();
+        for (int i = 1; i < latitudes.length; i++) {
+            assertThat(latitudes[i]).isGreaterThanOrEqualTo(latitudes[i - 1]);
+        }
+        assertThat(raster.size()).isEqualTo(10 * 10);
+        assertThat(raster.getSourceCellCount()).isEqualTo(10 * 10 + 5 * 5);
+        assertThat(raster.getArrivalTimesteps()).containsOnly(1, 2);
+        assertThat(raster.firstIndexAtOrAboveLatitude(Double.NEGATIVE_INFINITY)).isZero();
+        assertThat(raster.firstIndexAtOrAboveLatitude(Double.POSITIVE_INFINITY)).isEqualTo(raster.size());
+    }
+
+    private static List<Long> bruteForceGridKeys(BurnArrivalRaster raster,
+                                                 double minLat, double maxLat, double minLon, double maxLon) {
+        List<Long> gridKeys = new ArrayList<>();
+        for (int i = 0; i < raster.size(); i++) {
+            double lat = raster.getLatitudes()[i];
+            double lon = raster.getLongitudes()[i];
+            if (lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon) {
+                gridKeys.add(raster.getGridKeys()[i]);
+            }
+        }
+        return gridKeys;
+    }
+
+    // timestep 2: 10 x 10 격자 (위도 내림차순으로 입력), timestep 1: 그 중 5 x 5
+    private static FirePredictionRequestDto request(String fireId, double originLat, double originLon) {
+        return FirePredictionRequestDto.builder()
+                .eventType("0")
+                .fireId(fireId)
+                .fireLocation(FireLocationDto.builder().lat(originLat).lon(originLon).build())
+                .fireTimestamp("2025-12-02T14:00:00")
+                .inferenceTimestamp("2025-12-02T14:10:00")
+                .predictions(List.of(
+                        prediction(2, grid(originLat, originLon, 10)),
+                        prediction(1, grid(originLat, originLon, 5))))
+                .build();
+    }
+
+    private static PredictionDto prediction(int timestep, List<PredictedCellDto> cells) {
+        return PredictionDto.builder()
+                .timestep(timestep)
+                .timestamp("2025-12-02T1" + (4 + timestep) + ":00:00")
+                .predictedCells(cells)
+                .build();
+    }
+
+    private static List<PredictedCellDto> grid(double originLat, double originLon, int size) {
+        List<PredictedCellDto> cells = new ArrayList<>();
+        for (int row = size - 1; row >= 0; row--) {
+            for (int col = 0; col < size; col++) {
+                cells.add(PredictedCellDto.builder()
+                        .lat(originLat + row * LAT_STEP)
+                        .lon(originLon + col * LON_STEP)
+                        .probability(0.5)
+                        .build());
+            }
+        }
+        return cells;
+    }
+}
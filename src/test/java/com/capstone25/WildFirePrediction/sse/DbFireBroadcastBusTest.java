@@ -0,0 +1,162 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.capstone25.WildFirePrediction.domain.FireBroadcastEvent;
+import com.capstone25.WildFirePrediction.repository.FireBroadcastEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// DB 버스 폴링 (id 순서 전달 / 늦게 커밋된 id 재조회 / 큰 간격 무시)
+class DbFireBroadcastBusTest {
+
+    private static final long POLL_INTERVAL_MS = 3_600_000;  // 폴링 스레드는 돌지 않고 테스트에서 poll() 직접 호출
+
+    private FireBroadcastEventRepository eventRepository;
+    private FireSseEmitterRepository emitterRepository;
+    private DbFireBroadcastBus bus;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(FireBroadcastEventRepository.class);
+        emitterRepository = mock(FireSseEmitterRepository.class);
+        when(eventRepository.findMaxId()).thenReturn(0L);
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        when(eventRepository.findAllById(any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.stop();
+    }
+
+    @Test
+    @DisplayName("cursor 이후 행을 id 순서로 한 번씩 전달하고 다음 폴링은 마지막 id부터")
+    void deliversRowsInOrder() {
+        bus = start(10_000, 100);
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, 101L), row(2L, 102L)));
+
+        bus.poll();
+        bus.poll();
+
+        InOrder inOrder = inOrder(emitterRepository);
+        inOrder.verify(emitterRepository).sendFireEvents(eq(101L), anyList());
+        inOrder.verify(emitterRepository).sendFireEvents(eq(102L), anyList());
+        verify(emitterRepository, times(2)).sendFireEvents(anyLong(), anyList());
+        verify(eventRepository).findByIdGreaterThanOrderByIdAsc(eq(2L), any(Pageable.class));
+        verify(eventRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("한 페이지가 가득 차면 같은 폴링에서 다음 페이지까지 조회")
+    void readsFullPagesInOnePoll() {
+        bus = start(10_000, 2);
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, 101L), row(2L, 102L)));
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(row(3L, 103L)));
+
+        bus.poll();
+
+        verify(emitterRepository, times(3)).sendFireEvents(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("건너뛴 id가 나중에 커밋되면 재조회로 전달")
+    void recoversLateCommittedRow() {
+        bus = start(10_000, 100);
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, 101L), row(3L, 103L)));
+
+        bus.poll();
+        verify(eventRepository).findAllById(eq(Set.of(2L)));
+        verify(emitterRepository, never()).sendFireEvents(eq(102L), anyList());
+
+        when(eventRepository.findAllById(any())).thenReturn(List.of(row(2L, 102L)));
+        bus.poll();
+        verify(emitterRepository).sendFireEvents(eq(102L), anyList());
+
+        // 전달한 id는 더 이상 추적하지 않음
+        clearInvocations(eventRepository);
+        bus.poll();
+        verify(eventRepository, never()).findAllById(any());
+        verify(emitterRepository, times(3)).sendFireEvents(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("gap-timeout이 지난 id는 롤백/건너뜀으로 보고 더 이상 조회하지 않음")
+    void expiresGapAfterTimeout() throws InterruptedException {
+        bus = start(0, 100);
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, 101L), row(3L, 103L)));
+
+        bus.poll();
+        Thread.sleep(5);
+        bus.poll();
+
+        clearInvocations(eventRepository);
+        bus.poll();
+        verify(eventRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("id 간격이 1000보다 크면 auto_increment 건너뜀으로 보고 추적하지 않음")
+    void ignoresLargeGap() {
+        bus = start(10_000, 100);
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, 101L), row(1_003L, 102L)));
+
+        bus.poll();
+
+        verify(eventRepository, never()).findAllById(any());
+        verify(emitterRepository, times(2)).sendFireEvents(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 payload는 건너뛰고 다음 행 전달")
+    void skipsUnreadablePayload() {
+        bus = start(10_000, 100);
+        FireBroadcastEvent broken = FireBroadcastEvent.builder().id(1L).eventId(101L).eventCount(1).payload("{").build();
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(broken, row(2L, 102L)));
+
+        bus.poll();
+
+        verify(emitterRepository, never()).sendFireEvents(eq(101L), anyList());
+        verify(emitterRepository).sendFireEvents(eq(102L), anyList());
+
+        // 같은 행을 다시 읽지 않음
+        bus.poll();
+        verify(eventRepository).findByIdGreaterThanOrderByIdAsc(eq(2L), any(Pageable.class));
+    }
+
+    private DbFireBroadcastBus start(long gapTimeoutMillis, int batchSize) {
+        DbFireBroadcastBus bus = new DbFireBroadcastBus(eventRepository, emitterRepository, new ObjectMapper(),
+                mock(PlatformTransactionManager.class), POLL_INTERVAL_MS, batchSize, gapTimeoutMillis, 60);
+        bus.start();
+        return bus;
+    }
+
+    private static FireBroadcastEvent row(long id, long eventId) {
+        return FireBroadcastEvent.builder().id(id).eventId(eventId).eventCount(0).payload("[]").build();
+    }
+}
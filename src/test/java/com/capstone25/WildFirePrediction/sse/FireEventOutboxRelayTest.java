@@ -0,0 +1,141 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.capstone25.WildFirePrediction.domain.FireEventOutbox;
+import com.capstone25.WildFirePrediction.repository.FireEventOutboxRepository;
+import com.capstone25.WildFirePrediction.repository.FireOutboxRelayLeaseRepository;
+import com.capstone25.WildFirePrediction.sse.FireEventOutboxRelay.FireEventOutboxAppendedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// outbox relay (lease 보유 시에만 발행 / 발행 실패 시 앞선 행만 완료 표시 / 해석 불가 행 건너뜀)
+class FireEventOutboxRelayTest {
+
+    private static final long WAIT_MS = 2_000;
+
+    private FireEventOutboxRepository outboxRepository;
+    private FireOutboxRelayLeaseRepository leaseRepository;
+    private FireBroadcastBus broadcastBus;
+    private FireEventOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(FireEventOutboxRepository.class);
+        leaseRepository = mock(FireOutboxRelayLeaseRepository.class);
+        broadcastBus = mock(FireBroadcastBus.class);
+        when(outboxRepository.findUnpublishedForRelay(any(Pageable.class))).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.stop();
+    }
+
+    @Test
+    @DisplayName("lease를 얻지 못하면 조회/발행하지 않음")
+    void skipsWithoutLease() {
+        relay = relay(10);
+        when(outboxRepository.findUnpublishedForRelay(any(Pageable.class))).thenReturn(List.of(row(1L, "[]")));
+
+        relay.onOutboxAppended(new FireEventOutboxAppendedEvent(1L));
+
+        verify(leaseRepository, timeout(WAIT_MS)).createIfAbsent(anyString(), any());
+        verify(outboxRepository, never()).findUnpublishedForRelay(any(Pageable.class));
+        verify(broadcastBus, never()).publish(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("lease 행이 없으면 만들어서 획득한 뒤 id 순서로 발행하고 완료 표시")
+    void createsLeaseAndRelays() {
+        relay = relay(10);
+        when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(0, 1);
+        when(leaseRepository.createIfAbsent(anyString(), any())).thenReturn(1);
+        when(outboxRepository.findUnpublishedForRelay(any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "[]"), row(2L, "[]")));
+
+        relay.onOutboxAppended(new FireEventOutboxAppendedEvent(2L));
+
+        verify(outboxRepository, timeout(WAIT_MS)).markPublished(eq(List.of(1L, 2L)), any());
+        verify(broadcastBus).publish(eq(1L), anyList());
+        verify(broadcastBus).publish(eq(2L), anyList());
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 남은 행을 이어서 발행")
+    void relaysUntilBatchNotFull() {
+        relay = relay(2);
+        when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(outboxRepository.findUnpublishedForRelay(any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "[]"), row(2L, "[]")), List.of(row(3L, "[]")));
+
+        relay.onOutboxAppended(new FireEventOutboxAppendedEvent(3L));
+
+        verify(outboxRepository, timeout(WAIT_MS)).markPublished(eq(List.of(3L)), any());
+        verify(outboxRepository).markPublished(eq(List.of(1L, 2L)), any());
+        verify(outboxRepository, times(2)).findUnpublishedForRelay(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("발행이 실패하면 앞선 행만 완료 표시하고 이후 행은 발행하지 않음")
+    void marksOnlyRowsBeforeFailure() {
+        relay = relay(10);
+        when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(outboxRepository.findUnpublishedForRelay(any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "[]"), row(2L, "[]"), row(3L, "[]")));
+        doThrow(new IllegalStateException("bus down")).when(broadcastBus).publish(eq(2L), anyList());
+
+        relay.onOutboxAppended(new FireEventOutboxAppendedEvent(3L));
+
+        verify(outboxRepository, timeout(WAIT_MS)).markPublished(eq(List.of(1L)), any());
+        verify(broadcastBus, never()).publish(eq(3L), anyList());
+        verify(outboxRepository, times(1)).findUnpublishedForRelay(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 payload는 발행하지 않고 완료 표시")
+    void marksUnreadablePayload() {
+        relay = relay(10);
+        when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(outboxRepository.findUnpublishedForRelay(any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "{"), row(2L, "[]")));
+
+        relay.onOutboxAppended(new FireEventOutboxAppendedEvent(2L));
+
+        verify(outboxRepository, timeout(WAIT_MS)).markPublished(eq(List.of(1L, 2L)), any());
+        verify(broadcastBus, never()).publish(eq(1L), anyList());
+        verify(broadcastBus).publish(eq(2L), anyList());
+    }
+
+    private FireEventOutboxRelay relay(int batchSize) {
+        return new FireEventOutboxRelay(outboxRepository, leaseRepository, broadcastBus, new ObjectMapper(),
+                mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class),
+                batchSize, 1_000, 24, 10_000);
+    }
+
+    private static FireEventOutbox row(long id, String payload) {
+        FireEventOutbox row = FireEventOutbox.builder().id(id).eventCount(0).payload(payload).build();
+        ReflectionTestUtils.setField(row, "createdAt", LocalDateTime.now());
+        return row;
+    }
+}
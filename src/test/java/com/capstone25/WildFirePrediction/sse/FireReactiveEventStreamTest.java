@@ -0,0 +1,58 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+// reactive SSE 스트림: 연결 확인 후 이벤트가 없어도 heartbeat 주석 프레임 전송
+class FireReactiveEventStreamTest {
+
+    @Test
+    @DisplayName("이벤트가 없으면 연결 확인 이벤트 뒤에 heartbeat 주석 프레임이 이어지고, 끊으면 구독자 수 감소")
+    void sendsHeartbeatsWhileIdle() {
+        FireReactiveEventStream stream = new FireReactiveEventStream(32, 50);
+
+        List<ServerSentEvent<String>> received = stream.subscribe()
+                .take(3)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(received).hasSize(3);
+        assertThat(received.get(0).event()).isEqualTo("connect");
+        assertThat(received.subList(1, 3)).allSatisfy(event -> {
+            assertThat(event.comment()).isEqualTo("heartbeat");
+            assertThat(event.data()).isNull();
+        });
+        assertThat(stream.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("발행한 이벤트와 heartbeat가 같은 연결로 전달")
+    void mergesEventsWithHeartbeats() {
+        FireReactiveEventStream stream = new FireReactiveEventStream(32, 50);
+
+        AtomicBoolean published = new AtomicBoolean();
+
+        // 연결 확인 이벤트 시점에는 아직 sink 구독 전이므로 첫 heartbeat를 받은 뒤 발행
+        List<ServerSentEvent<String>> received = stream.subscribe()
+                .doOnNext(event -> {
+                    if ("heartbeat".equals(event.comment()) && published.compareAndSet(false, true)) {
+                        stream.publish(1L, "fire_prediction", "{\"fire_id\":\"A\"}");
+                    }
+                })
+                .take(3)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(received).extracting(ServerSentEvent::event)
+                .containsExactly("connect", null, "fire_prediction");
+        assertThat(received.get(1).comment()).isEqualTo("heartbeat");
+        assertThat(received.get(2).id()).isEqualTo("1");
+        assertThat(received.get(2).data()).isEqualTo("{\"fire_id\":\"A\"}");
+    }
+}
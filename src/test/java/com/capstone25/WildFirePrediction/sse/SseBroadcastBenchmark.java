@@ -0,0 +1,93 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import com.capstone25.WildFirePrediction.BenchmarkRunner;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 브로드캐스트 1회당 CPU / 할당: 1회 인코딩 후 프레임 공유 (sendToAll) vs 구독자마다 직렬화 (기존 SseEventBuilder 방식)
+// - writer 실행기는 아무것도 하지 않으므로 네트워크 쓰기를 뺀 브로드캐스트 스레드 비용만 측정
+// ./gradlew benchmark --tests '*SseBroadcastBenchmark'
+@Tag("benchmark")
+class SseBroadcastBenchmark {
+
+    private static final int CELL_COUNT = 500;
+    private static final int ITERATIONS = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FirePredictionRequestDto requestDto = requestDto();
+
+    @ParameterizedTest(name = "구독자 {0}명")
+    @ValueSource(ints = {1_000, 10_000, 50_000})
+    @DisplayName("브로드캐스트 1회 CPU / 할당")
+    void broadcast(int subscriberCount) {
+        FireSseEmitterRepository repository = new FireSseEmitterRepository(objectMapper,
+                new FireReactiveEventStream(32, 15_000), task -> {
+                }, ITERATIONS * 4, SseOverflowPolicy.COALESCE, 256, 64L * 1024 * 1024,
+                subscriberCount, 15_000, 60_000);
+        List<SseEmitter> emitters = new ArrayList<>(subscriberCount);
+        for (int i = 0; i < subscriberCount; i++) {
+            emitters.add(repository.add("bench-" + i, 3_600_000L, null, null, false));
+        }
+
+        BenchmarkRunner.run("single-encode broadcast, " + subscriberCount + " subscribers", 2, ITERATIONS,
+                () -> repository.sendToAll(requestDto, "fire_prediction"));
+
+        // 기존 방식: 구독자마다 이벤트를 만들고 메시지 컨버터가 DTO를 다시 직렬화
+        BenchmarkRunner.run("per-subscriber encode, " + subscriberCount + " subscribers", 1, ITERATIONS, () -> {
+            for (int i = 0; i < emitters.size(); i++) {
+                Set<DataWithMediaType> items = SseEmitter.event()
+                        .id(Integer.toString(i))
+                        .name("fire_prediction")
+                        .data(requestDto)
+                        .build();
+                for (DataWithMediaType item : items) {
+                    serialize(item.getData());
+                }
+            }
+        });
+    }
+
+    private byte[] serialize(Object data) {
+        try {
+            return data instanceof String text
+                    ? text.getBytes(StandardCharsets.UTF_8) : objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FirePredictionRequestDto requestDto() {
+        List<PredictedCellDto> cells = new ArrayList<>(CELL_COUNT);
+        for (int i = 0; i < CELL_COUNT; i++) {
+            cells.add(PredictedCellDto.builder()
+                    .lat(36.5 + (i / 25) * 0.003369)
+                    .lon(128.7 + (i % 25) * 0.004168)
+                    .probability((i % 100) / 100.0)
+                    .build());
+        }
+        return FirePredictionRequestDto.builder()
+                .eventType("0")
+                .fireId("bench")
+                .inferenceTimestamp("2025-12-02T14:40:00")
+                .predictions(List.of(PredictionDto.builder()
+                        .timestep(1)
+                        .timestamp("2025-12-02T15:00:00")
+                        .predictedCells(cells)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.capstone25.WildFirePrediction.BenchmarkRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.BaseSubscriber;
+
+// 유휴 연결 1개당 힙: Reactor sink 구독 (/fires/sse-reactive) vs SseEmitter 구독자 맵 (/fires/sse-stream)
+// - 애플리케이션이 연결마다 들고 있는 객체만 측정 (소켓/컨테이너 버퍼는 제외, 실제 연결 부하 테스트는 별도 도구 필요)
+// ./gradlew benchmark --tests '*SseConnectionMemoryBenchmark'
+@Tag("benchmark")
+class SseConnectionMemoryBenchmark {
+
+    private static final int CONNECTIONS = 100_000;
+
+    @Test
+    @DisplayName("유휴 연결 10만 개 힙 사용량")
+    void heapPerIdleConnection() {
+        FireReactiveEventStream stream = new FireReactiveEventStream(32, 15_000);
+        long before = BenchmarkRunner.usedHeapAfterGc();
+        List<IdleSubscriber> reactiveConnections = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            IdleSubscriber subscriber = new IdleSubscriber();
+            stream.subscribe().subscribe(subscriber);
+            reactiveConnections.add(subscriber);
+        }
+        long reactiveBytes = BenchmarkRunner.usedHeapAfterGc() - before;
+        assertThat(stream.getSubscriberCount()).isEqualTo(CONNECTIONS);
+        report("reactive sink", reactiveBytes);
+
+        reactiveConnections.forEach(BaseSubscriber::dispose);
+        reactiveConnections.clear();
+
+        FireSseEmitterRepository repository = new FireSseEmitterRepository(new ObjectMapper(), stream, task -> {
+                }, 32, SseOverflowPolicy.COALESCE, 256, 64L * 1024 * 1024, CONNECTIONS, 15_000, 60_000);
+        before = BenchmarkRunner.usedHeapAfterGc();
+        List<SseEmitter> emitterConnections = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            emitterConnections.add(repository.add("bench-" + i, 3_600_000L, null, null, false));
+        }
+        long emitterBytes = BenchmarkRunner.usedHeapAfterGc() - before;
+        assertThat(repository.getStats().getSubscriberCount()).isEqualTo(CONNECTIONS);
+        report("SseEmitter map", emitterBytes);
+    }
+
+    private static void report(String name, long bytes) {
+        System.out.printf("[benchmark] %s - 연결 %,d개, 힙 %,d bytes (%,d bytes/연결)%n",
+                name, CONNECTIONS, bytes, bytes / CONNECTIONS);
+    }
+
+    // connect 이벤트만 받고 대기하는 구독자 (이벤트가 없는 유휴 연결)
+    private static class IdleSubscriber extends BaseSubscriber<ServerSentEvent<String>> {
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(1);
+        }
+
+        @Override
+        protected void hookOnNext(ServerSentEvent<String> value) {
+            // 연결 확인 이벤트 수신 후 추가 요청 없이 대기
+        }
+    }
+}
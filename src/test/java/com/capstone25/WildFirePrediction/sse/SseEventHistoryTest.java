@@ -0,0 +1,111 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// Last-Event-ID 재전송용 이벤트 버퍼 (SseEventHistory) / 인코딩된 프레임 (SseFrame)
+class SseEventHistoryTest {
+
+    private static final long INITIAL_ID = 1_000L;
+
+    @Test
+    @DisplayName("프레임은 id/event/data 줄을 한 번에 인코딩")
+    void encodesFrame() {
+        SseFrame frame = SseFrame.of(1_001L, "fire", "{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+        SseFrame withoutId = SseFrame.of(SseFrame.NO_ID, "connect", "ok".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(text(frame)).isEqualTo("id:1001\nevent:fire\ndata:{\"a\":1}\n\n");
+        assertThat(frame.getSize()).isEqualTo(text(frame).length());
+        assertThat(text(withoutId)).isEqualTo("event:connect\ndata:ok\n\n");
+        assertThat(frame.isComment()).isFalse();
+        assertThat(SseFrame.HEARTBEAT.isComment()).isTrue();
+    }
+
+    @Test
+    @DisplayName("id는 초기값 다음부터 1씩 증가")
+    void issuesSequentialIds() {
+        SseEventHistory history = new SseEventHistory(10, 1_000_000, INITIAL_ID);
+
+        assertThat(history.nextId()).isEqualTo(INITIAL_ID + 1);
+        assertThat(history.nextId()).isEqualTo(INITIAL_ID + 2);
+        assertThat(history.getLastId()).isEqualTo(INITIAL_ID + 2);
+    }
+
+    @Test
+    @DisplayName("lastEventId 이후 이벤트만 순서대로 반환, 최신이면 빈 목록")
+    void returnsMissedEvents() {
+        SseEventHistory history = new SseEventHistory(10, 1_000_000, INITIAL_ID);
+        long first = append(history);
+        long second = append(history);
+        long third = append(history);
+
+        assertThat(history.since(first)).extracting(entry -> entry.frame().getId()).containsExactly(second, third);
+        assertThat(history.since(INITIAL_ID)).extracting(entry -> entry.frame().getId())
+                .containsExactly(first, second, third);
+        assertThat(history.since(third)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼 범위 밖이거나 발급하지 않은 id면 null (전체 스냅샷으로 복구)")
+    void returnsNullOutsideBuffer() {
+        SseEventHistory history = new SseEventHistory(2, 1_000_000, INITIAL_ID);
+        long first = append(history);
+        append(history);
+        long third = append(history);   // first 제거
+
+        assertThat(history.size()).isEqualTo(2);
+        assertThat(history.since(first - 1)).isNull();
+        assertThat(history.since(first)).hasSize(2);
+        assertThat(history.since(third + 1)).isNull();
+        assertThat(history.since(1L)).isNull();     // 재기동 전 id
+    }
+
+    @Test
+    @DisplayName("바이트 합이 max-bytes를 넘으면 오래된 이벤트부터 제거, delta 프레임도 합산")
+    void evictsByBytes() {
+        SseFrame sample = frame(INITIAL_ID + 1);
+        SseEventHistory history = new SseEventHistory(100, sample.getSize() * 3L, INITIAL_ID);
+
+        append(history);
+        long second = history.nextId();
+        history.append(frame(second), frame(second), null);   // 기본 + delta 프레임 2개 분량
+        assertThat(history.size()).isEqualTo(2);
+        assertThat(history.getTotalBytes()).isEqualTo(sample.getSize() * 3L);
+
+        append(history);
+        assertThat(history.size()).isEqualTo(2);
+        assertThat(history.getTotalBytes()).isEqualTo(sample.getSize() * 3L);
+        assertThat(history.since(second - 1)).extracting(entry -> entry.frame().getId()).first().isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("max-events가 0이면 보관하지 않음")
+    void keepsNothingWhenDisabled() {
+        SseEventHistory history = new SseEventHistory(0, 1_000_000, INITIAL_ID);
+        long id = append(history);
+
+        assertThat(history.size()).isZero();
+        assertThat(history.getTotalBytes()).isZero();
+        assertThat(history.since(id)).isEmpty();
+        assertThat(history.since(id - 1)).isNull();
+    }
+
+    private static long append(SseEventHistory history) {
+        long id = history.nextId();
+        SseFrame frame = frame(id);
+        history.append(frame, frame, null);
+        return id;
+    }
+
+    // id 자릿수가 같으면 크기가 같은 프레임
+    private static SseFrame frame(long id) {
+        return SseFrame.of(id, "fire", "{\"fire_id\":\"A\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(SseFrame frame) {
+        return new String((byte[]) frame.getItems().iterator().next().getData(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,135 @@
+package com.capstone25.WildFirePrediction.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FireLocationDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 구독 영역 (SseViewport) / 구독 영역 공간 인덱스 (SseSubscriptionIndex)
+class SseViewportTest {
+
+    private static final SseViewport ANDONG = new SseViewport(36.4, 36.7, 128.5, 128.9);
+
+    @Test
+    @DisplayName("경계가 닿는 영역까지 겹침으로 판정")
+    void intersects() {
+        assertThat(ANDONG.intersects(new SseViewport(36.6, 37.0, 128.8, 129.2))).isTrue();
+        assertThat(ANDONG.intersects(new SseViewport(36.7, 37.0, 128.9, 129.2))).isTrue();
+        assertThat(ANDONG.intersects(new SseViewport(36.8, 37.0, 128.5, 128.9))).isFalse();
+        assertThat(ANDONG.intersects(new SseViewport(36.4, 36.7, 129.0, 129.2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("union은 두 영역을 모두 덮는 최소 사각형")
+    void unions() {
+        assertThat(ANDONG.union(new SseViewport(35.0, 36.5, 128.7, 129.5)))
+                .isEqualTo(new SseViewport(35.0, 36.7, 128.5, 129.5));
+    }
+
+    @Test
+    @DisplayName("좌표 범위/순서가 잘못된 영역은 무효")
+    void validates() {
+        assertThat(SseViewport.isValid(36.4, 36.7, 128.5, 128.9)).isTrue();
+        assertThat(SseViewport.isValid(36.7, 36.4, 128.5, 128.9)).isFalse();
+        assertThat(SseViewport.isValid(-91, 36.7, 128.5, 128.9)).isFalse();
+        assertThat(SseViewport.isValid(36.4, 36.7, 128.5, 181)).isFalse();
+    }
+
+    @Test
+    @DisplayName("화재 범위는 발화 위치와 전체 예측 셀을 셀 여유(0.002도)만큼 넓혀 덮음")
+    void computesExtent() {
+        FirePredictionRequestDto requestDto = FirePredictionRequestDto.builder()
+                .fireLocation(FireLocationDto.builder().lat(36.50).lon(128.70).build())
+                .predictions(List.of(
+                        prediction(cell(36.52, 128.68), cell(36.49, 128.71)),
+                        prediction(cell(null, 128.90)),
+                        PredictionDto.builder().timestep(3).build()))
+                .build();
+
+        SseViewport extent = SseViewport.extentOf(requestDto);
+
+        assertThat(extent.minLat()).isCloseTo(36.488, within(1e-9));
+        assertThat(extent.maxLat()).isCloseTo(36.522, within(1e-9));
+        assertThat(extent.minLon()).isCloseTo(128.678, within(1e-9));
+        assertThat(extent.maxLon()).isCloseTo(128.712, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("좌표가 하나도 없으면 범위 없음")
+    void noExtentWithoutCoordinates() {
+        assertThat(SseViewport.extentOf(FirePredictionRequestDto.builder().fireId("A").build())).isNull();
+    }
+
+    @Test
+    @DisplayName("인덱스는 범위와 겹치는 구독자와 영역 없는 구독자만 반환")
+    void queriesOverlappingSubscribers() {
+        SseSubscriptionIndex index = new SseSubscriptionIndex();
+        SseSubscriber andong = subscriber("andong", ANDONG);
+        SseSubscriber seoul = subscriber("seoul", new SseViewport(37.4, 37.7, 126.8, 127.2));
+        SseSubscriber all = subscriber("all", null);
+        index.put(andong, andong.getViewport());
+        index.put(seoul, seoul.getViewport());
+        index.put(all, null);
+
+        SseViewport fire = new SseViewport(36.49, 36.52, 128.67, 128.72);
+
+        assertThat(index.query(fire)).containsExactlyInAnyOrder(andong, all);
+        assertThat(index.query(null)).containsExactlyInAnyOrder(andong, seoul, all);
+        assertThat(index.matches(andong, fire)).isTrue();
+        assertThat(index.matches(seoul, fire)).isFalse();
+        assertThat(index.matches(all, fire)).isTrue();
+        assertThat(index.filteredCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("격자 칸 경계에 걸친 작은 범위도 찾고, 같은 칸이어도 겹치지 않으면 제외")
+    void checksExactOverlapWithinCell() {
+        SseSubscriptionIndex index = new SseSubscriptionIndex();
+        SseSubscriber near = subscriber("near", new SseViewport(36.49, 36.51, 128.74, 128.76));
+        SseSubscriber sameCell = subscriber("same-cell", new SseViewport(36.30, 36.31, 128.55, 128.56));
+        index.put(near, near.getViewport());
+        index.put(sameCell, sameCell.getViewport());
+
+        assertThat(index.query(new SseViewport(36.495, 36.505, 128.749, 128.751))).containsExactly(near);
+    }
+
+    @Test
+    @DisplayName("영역 변경/구독 해제 시 이전 칸에서 제거, 아주 넓은 영역은 전체 수신으로 관리")
+    void updatesAndRemoves() {
+        SseSubscriptionIndex index = new SseSubscriptionIndex();
+        SseSubscriber subscriber = subscriber("a", ANDONG);
+        index.put(subscriber, ANDONG);
+        SseViewport fire = new SseViewport(36.49, 36.52, 128.67, 128.72);
+
+        SseViewport seoul = new SseViewport(37.4, 37.7, 126.8, 127.2);
+        index.put(subscriber, seoul);
+        assertThat(index.query(fire)).isEmpty();
+
+        index.put(subscriber, new SseViewport(-80, 80, -170, 170));
+        assertThat(index.query(fire)).containsExactly(subscriber);
+        assertThat(index.filteredCount()).isZero();
+
+        index.remove(subscriber);
+        assertThat(index.query(fire)).isEmpty();
+        assertThat(index.query(null)).isEmpty();
+    }
+
+    private static SseSubscriber subscriber(String id, SseViewport viewport) {
+        return new SseSubscriber(id, new SseEmitter(), 10, false, viewport);
+    }
+
+    private static PredictionDto prediction(PredictedCellDto... cells) {
+        return PredictionDto.builder().timestep(1).predictedCells(List.of(cells)).build();
+    }
+
+    private static PredictedCellDto cell(Double lat, Double lon) {
+        return PredictedCellDto.builder().lat(lat).lon(lon).probability(0.5).build();
+    }
+}
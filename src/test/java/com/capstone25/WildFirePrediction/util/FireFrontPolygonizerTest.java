@@ -0,0 +1,151 @@
+package com.capstone25.WildFirePrediction.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.capstone25.WildFirePrediction.domain.enums.ProbabilityBand;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FireLocationDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.FirePredictionRequestDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictedCellDto;
+import com.capstone25.WildFirePrediction.dto.request.AIPredictionRequest.PredictionDto;
+import com.capstone25.WildFirePrediction.util.FireFrontPolygonizer.FireFrontPolygon;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+
+// 예측 셀 -> 화선 폴리곤 (확률 구간 분리, 중복 timestep, 인접 셀 union, 단순화 후 셀 중심 포함)
+class FireFrontPolygonizerTest {
+
+    private static final double LAT_STEP = 0.003369;    // 375m
+    private static final double LON_STEP = 0.004168;
+
+    @Test
+    @DisplayName("timestep 안의 셀을 확률 구간별 폴리곤으로 나누고, 같은 격자 셀은 한 번만 셈")
+    void groupsCellsByBand() {
+        List<PredictedCellDto> cells = new ArrayList<>();
+        cells.add(cell(36.5, 128.7, 0.9));
+        cells.add(cell(36.5, 128.7 + LON_STEP, 0.8));
+        cells.add(cell(36.5, 128.7 + 2 * LON_STEP, 0.7));
+        cells.add(cell(36.5, 128.7, 0.95));                 // 같은 격자 셀 중복
+        cells.add(cell(36.5 + LAT_STEP, 128.7, 0.5));
+        cells.add(cell(36.5 + LAT_STEP, 128.7 + LON_STEP, 0.4));
+        cells.add(cell(36.5 + 2 * LAT_STEP, 128.7, 0.1));
+
+        List<FireFrontPolygon> polygons = FireFrontPolygonizer.build(request(prediction(1, cells)));
+
+        assertThat(polygons)
+                .extracting(FireFrontPolygon::timeStep, FireFrontPolygon::band, FireFrontPolygon::cellCount)
+                .containsExactlyInAnyOrder(
+                        tuple(1, ProbabilityBand.HIGH, 3),
+                        tuple(1, ProbabilityBand.MEDIUM, 2),
+                        tuple(1, ProbabilityBand.LOW, 1));
+        assertThat(polygons).allSatisfy(polygon -> assertThat(polygon.geometry().getSRID()).isEqualTo(4326));
+    }
+
+    @Test
+    @DisplayName("같은 payload 안의 중복 timestep은 첫 번째만 사용")
+    void skipsDuplicateTimestep() {
+        FirePredictionRequestDto requestDto = request(
+                prediction(1, grid(36.5, 128.7, 3)),
+                prediction(1, grid(36.5, 128.7, 5)),
+                prediction(2, grid(36.5, 128.7, 5)));
+
+        List<FireFrontPolygon> polygons = FireFrontPolygonizer.build(requestDto);
+
+        assertThat(polygons)
+                .extracting(FireFrontPolygon::timeStep, FireFrontPolygon::predictedTimestamp,
+                        FireFrontPolygon::cellCount)
+                .containsExactly(
+                        tuple(1, "2025-12-02T15:00:00", 3 * 3),
+                        tuple(2, "2025-12-02T16:00:00", 5 * 5));
+    }
+
+    @Test
+    @DisplayName("인접한 셀은 위도와 관계없이 틈 없이 구멍 없는 폴리곤 하나로 합쳐짐")
+    void unionsAdjacentCellsWithoutGaps() {
+        for (double originLat : new double[]{33.2, 36.5, 38.5}) {
+            List<FireFrontPolygon> polygons =
+                    FireFrontPolygonizer.build(request(prediction(1, grid(originLat, 128.7, 10))));
+
+            assertThat(polygons).hasSize(1);
+            Geometry geometry = polygons.get(0).geometry();
+            assertThat(geometry.getNumGeometries()).isEqualTo(1);
+            assertThat(geometry).isInstanceOf(Polygon.class);
+            assertThat(((Polygon) geometry).getNumInteriorRing()).isZero();
+
+            // 이웃 셀 사이 경계(중심 사이 중간점)도 폴리곤 안
+            for (int row = 0; row < 10; row++) {
+                for (int col = 0; col < 9; col++) {
+                    double lat = originLat + row * LAT_STEP;
+                    double lon = 128.7 + (col + 0.5) * LON_STEP;
+                    assertThat(FireFrontPolygonizer.covers(geometry, lat, lon)).isTrue();
+                    assertThat(FireFrontPolygonizer.covers(geometry, originLat + (col + 0.5) * LAT_STEP,
+                            128.7 + row * LON_STEP)).isTrue();
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("단순화(약 50m) 후에도 모든 원본 셀 중심을 포함하고, 가운데 빈 곳은 구멍으로 남음")
+    void coversEveryCellCentreAfterSimplify() {
+        double centerLat = 36.5;
+        double centerLon = 128.7;
+        List<PredictedCellDto> ring = new ArrayList<>();
+        for (int row = -8; row <= 8; row++) {
+            for (int col = -8; col <= 8; col++) {
+                double distance = Math.hypot(row, col);
+                if (distance >= 3 && distance <= 7.5) {
+                    ring.add(cell(centerLat + row * LAT_STEP, centerLon + col * LON_STEP, 0.8));
+                }
+            }
+        }
+
+        List<FireFrontPolygon> polygons = FireFrontPolygonizer.build(request(prediction(1, ring)));
+
+        assertThat(polygons).hasSize(1);
+        Geometry geometry = polygons.get(0).geometry();
+        assertThat(polygons.get(0).cellCount()).isEqualTo(ring.size());
+        assertThat(ring).allSatisfy(cell ->
+                assertThat(FireFrontPolygonizer.covers(geometry, cell.getLat(), cell.getLon()))
+                        .as("셀 중심 (%s, %s)", cell.getLat(), cell.getLon())
+                        .isTrue());
+        assertThat(FireFrontPolygonizer.covers(geometry, centerLat, centerLon)).isFalse();
+    }
+
+    private static FirePredictionRequestDto request(PredictionDto... predictions) {
+        return FirePredictionRequestDto.builder()
+                .eventType("0")
+                .fireId("A")
+                .fireLocation(FireLocationDto.builder().lat(36.5).lon(128.7).build())
+                .fireTimestamp("2025-12-02T14:00:00")
+                .inferenceTimestamp("2025-12-02T14:10:00")
+                .predictions(List.of(predictions))
+                .build();
+    }
+
+    private static PredictionDto prediction(int timestep, List<PredictedCellDto> cells) {
+        return PredictionDto.builder()
+                .timestep(timestep)
+                .timestamp("2025-12-02T1" + (4 + timestep) + ":00:00")
+                .predictedCells(cells)
+                .build();
+    }
+
+    private static List<PredictedCellDto> grid(double originLat, double originLon, int size) {
+        List<PredictedCellDto> cells = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                cells.add(cell(originLat + row * LAT_STEP, originLon + col * LON_STEP, 0.5));
+            }
+        }
+        return cells;
+    }
+
+    private static PredictedCellDto cell(double lat, double lon, double probability) {
+        return PredictedCellDto.builder().lat(lat).lon(lon).probability(probability).build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.capstone25.WildFirePrediction.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// 고정 격자 셀 키 (행/열 계산, timestep 패킹, AI 셀 구분)
+class GridKeyTest {
+
+    @Test
+    @DisplayName("행/열은 원점 기준 셀 크기로 내림")
+    void floorsRowAndColumn() {
+        assertThat(GridKey.row(GridKey.ORIGIN_LAT)).isZero();
+        assertThat(GridKey.row(GridKey.ORIGIN_LAT + GridKey.CELL_LAT_DEG * 2.5)).isEqualTo(2);
+        assertThat(GridKey.row(GridKey.ORIGIN_LAT - GridKey.CELL_LAT_DEG * 0.5)).isEqualTo(-1);
+        assertThat(GridKey.col(GridKey.ORIGIN_LON + GridKey.CELL_LON_DEG * 7.9)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 셀 안의 좌표는 같은 키")
+    void sameCellSameKey() {
+        double lat = GridKey.ORIGIN_LAT + GridKey.CELL_LAT_DEG * 1000.1;
+        double lon = GridKey.ORIGIN_LON + GridKey.CELL_LON_DEG * 2000.1;
+
+        assertThat(GridKey.of(lat, lon))
+                .isEqualTo(GridKey.of(lat + GridKey.CELL_LAT_DEG * 0.8, lon + GridKey.CELL_LON_DEG * 0.8))
+                .isEqualTo(GridKey.pack(1000, 2000));
+    }
+
+    @Test
+    @DisplayName("timestep 키에서 timestep과 공간 키를 다시 꺼낼 수 있음")
+    void packsTimeStep() {
+        long spatialKey = GridKey.of(36.5684, 128.7294);
+        long key = GridKey.of(12, 36.5684, 128.7294);
+
+        assertThat(GridKey.timeStep(key)).isEqualTo(12);
+        assertThat(GridKey.spatialKey(key)).isEqualTo(spatialKey);
+        assertThat(GridKey.timeStep(spatialKey)).isZero();
+        assertThat(GridKey.withTimeStep(3, key)).isEqualTo(GridKey.of(3, 36.5684, 128.7294));
+        assertThat(GridKey.of(1, 36.5684, 128.7294)).isNotEqualTo(GridKey.of(2, 36.5684, 128.7294));
+    }
+
+    @Test
+    @DisplayName("375m 간격 AI 셀은 남부/북부 위도에서 모두 서로 다른 키")
+    void distinguishesAiCells() {
+        assertThat(distinctKeys(33.2, 126.5, 50)).isEqualTo(50 * 50);
+        assertThat(distinctKeys(36.5, 128.7, 50)).isEqualTo(50 * 50);
+        assertThat(distinctKeys(38.4, 128.4, 50)).isEqualTo(50 * 50);
+    }
+
+    @Test
+    @DisplayName("반경을 덮는 행/열 범위는 셀 경계 걸침을 고려해 +1")
+    void coversRadius() {
+        assertThat(GridKey.rowRadius(1.0)).isEqualTo(6);
+        assertThat(GridKey.rowRadius(0.1)).isEqualTo(1);
+        assertThat(GridKey.colRadius(36.0, 1.0)).isEqualTo(6);
+        // 북쪽일수록 경도 셀 폭이 좁아져 더 많은 열이 필요
+        assertThat(GridKey.colRadius(38.5, 1.0)).isGreaterThanOrEqualTo(GridKey.colRadius(33.5, 1.0));
+    }
+
+    // (lat, lon)부터 size x size 개의 375m 간격 셀에 대한 서로 다른 키 수
+    private static int distinctKeys(double lat, double lon, int size) {
+        double latStep = 0.375 / 111.32;
+        double lonStep = 0.375 / (111.32 * Math.cos(Math.toRadians(lat)));
+        Set<Long> keys = new HashSet<>();
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                keys.add(GridKey.of(lat + r * latStep, lon + c * lonStep));
+            }
+        }
+        return keys.size();
+    }
+}
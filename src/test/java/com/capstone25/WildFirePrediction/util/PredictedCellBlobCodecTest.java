@@ -0,0 +1,138 @@
+package com.capstone25.WildFirePrediction.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.capstone25.WildFirePrediction.dto.request.PredictedCellColumns;
+import java.io.ByteArrayOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// 예측 셀 압축 인코딩/디코딩 (v2 격자 인덱스 + 잔차, v1 하위 호환)
+class PredictedCellBlobCodecTest {
+
+    // AI 격자 375m 간격 (위도 / 36N 기준 경도)
+    private static final double AI_LAT_STEP = 0.375 / 111.32;
+    private static final double AI_LON_STEP = 0.375 / (111.32 * Math.cos(Math.toRadians(36.5)));
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 좌표는 1e-6도, 확률은 1e-5 이내로 복원")
+    void roundTrips() {
+        PredictedCellColumns cells = aiGrid(36.5, 128.7, 40, 40);
+
+        PredictedCellColumns decoded = PredictedCellBlobCodec.decode(PredictedCellBlobCodec.encode(cells));
+
+        // 행 우선으로 만든 격자라 디코딩 순서(격자 인덱스 오름차순)와 입력 순서가 같음
+        assertThat(decoded.size()).isEqualTo(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            assertThat(decoded.getLat(i)).isCloseTo(cells.getLat(i), within(1e-6));
+            assertThat(decoded.getLon(i)).isCloseTo(cells.getLon(i), within(1e-6));
+            assertThat(decoded.getProbability(i)).isCloseTo(cells.getProbability(i), within(1e-5));
+        }
+    }
+
+    @Test
+    @DisplayName("실수 좌표의 AI 격자도 셀당 8바이트 미만으로 인코딩")
+    void encodesCompactly() {
+        PredictedCellColumns cells = aiGrid(36.5, 128.7, 40, 40);
+
+        byte[] encoded = PredictedCellBlobCodec.encode(cells);
+
+        assertThat(encoded.length).isLessThan(16 + cells.size() * 8);
+    }
+
+    @Test
+    @DisplayName("같은 격자 셀의 중복은 첫 번째만 기록하고 count는 기록한 셀 수")
+    void dropsDuplicateCells() {
+        PredictedCellColumns cells = new PredictedCellColumns();
+        cells.add(36.5684, 128.7294, 0.8);
+        cells.add(36.5718, 128.7294, 0.6);
+        cells.add(36.5684, 128.7294, 0.3);
+
+        byte[] encoded = PredictedCellBlobCodec.encode(cells);
+        PredictedCellColumns decoded = PredictedCellBlobCodec.decode(encoded);
+
+        assertThat(PredictedCellBlobCodec.count(encoded)).isEqualTo(2).isEqualTo(decoded.size());
+        assertThat(decoded.getLat(0)).isCloseTo(36.5684, within(1e-6));
+        assertThat(decoded.getProbability(0)).isCloseTo(0.8, within(1e-5));
+    }
+
+    @Test
+    @DisplayName("빈 셀 목록도 인코딩/디코딩")
+    void handlesEmptyCells() {
+        byte[] encoded = PredictedCellBlobCodec.encode(new PredictedCellColumns());
+
+        assertThat(PredictedCellBlobCodec.count(encoded)).isZero();
+        assertThat(PredictedCellBlobCodec.decode(encoded)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 확률은 0~1로 제한")
+    void clampsProbability() {
+        PredictedCellColumns cells = new PredictedCellColumns();
+        cells.add(36.5684, 128.7294, 1.5);
+        cells.add(36.5718, 128.7294, -0.2);
+
+        PredictedCellColumns decoded = PredictedCellBlobCodec.decode(PredictedCellBlobCodec.encode(cells));
+
+        assertThat(decoded.getProbability(0)).isEqualTo(1.0);
+        assertThat(decoded.getProbability(1)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("v1 압축분도 디코딩")
+    void decodesV1() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(1);                           // version
+        writeVarLong(out, 2);                   // count
+        writeVarLong(out, 36_500_000L << 1);    // originLatE6 (zigzag)
+        writeVarLong(out, 128_700_000L << 1);   // originLonE6 (zigzag)
+        writeVarLong(out, 3369);                // latStepE6
+        writeVarLong(out, 4168);                // lonStepE6
+        writeVarLong(out, 2);                   // columns
+        writeVarLong(out, 0);                   // (0, 0)
+        out.write(0xFF);
+        out.write(0xFF);
+        writeVarLong(out, 3);                   // (1, 1)
+        out.write(0x00);
+        out.write(0x00);
+
+        PredictedCellColumns decoded = PredictedCellBlobCodec.decode(out.toByteArray());
+
+        assertThat(PredictedCellBlobCodec.count(out.toByteArray())).isEqualTo(2);
+        assertThat(decoded.size()).isEqualTo(2);
+        assertThat(decoded.getLat(0)).isCloseTo(36.5, within(1e-9));
+        assertThat(decoded.getProbability(0)).isEqualTo(1.0);
+        assertThat(decoded.getLat(1)).isCloseTo(36.503369, within(1e-9));
+        assertThat(decoded.getLon(1)).isCloseTo(128.704168, within(1e-9));
+        assertThat(decoded.getProbability(1)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전은 IllegalArgumentException")
+    void rejectsUnknownVersion() {
+        byte[] encoded = {9, 0};
+
+        assertThatThrownBy(() -> PredictedCellBlobCodec.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PredictedCellBlobCodec.count(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PredictedCellColumns aiGrid(double lat, double lon, int rows, int cols) {
+        PredictedCellColumns cells = new PredictedCellColumns(rows * cols);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                cells.add(lat + r * AI_LAT_STEP, lon + c * AI_LON_STEP, ((r * cols + c) % 100) / 100.0);
+            }
+        }
+        return cells;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}